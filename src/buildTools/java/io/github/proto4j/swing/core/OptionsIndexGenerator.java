@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing.core; //@date 18.10.2026
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * Generates the {@link OptionsIndex} of an options directory. This class is
+ * only part of the build and is not shipped with the library:
+ * <pre>
+ *     java io.github.proto4j.swing.core.OptionsIndexGenerator &lt;options-dir&gt; &lt;index-file&gt;
+ * </pre>
+ *
+ * @since 0.0.2
+ */
+public final class OptionsIndexGenerator {
+
+    private OptionsIndexGenerator() {}
+
+    /**
+     * Generates the index of the given options directory.
+     *
+     * @param args the options directory and the index file
+     * @throws IOException if an I/O error occurs
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: OptionsIndexGenerator <options-dir> <index-file>");
+            System.exit(1);
+        }
+
+        File index = new File(args[1]);
+        File parent = index.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Could not create " + parent);
+        }
+
+        Map<String, Map<String, String>> options = OptionsIndex.readDirectory(new File(args[0]));
+        try (OutputStream out = new FileOutputStream(index)) {
+            OptionsIndex.write(options, out);
+        }
+    }
+}
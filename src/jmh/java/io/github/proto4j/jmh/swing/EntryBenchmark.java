@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.jmh.swing; //@date 18.10.2026
+
+import io.github.proto4j.swing.Entry;
+import io.github.proto4j.swing.core.GUIBlueprint;
+import io.github.proto4j.swing.core.SwingLinker;
+import io.github.proto4j.swing.core.SwingReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the whole generation pipeline. The JMH source set is not
+ * processed by the GUIProcessor, so the reflective path is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntryBenchmark {
+
+    @Param({"small", "medium", "composite"})
+    public String gui;
+
+    private Class<Object> type;
+    private MethodHandle  newEntry;
+    private Entry<Object> built;
+
+    @Setup
+    public void setup() throws Exception {
+        //noinspection unchecked
+        type = (Class<Object>) SyntheticGUIs.of(gui);
+
+        // The default Entry implementation is not exported, but a fresh
+        // instance is needed to measure the SwingReader alone.
+        Class<?>       cls         = Class.forName("io.github.proto4j.swing.MapEntry");
+        Constructor<?> constructor = cls.getDeclaredConstructor(Class.class);
+        constructor.setAccessible(true);
+        newEntry = MethodHandles.lookup().unreflectConstructor(constructor)
+                                .asType(MethodType.methodType(Entry.class, Class.class));
+
+        built = Entry.of(type);
+    }
+
+    @Benchmark
+    public Entry<Object> entryOf() throws Exception {
+        return Entry.of(type);
+    }
+
+    @Benchmark
+    public Entry<Object> entryWrap() throws Exception {
+        return Entry.wrap(type.getDeclaredConstructor().newInstance());
+    }
+
+    @Benchmark
+    public Entry<Object> swingReaderRead() throws Throwable {
+        //noinspection unchecked
+        Entry<Object> entry = (Entry<Object>) newEntry.invokeExact(type);
+        try (SwingReader reader = new SwingReader()) {
+            reader.read(entry, new Object[0]);
+        }
+        return entry;
+    }
+
+    @Benchmark
+    public Entry<Object> swingLinkerReadEntry() throws Exception {
+        // Components are moved to their (same) target again
+        SwingLinker.readEntry(built, GUIBlueprint.of(type));
+        return built;
+    }
+
+    @Benchmark
+    public GUIBlueprint<Object> blueprint() {
+        // cached lookup
+        return GUIBlueprint.of(type);
+    }
+}
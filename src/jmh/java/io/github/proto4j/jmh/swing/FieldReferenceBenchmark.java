@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.jmh.swing; //@date 18.10.2026
+
+import io.github.proto4j.swing.FieldReference;
+import io.github.proto4j.swing.core.desc.ComponentDesc;
+import org.openjdk.jmh.annotations.*;
+
+import javax.swing.*;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link FieldReference#set(Object)} and
+ * {@link FieldReference#get()}, which write the linked field through a cached
+ * accessor. The former implementation disabled the access check and called
+ * {@link Field#set(Object, Object)} on every write, which is measured as the
+ * baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FieldReferenceBenchmark {
+
+    public static class Target {
+        private JButton button;
+    }
+
+    @State(Scope.Thread)
+    public static class References {
+        final Target  target = new Target();
+        final JButton value  = new JButton();
+
+        Field                   field;
+        FieldReference<JButton> reference;
+
+        @Setup
+        public void setup() throws Exception {
+            field     = Target.class.getDeclaredField("button");
+            reference = new FieldReference<>(1);
+            reference.setComponentDesc(ComponentDesc.createDesc(field, target));
+            reference.setParent(target);
+            reference.set(value);
+        }
+    }
+
+    @Benchmark
+    public Object fieldReferenceSet(References state) {
+        state.reference.set(state.value);
+        return state.target.button;
+    }
+
+    @Benchmark
+    public JButton fieldReferenceGet(References state) {
+        return state.reference.get();
+    }
+
+    @Benchmark
+    public Object reflectiveSet(References state) throws IllegalAccessException {
+        state.field.setAccessible(true);
+        state.field.set(state.target, state.value);
+        return state.target.button;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.jmh.swing; //@date 18.10.2026
+
+import io.github.proto4j.swing.FieldReference;
+import io.github.proto4j.swing.annotation.*;
+import io.github.proto4j.swing.core.SwingHandler;
+import io.github.proto4j.swing.core.desc.ComponentDesc;
+import org.openjdk.jmh.annotations.*;
+
+import javax.swing.*;
+import javax.swing.border.LineBorder;
+import java.awt.*;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks of each {@link SwingHandler}. Every invocation handles the
+ * annotation of a fresh {@link FieldReference}, so that no description is
+ * reused.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HandlerBenchmark {
+
+    @Param({"Layout", "Margin", "Model", "Bounds", "Option", "Position"})
+    public String annotation;
+
+    private SwingHandler         handler;
+    private AnnotationContext<?> context;
+    private Field                field;
+    private Holder               holder;
+    private Supplier<Component>  factory;
+
+    @Setup
+    public void setup() throws Exception {
+        @SuppressWarnings("unchecked")
+        Class<? extends Annotation> type = (Class<? extends Annotation>)
+                Class.forName(Option.class.getPackageName() + "." + annotation);
+
+        holder  = new Holder();
+        field   = Holder.class.getDeclaredField(annotation.toLowerCase());
+        context = AnnotationContext.exchange(type, field);
+        handler = SwingHandler.CACHE.getByKey(type);
+        factory = field.getType() == JComboBox.class ? JComboBox::new : JPanel::new;
+    }
+
+    @Benchmark
+    public FieldReference<Component> onElement() {
+        FieldReference<Component> ref = new FieldReference<>(1);
+        ref.setComponentDesc(ComponentDesc.createDesc(field, holder));
+        ref.setParent(holder);
+        ref.set(factory.get());
+
+        handler.onElement(ref, context);
+        return ref;
+    }
+
+    static final class Holder {
+        @Layout(value = GridLayout.class, rows = 2, columns = 2) JPanel layout;
+        @Margin(value = LineBorder.class, lineColor = "10,20,30", lineThickness = 2) JPanel margin;
+        @Model(DefaultComboBoxModel.class) JComboBox<?> model;
+        @Bounds(preferred = {100, 20}, min = {10, 10}) JPanel bounds;
+        @Option(text = "text", background = "10,20,30", enabled = false) JPanel option;
+        @Position(x = 10, y = 20) JPanel position;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.jmh.swing; //@date 18.10.2026
+
+import io.github.proto4j.swing.Entry;
+import io.github.proto4j.swing.FieldReference;
+import io.github.proto4j.swing.core.SwingLinker;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link SwingLinker#bind(FieldReference, FieldReference)} for
+ * the different target containers of {@link SyntheticGUIs.Medium}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LinkerBenchmark {
+
+    // field -> target: grid layout, flow layout, border layout
+    @Param({"a:header", "combo:content", "content:$this"})
+    public String binding;
+
+    private final SwingLinker linker = new SwingLinker();
+
+    private FieldReference<?> source;
+    private FieldReference<?> target;
+
+    @Setup
+    public void setup() throws Exception {
+        Entry<SyntheticGUIs.Medium> entry = Entry.of(SyntheticGUIs.Medium.class);
+
+        String[] names = binding.split(":");
+        source = entry.getDeclaredField(names[0]);
+        target = entry.getDeclaredField(names[1]);
+    }
+
+    @Benchmark
+    public FieldReference<?> bind() {
+        linker.bind(source, target);
+        return target;
+    }
+}
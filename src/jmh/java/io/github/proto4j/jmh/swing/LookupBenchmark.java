@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.jmh.swing; //@date 18.10.2026
+
+import io.github.proto4j.swing.annotation.Option;
+import io.github.proto4j.swing.core.GlobalDesc;
+import io.github.proto4j.swing.laf.DefaultLAFProvider;
+import io.github.proto4j.swing.laf.LAFProvider;
+import org.openjdk.jmh.annotations.*;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the small lookups executed for every component.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LookupBenchmark {
+
+    @State(Scope.Thread)
+    public static class Components {
+        @Param({"JButton", "JLabel", "JComboBox", "JPanel", "JTabbedPane"})
+        public String component;
+
+        LAFProvider provider;
+        Class<?>    type;
+
+        @Setup
+        public void setup() throws Exception {
+            provider = LAFProvider.getManager().getByKey(DefaultLAFProvider.class);
+            type     = Class.forName("javax.swing." + component);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Colors {
+        @Param({"10,20,30", "@Button.background", "black"})
+        public String color;
+    }
+
+    @State(Scope.Thread)
+    public static class Queries {
+        final JButton button = new JButton();
+    }
+
+    @Benchmark
+    public Component lafProviderGetComponent(Components state) {
+        return state.provider.getComponent(state.type);
+    }
+
+    @Benchmark
+    public String optionQueryGet(Queries state) {
+        return new Option.Query("@UIManager#OptionPane.okButtonText", state.button).get();
+    }
+
+    @Benchmark
+    public Color globalDescGetColor(Colors state) {
+        return GlobalDesc.getColor(state.color);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.jmh.swing; //@date 18.10.2026
+
+import io.github.proto4j.swing.annotation.*;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.border.TitledBorder;
+import java.awt.*;
+
+/**
+ * Synthetic GUIs of different sizes that are shared by all benchmarks.
+ */
+public final class SyntheticGUIs {
+
+    private SyntheticGUIs() {}
+
+    /**
+     * Returns the GUI class for the given benchmark parameter.
+     *
+     * @param name one of {@code small}, {@code medium} or {@code composite}
+     * @return the GUI class
+     */
+    public static Class<?> of(String name) {
+        switch (name) {
+            case "small":
+                return Small.class;
+            case "medium":
+                return Medium.class;
+            case "composite":
+                return Composite.class;
+            default:
+                throw new IllegalArgumentException("Unknown GUI: " + name);
+        }
+    }
+
+    // 4 components
+    @GUI
+    @Swing
+    @Layout(FlowLayout.class)
+    public static class Small extends JPanel {
+        @Swing(1) @Option(target = "$this", text = "label") private JLabel label;
+        @Swing(2) @Option(target = "$this", text = "ok") private JButton ok;
+        @Swing(3) @Option(target = "$this", text = "cancel") private JButton cancel;
+        @Swing(4) @Option(target = "$this") private JTextField input;
+    }
+
+    // 16 components using every handler
+    @GUI
+    @Swing
+    @Layout(BorderLayout.class)
+    public static class Medium extends JPanel {
+        @Swing(1) @Option(target = "$this") @Position(constraints = BorderLayout.NORTH)
+        @Layout(value = GridLayout.class, rows = 2, columns = 4)
+        private JPanel header;
+
+        @Swing(2) @Option(target = "header", text = "a", background = "10,20,30") private JButton a;
+        @Swing(3) @Option(target = "header", text = "b", foreground = "200,20,30") private JButton b;
+        @Swing(4) @Option(target = "header", text = "c", enabled = false) private JButton c;
+        @Swing(5) @Option(target = "header", text = "d") private JButton d;
+        @Swing(6) @Option(target = "header", text = "e") private JLabel e;
+        @Swing(7) @Option(target = "header", text = "f") private JLabel f;
+        @Swing(8) @Option(target = "header", text = "g") private JLabel g;
+        @Swing(9) @Option(target = "header", text = "h") private JLabel h;
+
+        @Swing(10) @Option(target = "$this") @Position(constraints = BorderLayout.CENTER)
+        @Layout(FlowLayout.class) @Margin(value = TitledBorder.class, title = "content")
+        private JPanel content;
+
+        @Swing(11) @Option(target = "content") @Model(DefaultComboBoxModel.class) private JComboBox<?> combo;
+        @Swing(12) @Option(target = "content") @Bounds(preferred = {120, 24}) private JTextField field;
+        @Swing(13) @Option(target = "content") @Bounds(preferred = {120, 24}) private JPasswordField password;
+        @Swing(14) @Option(target = "content") private JCheckBox check;
+
+        @Swing(15) @Option(target = "$this") @Position(constraints = BorderLayout.SOUTH)
+        @Layout(FlowLayout.class)
+        @Margin(value = EmptyBorder.class, emptyTop = 2, emptyLeft = 2, emptyBottom = 2, emptyRight = 2)
+        private JPanel footer;
+
+        @Swing(16) @Option(target = "footer", text = "@UIManager#OptionPane.okButtonText") private JButton okay;
+    }
+
+    // 4 nested medium GUIs and a tabbed pane with 2 nested small GUIs
+    @GUI
+    @Swing
+    @Layout(value = GridLayout.class, rows = 3, columns = 2)
+    public static class Composite extends JPanel {
+        @Swing(1) @Nested @Option(target = "$this") private Medium m1;
+        @Swing(2) @Nested @Option(target = "$this") private Medium m2;
+        @Swing(3) @Nested @Option(target = "$this") private Medium m3;
+        @Swing(4) @Nested @Option(target = "$this") private Medium m4;
+
+        @Swing(5) @Option(target = "$this") private JTabbedPane tabs;
+        @Swing(6) @Nested @Option(target = "tabs", title = "first") private Small s1;
+        @Swing(7) @Nested @Option(target = "tabs", title = "second") private Small s2;
+    }
+}
@@ -28,10 +28,14 @@ import io.github.proto4j.swing.annotation.ActionHandler;
 import io.github.proto4j.swing.annotation.AnnotationContext;
 import io.github.proto4j.swing.annotation.EntryPoint;
 import io.github.proto4j.swing.annotation.GUI;
+import io.github.proto4j.swing.core.SwingLinker;
+import io.github.proto4j.swing.jfr.EntryPointEvent;
 
 import java.lang.reflect.Method;
 import java.util.EventListener;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Future;
 
 /**
  * This class provides basic operations for the {@link Entry}.
@@ -47,6 +51,12 @@ public abstract class AbstractEntry<G> implements Entry<G> {
     // class object used to create the GUI's instance
     private final Class<G> type;
 
+    // background tasks owned by this entry (created lazily)
+    private volatile EntryTasks tasks;
+
+    // path index of the entry tree (built lazily)
+    private volatile PathIndex paths;
+
     /**
      * Create a new {@link AbstractEntry} object.
      *
@@ -97,7 +107,10 @@ public abstract class AbstractEntry<G> implements Entry<G> {
             if (m.isAnnotationPresent(EntryPoint.class)) {
                 try {
                     m.setAccessible(true);
+                    EntryPointEvent event = new EntryPointEvent();
+                    event.begin();
                     m.invoke(instance, args);
+                    event.report(m, m.getName(), EntryPoint.class);
                 } catch (ReflectiveOperationException e) {
                     // ignore that
                 }
@@ -156,21 +169,115 @@ public abstract class AbstractEntry<G> implements Entry<G> {
             return false;
         }
         try {
-            Object component = ref.get();
-            String name = "add" + cls.getSimpleName();
-
-            Method targetMethod =
-                    component.getClass().getMethod(name, cls);
-
-            targetMethod.setAccessible(true);
-            targetMethod.invoke(component, listener);
-            ref.addEventListener(listener);
+            addListener(ref, cls, listener);
             return true;
-        } catch (ReflectiveOperationException e) {
+        } catch (IllegalStateException e) {
             return false;
         }
     }
 
+    /**
+     * Returns the field reference mapped to the given dotted path. The
+     * {@link PathIndex} of this entry tree is built on the first call; paths
+     * that were added to nested entries afterwards are still found by
+     * walking the tree.
+     *
+     * @param path the dotted path
+     * @return the field reference or {@code null} if the path does not exist
+     * @throws NullPointerException if the given path is {@code null}
+     * @since 0.0.2
+     */
+    @Override
+    public FieldReference<?> find(String path) throws NullPointerException {
+        Objects.requireNonNull(path);
+
+        FieldReference<?> ref = getPaths().find(path);
+        if (ref == null) {
+            ref = PathIndex.walk(this, path);
+            if (ref != null) {
+                // the tree has changed since the index was built
+                invalidatePaths();
+            }
+        }
+        return ref;
+    }
+
+    /**
+     * Returns all fields whose dotted path equals the given prefix or is
+     * located below it (see {@link PathIndex#findAll(String)}).
+     *
+     * @param prefix the path prefix; an empty string for all fields
+     * @return an unmodifiable map of the matching paths in their natural order
+     * @throws NullPointerException if the given prefix is {@code null}
+     * @since 0.0.2
+     */
+    @Override
+    public Map<String, FieldReference<?>> findAll(String prefix) throws NullPointerException {
+        return getPaths().findAll(prefix);
+    }
+
+    /**
+     * Discards the path index of this entry, so that it is built again on the
+     * next lookup. Implementations call this method whenever a field or a
+     * nested GUI was added.
+     *
+     * @since 0.0.2
+     */
+    protected void invalidatePaths() {
+        paths = null;
+    }
+
+    private PathIndex getPaths() {
+        PathIndex current = paths;
+        if (current == null) {
+            current = paths = PathIndex.of(this);
+        }
+        return current;
+    }
+
+    /**
+     * Executes the given {@link Task} in the background. See
+     * {@link Entry#submit(Task)} for details.
+     *
+     * @param task the task to execute
+     * @param <V> the result type
+     * @param <P> the type of intermediate results
+     * @return a future that can be used to cancel the task
+     * @throws NullPointerException if the given task is {@code null}
+     * @since 0.0.2
+     */
+    @Override
+    public <V, P> Future<V> submit(Task<V, P> task) throws NullPointerException {
+        Objects.requireNonNull(task);
+        return getTasks().submit(task);
+    }
+
+    /**
+     * Cancels all queued and running tasks submitted to this entry.
+     *
+     * @since 0.0.2
+     */
+    @Override
+    public void cancelTasks() {
+        EntryTasks current = tasks;
+        if (current != null) {
+            current.cancelAll();
+        }
+    }
+
+    private EntryTasks getTasks() {
+        EntryTasks current = tasks;
+        if (current == null) {
+            synchronized (this) {
+                current = tasks;
+                if (current == null) {
+                    current = tasks = new EntryTasks(this);
+                }
+            }
+        }
+        return current;
+    }
+
     protected void addListener(Object listener, AnnotationContext<ActionHandler> ctx) {
         String[] targets = ctx.annotationValue().value();
 
@@ -181,22 +288,12 @@ public abstract class AbstractEntry<G> implements Entry<G> {
                     continue;
                 }
 
-                Object component = ref.get();
                 try {
-                    String name = "add"
-                            + ctx.annotationValue().type().getSimpleName();
                     Class<? extends EventListener> type =
                             ctx.annotationValue().type();
 
-                    Method targetMethod =
-                            component.getClass().getMethod(name, type);
-
-                    targetMethod.setAccessible(true);
-
-                    EventListener el = type.cast(listener);
-                    targetMethod.invoke(component, el);
-                    ref.addEventListener(el);
-                } catch (ReflectiveOperationException e) {
+                    addListener(ref, type, type.cast(listener));
+                } catch (IllegalStateException e) {
                     e.printStackTrace();
                     // ignore errors
                 }
@@ -204,4 +301,33 @@ public abstract class AbstractEntry<G> implements Entry<G> {
         }
     }
 
+    // Adds the listener to the component of the given reference and records
+    // it afterwards. Lazy components are not created just to add a listener,
+    // so the listener type is checked against their component type first.
+    private static void addListener(FieldReference<?> ref, Class<? extends EventListener> type,
+                                    EventListener listener) throws IllegalStateException {
+        if (!ref.isInitialized()) {
+            Class<?> componentType = ref.getDescription().getComponentType();
+            if (componentType == null || !ListenerRegistrars.supports(componentType, type)) {
+                throw new IllegalStateException("Could not add a " + type.getName()
+                        + " to '" + ref.getDescription().getFieldName() + "'");
+            }
+        }
+        SwingLinker.whenCreated(ref, () -> {
+            register(ref, type, listener);
+            ref.addEventListener(listener);
+        });
+    }
+
+    // Adds the listener to the created component of the given reference.
+    // Lazy components call this method after they were created.
+    private static void register(FieldReference<?> ref, Class<? extends EventListener> type,
+                                 EventListener listener) {
+        try {
+            ListenerRegistrars.add(ref.get(), type, listener);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
 }
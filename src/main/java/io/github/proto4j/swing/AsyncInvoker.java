@@ -0,0 +1,243 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing; //@date 18.10.2026
+
+import io.github.proto4j.swing.annotation.ActionHandler;
+
+import java.awt.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Runs an {@link ActionHandler} method outside the event dispatch thread and
+ * delivers its result to an optional callback method on the event dispatch
+ * thread.
+ * <p>
+ * Handlers are executed by the {@link BackgroundThreads#EXECUTOR}, on virtual
+ * threads if the runtime provides them. Invocations exceeding the
+ * {@link ActionHandler#maxConcurrency()} are queued without occupying a
+ * thread, like the tasks of an {@link EntryTasks} instance.
+ *
+ * @see ActionHandler#async()
+ * @since 0.0.2
+ */
+final class AsyncInvoker {
+
+    private static final MethodType CALLBACK_TYPE =
+            MethodType.methodType(void.class, Object.class, Throwable.class);
+
+    private final ListenerFactory.Handler handler;
+
+    // (Object, Throwable)void; null if there is no callback
+    private final MethodHandle callback;
+    // whether the callback receives the exception of the handler
+    private final boolean      callbackHandlesErrors;
+    // 0 if the concurrency is unlimited
+    private final int          maxConcurrency;
+    private final boolean      cancelPrevious;
+
+    // guarded by this
+    private final Deque<FutureTask<?>> queue = new ArrayDeque<>();
+    private int       running;
+    private Future<?> current;
+    private long      generation;
+
+    private AsyncInvoker(ListenerFactory.Handler handler, MethodHandle callback,
+                         boolean callbackHandlesErrors, ActionHandler options) {
+        this.handler               = handler;
+        this.callback              = callback;
+        this.callbackHandlesErrors = callbackHandlesErrors;
+        this.maxConcurrency        = Math.max(0, options.maxConcurrency());
+        this.cancelPrevious        = options.cancelPrevious();
+    }
+
+    /**
+     * Creates a new invoker for the given handler if its options request an
+     * asynchronous execution.
+     *
+     * @param handler the handler to call
+     * @param method the handler method
+     * @param parent the declaring object; {@code null} for static methods
+     * @param options the handler's options; may be {@code null}
+     * @return the new invoker or {@code null} if the handler should be called
+     *         directly
+     * @throws IllegalArgumentException if the callback method could not be
+     *                                  found
+     */
+    static AsyncInvoker of(ListenerFactory.Handler handler, Method method, Object parent,
+                           ActionHandler options) throws IllegalArgumentException {
+        if (options == null || !options.async()) {
+            return null;
+        }
+
+        String name = options.callback();
+        if (name.isEmpty()) {
+            return new AsyncInvoker(handler, null, false, options);
+        }
+
+        for (Method m : method.getDeclaringClass().getDeclaredMethods()) {
+            if (m.getName().equals(name) && m.getParameterCount() <= 2) {
+                MethodHandle callback = compileCallback(m, parent);
+                if (callback != null) {
+                    return new AsyncInvoker(handler, callback, m.getParameterCount() == 2, options);
+                }
+            }
+        }
+        throw new IllegalArgumentException("callback not found: " + name);
+    }
+
+    private static MethodHandle compileCallback(Method method, Object parent) {
+        Class<?>[] types = method.getParameterTypes();
+        if (types.length == 2 && !types[1].isAssignableFrom(Throwable.class)) {
+            return null;
+        }
+
+        MethodHandle handle;
+        try {
+            method.setAccessible(true);
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (RuntimeException | IllegalAccessException e) {
+            return null;
+        }
+
+        if (!Modifier.isStatic(method.getModifiers())) {
+            if (!method.getDeclaringClass().isInstance(parent)) {
+                return null;
+            }
+            handle = handle.bindTo(parent);
+        }
+        // callback(), callback(result) and callback(result, error)
+        handle = MethodHandles.dropArguments(handle, types.length,
+                                             CALLBACK_TYPE.parameterList().subList(types.length, 2));
+        return handle.asType(CALLBACK_TYPE);
+    }
+
+    /**
+     * Submits a new invocation of the handler. It is queued if the
+     * {@link ActionHandler#maxConcurrency()} is reached. A still queued or
+     * running invocation is cancelled if {@link ActionHandler#cancelPrevious()}
+     * is set.
+     *
+     * @param event the received event
+     */
+    void submit(Object event) {
+        FutureTask<?> task;
+        synchronized (this) {
+            long id = ++generation;
+            if (cancelPrevious && current != null) {
+                current.cancel(true);
+                queue.remove(current);
+            }
+            task    = new FutureTask<>(() -> run(event, id), null);
+            current = task;
+            if (maxConcurrency > 0 && running >= maxConcurrency) {
+                queue.add(task);
+                return;
+            }
+            running++;
+        }
+        execute(task);
+    }
+
+    private void execute(FutureTask<?> task) {
+        BackgroundThreads.EXECUTOR.execute(() -> {
+            try {
+                task.run();
+            } finally {
+                next();
+            }
+        });
+    }
+
+    private void next() {
+        FutureTask<?> task;
+        synchronized (this) {
+            task = queue.poll();
+            if (task == null) {
+                running--;
+                return;
+            }
+        }
+        execute(task);
+    }
+
+    private synchronized boolean isSuperseded(long id) {
+        return cancelPrevious && id != generation;
+    }
+
+    private void run(Object event, long id) {
+        Object    result = null;
+        Throwable error  = null;
+        try {
+            result = handler.apply(event);
+        } catch (Throwable t) {
+            error = t;
+        }
+
+        if (isSuperseded(id)) {
+            return;
+        }
+        deliver(result, error, id);
+    }
+
+    private void deliver(Object result, Throwable error, long id) {
+        if (callback == null && error == null) {
+            return;
+        }
+
+        EventQueue.invokeLater(() -> {
+            if (isSuperseded(id)) {
+                return;
+            }
+            if (error != null && !callbackHandlesErrors) {
+                // report it like an exception thrown by a synchronous handler
+                throw wrap(error);
+            }
+
+            try {
+                callback.invokeExact(result, error);
+            } catch (Throwable t) {
+                throw wrap(t);
+            }
+        });
+    }
+
+    private static RuntimeException wrap(Throwable t) {
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return t instanceof RuntimeException
+                ? (RuntimeException) t
+                : new UndeclaredThrowableException(t);
+    }
+}
@@ -26,13 +26,23 @@ package io.github.proto4j.swing;//@date 06.09.2022
 
 import io.github.proto4j.swing.annotation.ActionHandler;
 import io.github.proto4j.swing.annotation.EntryPoint;
+import io.github.proto4j.swing.core.BuildMetrics;
+import io.github.proto4j.swing.core.GUIBinder;
+import io.github.proto4j.swing.core.GUIBlueprint;
 import io.github.proto4j.swing.core.SwingReader;
 import io.github.proto4j.swing.core.SwingLinker;
 
+import java.awt.*;
 import java.nio.channels.AlreadyBoundException;
 import java.util.EventListener;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 /**
  * The base class for objects that store generated information about a GUI.
@@ -66,6 +76,12 @@ public interface Entry<G> {
      * <p>
      * It is also possible to provide constructor arguments for the given GUI
      * class. They will be used to create an object of type {@code <R>}.
+     * <p>
+     * If a {@link GUIBinder} was generated for the given class at compile
+     * time, it will be used instead of the reflective {@link SwingReader}.
+     * The timings of the generation are reported to all registered
+     * {@link io.github.proto4j.swing.core.EntryBuildListener}s (see
+     * {@link BuildMetrics}).
      *
      * @param cls the GUI's class
      * @param args the constructor arguments
@@ -76,14 +92,88 @@ public interface Entry<G> {
     public static <R> Entry<R> of(Class<R> cls, Object... args) throws Exception {
         Objects.requireNonNull(cls);
 
-        Entry<R> entry = new MapEntry<>(cls);
-        try (SwingReader reader = new SwingReader()) {
-            reader.read(entry, args);
-            SwingLinker.readEntry(entry);
+        Entry<R>     entry   = new MapEntry<>(cls);
+        BuildMetrics metrics = BuildMetrics.begin(cls);
+        GUIBinder<R> binder  = GUIBinder.lookup(cls);
+        if (binder != null) {
+            binder.bind(entry, args, metrics);
+        } else {
+            try (SwingReader reader = new SwingReader(metrics)) {
+                reader.read(entry, args);
+                SwingLinker.readEntry(entry, GUIBlueprint.of(cls), metrics);
+            }
         }
+        BuildMetrics.complete(metrics);
         return entry;
     }
 
+    /**
+     * Generates a new GUI from the given class on the event dispatch thread
+     * after preparing it in the background. Everything that does not depend
+     * on a component instance is resolved on the
+     * {@link ForkJoinPool#commonPool()} first (see
+     * {@link GUIBlueprint#preload(Class)}). Afterwards, the GUI is created
+     * and linked by {@link #of(Class, Object...)} in a single
+     * {@link EventQueue#invokeLater(Runnable)} step.
+     * <p>
+     * Swing components may only be created on the event dispatch thread, so
+     * only the preparation runs in the background: the final step still
+     * blocks the event dispatch thread while the components are created, but
+     * no longer includes the reflection and class loading of the first
+     * generation.
+     *
+     * @param cls the GUI's class
+     * @param args the constructor arguments
+     * @param <R> the GUI type
+     * @return a future that is completed with the new GUI on the event
+     *         dispatch thread
+     * @throws NullPointerException if the given class is {@code null}
+     * @since 0.0.2
+     */
+    public static <R> CompletableFuture<Entry<R>> ofLater(Class<R> cls, Object... args)
+            throws NullPointerException {
+        return ofLater(ForkJoinPool.commonPool(), cls, args);
+    }
+
+    /**
+     * Generates a new GUI from the given class like {@link #ofLater(Class, Object...)},
+     * but prepares the GUI on the given {@link Executor}.
+     *
+     * @param executor the executor used to prepare the GUI class
+     * @param cls the GUI's class
+     * @param args the constructor arguments
+     * @param <R> the GUI type
+     * @return a future that is completed with the new GUI on the event
+     *         dispatch thread
+     * @throws NullPointerException if the given class or executor is {@code null}
+     * @since 0.0.2
+     */
+    public static <R> CompletableFuture<Entry<R>> ofLater(Executor executor, Class<R> cls, Object... args)
+            throws NullPointerException {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(cls);
+
+        CompletableFuture<Entry<R>> future = new CompletableFuture<>();
+        CompletableFuture.runAsync(() -> GUIBlueprint.preload(cls), executor)
+                         .whenComplete((ignored, error) -> {
+                             if (error != null) {
+                                 future.completeExceptionally(error instanceof CompletionException
+                                                              ? error.getCause() : error);
+                                 return;
+                             }
+
+                             // All components are created on the event dispatch thread
+                             EventQueue.invokeLater(() -> {
+                                 try {
+                                     future.complete(of(cls, args));
+                                 } catch (Throwable t) {
+                                     future.completeExceptionally(t);
+                                 }
+                             });
+                         });
+        return future;
+    }
+
     /**
      * Generates a new GUI from the given object. This method provides the
      * internal implementation of the {@link Entry} interface. It can be
@@ -94,7 +184,8 @@ public interface Entry<G> {
      * field reference objects.
      * <p>
      * Use this method to generate GUI components at runtime while the actual
-     * GUI component was created before calling {@code wrap}.
+     * GUI component was created before calling {@code wrap}. A generated
+     * {@link GUIBinder} is used if present.
      *
      * @param obj the GUI instance
      * @param <R> the GUI type
@@ -104,11 +195,18 @@ public interface Entry<G> {
     public static <R> Entry<R> wrap(R obj) throws Exception {
         Objects.requireNonNull(obj);
 
-        Entry<R> entry = new MapEntry<>(obj);
-        try (SwingReader reader = new SwingReader()) {
-            reader.read(entry, new Object[0]);
-            SwingLinker.readEntry(entry);
+        Entry<R>     entry   = new MapEntry<>(obj);
+        BuildMetrics metrics = BuildMetrics.begin(entry.getType());
+        GUIBinder<R> binder  = GUIBinder.lookup(entry.getType());
+        if (binder != null) {
+            binder.bind(entry, new Object[0], metrics);
+        } else {
+            try (SwingReader reader = new SwingReader(metrics)) {
+                reader.read(entry, new Object[0]);
+                SwingLinker.readEntry(entry, GUIBlueprint.of(entry.getType()), metrics);
+            }
         }
+        BuildMetrics.complete(metrics);
         return entry;
     }
 
@@ -247,4 +345,64 @@ public interface Entry<G> {
      * @return {@code true} if the listener has been added successfully
      */
     public <T extends EventListener> boolean linkAction(String fieldName, Class<T> cls, T listener);
+
+    /**
+     * Returns the field reference mapped to the given dotted path. Names of
+     * nested GUI fields are separated by a {@code .}, e.g.
+     * {@code settings.network.proxyHost} (see {@link PathIndex}).
+     * <p>
+     * This default implementation walks the nested entries step by step.
+     *
+     * @param path the dotted path
+     * @return the field reference or {@code null} if the path does not exist
+     * @throws NullPointerException if the given path is {@code null}
+     * @since 0.0.2
+     */
+    public default FieldReference<?> find(String path) throws NullPointerException {
+        return PathIndex.walk(this, path);
+    }
+
+    /**
+     * Returns all fields whose dotted path equals the given prefix or is
+     * located below it (see {@link PathIndex#findAll(String)}).
+     *
+     * @param prefix the path prefix; an empty string for all fields
+     * @return an unmodifiable map of the matching paths in their natural order
+     * @throws NullPointerException if the given prefix is {@code null}
+     * @since 0.0.2
+     */
+    public default Map<String, FieldReference<?>> findAll(String prefix) throws NullPointerException {
+        return PathIndex.of(this).findAll(prefix);
+    }
+
+    /**
+     * Executes the given {@link Task} in the background. The task is owned by
+     * this entry: it is cancelled when the window of this GUI is disposed or
+     * {@link #cancelTasks()} is called. Only a limited number of tasks per
+     * entry run at the same time (system property
+     * {@code proto4j.swing.tasks.concurrency}, default {@code 4}); further
+     * tasks are queued.
+     *
+     * @param task the task to execute
+     * @param <V> the result type
+     * @param <P> the type of intermediate results
+     * @return a future that can be used to cancel the task or wait for its
+     *         result
+     * @throws NullPointerException          if the given task is {@code null}
+     * @throws UnsupportedOperationException if this entry does not support
+     *                                       background tasks
+     * @since 0.0.2
+     */
+    public default <V, P> Future<V> submit(Task<V, P> task)
+            throws NullPointerException, UnsupportedOperationException {
+        throw new UnsupportedOperationException("submit");
+    }
+
+    /**
+     * Cancels all queued and running tasks submitted to this entry.
+     *
+     * @since 0.0.2
+     */
+    public default void cancelTasks() {
+    }
 }
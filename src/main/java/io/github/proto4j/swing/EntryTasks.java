@@ -0,0 +1,292 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing; //@date 18.10.2026
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * The background tasks owned by a single {@link Entry}.
+ * <p>
+ * At most {@link #getMaxConcurrency()} tasks of an entry run at the same time;
+ * further tasks are queued without occupying a thread, so one window can not
+ * starve the others. All outstanding tasks are cancelled when the window of
+ * the entry is disposed, or when {@link #cancelAll()} is called.
+ *
+ * @see Entry#submit(Task)
+ * @since 0.0.2
+ */
+final class EntryTasks {
+
+    /**
+     * The system property defining the amount of tasks of a single entry that
+     * may run at the same time.
+     */
+    static final String CONCURRENCY_PROPERTY = "proto4j.swing.tasks.concurrency";
+
+    /**
+     * The concurrency that is used if no property value was defined.
+     */
+    static final int DEFAULT_CONCURRENCY = 4;
+
+    private final Entry<?> entry;
+    private final int      maxConcurrency;
+
+    private final Set<TaskFuture<?, ?>> outstanding = ConcurrentHashMap.newKeySet();
+
+    // guarded by this
+    private final Deque<TaskFuture<?, ?>> queue = new ArrayDeque<>();
+    private int     running;
+    private boolean windowBound;
+
+    EntryTasks(Entry<?> entry) {
+        this.entry          = Objects.requireNonNull(entry);
+        this.maxConcurrency = Math.max(1, Integer.getInteger(CONCURRENCY_PROPERTY, DEFAULT_CONCURRENCY));
+    }
+
+    /**
+     * @return the amount of tasks that may run at the same time
+     */
+    int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Submits the given task. It is executed as soon as less than
+     * {@link #getMaxConcurrency()} tasks of this entry are running.
+     *
+     * @param task the task to execute
+     * @param <V> the result type
+     * @param <P> the type of intermediate results
+     * @return a future that can be used to cancel the task
+     */
+    <V, P> Future<V> submit(Task<V, P> task) {
+        Objects.requireNonNull(task);
+        bindWindow();
+
+        TaskFuture<V, P> future = new TaskFuture<>(new TaskCall<>(task));
+        outstanding.add(future);
+        synchronized (this) {
+            if (running >= maxConcurrency) {
+                queue.add(future);
+                return future;
+            }
+            running++;
+        }
+        execute(future);
+        return future;
+    }
+
+    /**
+     * Cancels all queued and running tasks of this entry.
+     */
+    void cancelAll() {
+        synchronized (this) {
+            queue.clear();
+        }
+        for (TaskFuture<?, ?> future : new ArrayList<>(outstanding)) {
+            future.cancel(true);
+        }
+    }
+
+    private void execute(TaskFuture<?, ?> future) {
+        BackgroundThreads.EXECUTOR.execute(() -> {
+            try {
+                future.run();
+            } finally {
+                next();
+            }
+        });
+    }
+
+    private void next() {
+        TaskFuture<?, ?> future;
+        synchronized (this) {
+            future = queue.poll();
+            if (future == null) {
+                running--;
+                return;
+            }
+        }
+        execute(future);
+    }
+
+    private void bindWindow() {
+        synchronized (this) {
+            if (windowBound) {
+                return;
+            }
+        }
+
+        Window window = findWindow();
+        if (window == null) {
+            // the window may not exist yet, so try again on the next task
+            return;
+        }
+
+        synchronized (this) {
+            if (windowBound) {
+                return;
+            }
+            windowBound = true;
+        }
+        window.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                cancelAll();
+            }
+        });
+    }
+
+    private Window findWindow() {
+        Object gui = entry.getGUI();
+        if (gui instanceof Window) {
+            return (Window) gui;
+        }
+        if (gui instanceof Component) {
+            Window window = SwingUtilities.getWindowAncestor((Component) gui);
+            if (window != null) {
+                return window;
+            }
+        }
+
+        for (FieldReference<?> ref : entry.getDeclaredFields()) {
+            Class<?> type = ref.getType();
+            // lazy components are never created here
+            if (type != null && Window.class.isAssignableFrom(type) && ref.isInitialized()) {
+                return (Window) ref.get();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Executes the task and collects its intermediate results, which are
+     * passed to the task on the event dispatch thread in batches.
+     */
+    private static final class TaskCall<V, P> implements Callable<V>, Task.Context<P> {
+
+        private final Task<V, P> task;
+
+        // guarded by chunks
+        private final List<P> chunks = new ArrayList<>();
+        private boolean       flushQueued;
+
+        private volatile Future<V> future;
+
+        TaskCall(Task<V, P> task) {
+            this.task = task;
+        }
+
+        @Override
+        public V call() throws Exception {
+            return task.call(this);
+        }
+
+        @Override
+        public void publish(P chunk) {
+            if (isCancelled()) {
+                return;
+            }
+
+            synchronized (chunks) {
+                chunks.add(chunk);
+                if (flushQueued) {
+                    return;
+                }
+                flushQueued = true;
+            }
+            EventQueue.invokeLater(this::flush);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            Future<V> current = future;
+            return current != null && current.isCancelled();
+        }
+
+        private void flush() {
+            List<P> batch;
+            synchronized (chunks) {
+                flushQueued = false;
+                if (chunks.isEmpty()) {
+                    return;
+                }
+                batch = new ArrayList<>(chunks);
+                chunks.clear();
+            }
+            if (!isCancelled()) {
+                task.process(Collections.unmodifiableList(batch));
+            }
+        }
+    }
+
+    private final class TaskFuture<V, P> extends FutureTask<V> {
+
+        private final TaskCall<V, P> call;
+
+        TaskFuture(TaskCall<V, P> call) {
+            super(call);
+            this.call = call;
+            call.future = this;
+        }
+
+        @Override
+        protected void done() {
+            outstanding.remove(this);
+            EventQueue.invokeLater(() -> {
+                V         result = null;
+                Throwable error  = null;
+                try {
+                    result = get();
+                } catch (ExecutionException e) {
+                    error = e.getCause();
+                } catch (CancellationException e) {
+                    error = e;
+                } catch (InterruptedException e) {
+                    // not possible, the task is done
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                call.task.done(result, error);
+            });
+        }
+    }
+}
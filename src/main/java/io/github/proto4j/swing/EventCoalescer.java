@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing; //@date 18.10.2026
+
+import io.github.proto4j.swing.annotation.ActionHandler;
+
+import java.awt.*;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collapses bursts of events into one invocation of an {@link ActionHandler}
+ * method on the event dispatch thread.
+ * <p>
+ * Debounced and throttled handlers share a single scheduler thread, which
+ * only posts the pending invocation to the event dispatch thread. No
+ * {@code javax.swing.Timer} is created per listener.
+ *
+ * @see ActionHandler#coalesce()
+ * @see ActionHandler#debounceMillis()
+ * @see ActionHandler#throttleMillis()
+ * @since 0.0.2
+ */
+final class EventCoalescer {
+
+    private final ListenerFactory.Handler handler;
+
+    private final long    debounceMillis;
+    private final long    throttleNanos;
+    private final boolean latestOnly;
+
+    // guarded by this
+    private Object             pending;
+    private boolean            hasPending;
+    private boolean            flushQueued;
+    private ScheduledFuture<?> timer;
+    private long               lastRun;
+
+    private EventCoalescer(ListenerFactory.Handler handler, ActionHandler options) {
+        this.handler        = handler;
+        this.debounceMillis = Math.max(0, options.debounceMillis());
+        this.throttleNanos  = debounceMillis > 0 ? 0
+                : TimeUnit.MILLISECONDS.toNanos(Math.max(0, options.throttleMillis()));
+        this.latestOnly     = options.latestOnly();
+        this.lastRun        = System.nanoTime() - throttleNanos;
+    }
+
+    /**
+     * Creates a new coalescer for the given handler if any of the given
+     * options requires one.
+     *
+     * @param handler the handler to call
+     * @param options the handler's options; may be {@code null}
+     * @return the new coalescer or {@code null} if events should be passed
+     *         to the handler directly
+     */
+    static EventCoalescer of(ListenerFactory.Handler handler, ActionHandler options) {
+        if (options == null || !(options.coalesce()
+                || options.debounceMillis() > 0 || options.throttleMillis() > 0)) {
+            return null;
+        }
+        return new EventCoalescer(handler, options);
+    }
+
+    /**
+     * Records the given event and schedules the handler invocation.
+     *
+     * @param event the received event
+     */
+    synchronized void offer(Object event) {
+        if (!hasPending || latestOnly) {
+            pending = event;
+        }
+        hasPending = true;
+
+        if (debounceMillis > 0) {
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            timer = Scheduler.INSTANCE.schedule(this::post, debounceMillis, TimeUnit.MILLISECONDS);
+        } else if (throttleNanos > 0) {
+            if (timer == null) {
+                long wait = lastRun + throttleNanos - System.nanoTime();
+                if (wait > 0) {
+                    timer = Scheduler.INSTANCE.schedule(this::post, wait, TimeUnit.NANOSECONDS);
+                } else {
+                    post();
+                }
+            }
+        } else {
+            post();
+        }
+    }
+
+    private synchronized void post() {
+        timer = null;
+        if (!flushQueued) {
+            flushQueued = true;
+            EventQueue.invokeLater(this::flush);
+        }
+    }
+
+    private void flush() {
+        Object event;
+        synchronized (this) {
+            flushQueued = false;
+            if (!hasPending) {
+                return;
+            }
+            event      = pending;
+            pending    = null;
+            hasPending = false;
+            lastRun    = System.nanoTime();
+        }
+
+        try {
+            handler.call(event);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    private static final class Scheduler {
+        static final ScheduledThreadPoolExecutor INSTANCE;
+
+        static {
+            INSTANCE = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                thread.setName("proto4j-swing-coalescer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            INSTANCE.setRemoveOnCancelPolicy(true);
+        }
+    }
+}
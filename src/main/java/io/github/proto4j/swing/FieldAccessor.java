@@ -0,0 +1,235 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing; //@date 18.10.2026
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides read and write access to a field through a prebuilt
+ * {@link MethodHandle} pair. Accessors created by the library are cached per
+ * declaring class, so the access check of the underlying {@link Field} is
+ * disabled only once. Other callers create accessors with their own
+ * {@link MethodHandles.Lookup}.
+ * <p>
+ * This class is thread-safe: multiple threads can share a single
+ * FieldAccessor object without the need for external synchronization.
+ *
+ * @see FieldReference
+ * @since 0.0.2
+ */
+public final class FieldAccessor {
+
+    // The accessors of each class mapped to their field names
+    private static final ClassValue<Map<String, FieldAccessor>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, FieldAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * The field's name
+     */
+    private final String name;
+
+    /**
+     * The getter of type {@code (Object)Object}
+     */
+    private final MethodHandle getter;
+
+    /**
+     * The setter of type {@code (Object,Object)void} or {@code null} if the
+     * field is read-only
+     */
+    private final MethodHandle setter;
+
+    private FieldAccessor(Field field) throws IllegalAccessException {
+        if (Modifier.isStatic(field.getModifiers())) {
+            throw new IllegalArgumentException("static fields are not supported");
+        }
+
+        // Setters of final fields can only be created with the access check
+        // disabled.
+        field.setAccessible(true);
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        this.name   = field.getName();
+        this.getter = lookup.unreflectGetter(field).asType(GETTER);
+        this.setter = lookup.unreflectSetter(field).asType(SETTER);
+    }
+
+    private FieldAccessor(String name, MethodHandle getter, MethodHandle setter) {
+        this.name   = name;
+        this.getter = getter.asType(GETTER);
+        this.setter = setter == null ? null : setter.asType(SETTER);
+    }
+
+    /**
+     * Creates an accessor from the given method handles. This method is
+     * used by generated {@code GUIBinder}s, which access their fields
+     * directly.
+     *
+     * @param name the field's name
+     * @param getter a handle reading the field from the given object
+     * @param setter a handle writing the field or {@code null} if the field
+     *         is read-only
+     * @return a new accessor
+     * @throws NullPointerException if the name or getter is {@code null}
+     * @throws WrongMethodTypeException if a handle can not be adapted to
+     *         {@code (Object)Object} or {@code (Object,Object)void}
+     * @since 0.0.2
+     */
+    public static FieldAccessor of(String name, MethodHandle getter, MethodHandle setter)
+            throws NullPointerException, WrongMethodTypeException {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(getter);
+        return new FieldAccessor(name, getter, setter);
+    }
+
+    /**
+     * Creates an accessor for the given field with the access rights of the
+     * given lookup. The access check of the field is not disabled, so the
+     * lookup must be able to access the field itself. Setters of final fields
+     * are not available through this method, the returned accessor is
+     * read-only for them.
+     *
+     * @param lookup the caller's lookup
+     * @param field the instance field
+     * @return a new accessor for the given field
+     * @throws NullPointerException     if the lookup or field is {@code null}
+     * @throws IllegalArgumentException if the given field is static
+     * @throws IllegalAccessException   if the lookup can not access the field
+     * @since 0.0.2
+     */
+    public static FieldAccessor of(MethodHandles.Lookup lookup, Field field)
+            throws NullPointerException, IllegalArgumentException, IllegalAccessException {
+        Objects.requireNonNull(lookup);
+        Objects.requireNonNull(field);
+        if (Modifier.isStatic(field.getModifiers())) {
+            throw new IllegalArgumentException("static fields are not supported");
+        }
+
+        MethodHandle getter = lookup.unreflectGetter(field);
+        MethodHandle setter = Modifier.isFinal(field.getModifiers()) ? null : lookup.unreflectSetter(field);
+        return new FieldAccessor(field.getName(), getter, setter);
+    }
+
+    /**
+     * Returns the accessor for the given field. The accessor is created on the
+     * first call and cached afterwards. The access check of the field is
+     * disabled, therefore this method is only available to the library.
+     *
+     * @param field the instance field
+     * @return the accessor for the given field
+     * @throws NullPointerException     if the given field is {@code null}
+     * @throws IllegalArgumentException if the given field is static
+     * @throws IllegalStateException    if the field could not be accessed
+     */
+    static FieldAccessor of(Field field)
+            throws NullPointerException, IllegalArgumentException, IllegalStateException {
+        Objects.requireNonNull(field);
+
+        Map<String, FieldAccessor> accessors = ACCESSORS.get(field.getDeclaringClass());
+        FieldAccessor accessor = accessors.get(field.getName());
+        if (accessor == null) {
+            try {
+                accessor = new FieldAccessor(field);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+            FieldAccessor present = accessors.putIfAbsent(field.getName(), accessor);
+            if (present != null) {
+                accessor = present;
+            }
+        }
+        return accessor;
+    }
+
+    /**
+     * @return The field's name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return {@code false} if the field can only be read
+     */
+    public boolean isWritable() {
+        return setter != null;
+    }
+
+    /**
+     * Returns the value of the field in the given object.
+     *
+     * @param obj the object to read from
+     * @return the field's value
+     * @throws NullPointerException if the given object is {@code null}
+     * @throws ClassCastException   if the object does not declare the field
+     */
+    public Object get(Object obj) throws NullPointerException, ClassCastException {
+        try {
+            return (Object) getter.invokeExact(obj);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * Applies a new value to the field in the given object.
+     *
+     * @param obj the object to modify
+     * @param value the new value
+     * @throws NullPointerException if the given object is {@code null}
+     * @throws ClassCastException   if the value can not be assigned to the field
+     * @throws IllegalStateException if the field is read-only
+     */
+    public void set(Object obj, Object value)
+            throws NullPointerException, ClassCastException, IllegalStateException {
+        if (setter == null) {
+            throw new IllegalStateException("Field '" + name + "' is read-only");
+        }
+        try {
+            setter.invokeExact(obj, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+}
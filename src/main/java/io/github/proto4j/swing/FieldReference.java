@@ -84,6 +84,16 @@ public final class FieldReference<V> {
      */
     private volatile Class<?> type;
 
+    /**
+     * The accessor used to write the linked field.
+     */
+    private volatile FieldAccessor accessor;
+
+    /**
+     * Creates the component on the first call to {@link #get()} if present.
+     */
+    private volatile Runnable initializer;
+
     /**
      * Creates a new {@link FieldReference} with the given id;
      *
@@ -104,12 +114,26 @@ public final class FieldReference<V> {
      */
     public V get() throws NullPointerException, ClassCastException {
         synchronized (getHook()) {
-            Object value = desc.getInstance();
             if (desc.getFieldName().equals(THIS)) {
                 // See THIS documentation for more information
                 //noinspection unchecked
                 return (V) parent;
             }
+
+            Runnable initializer = this.initializer;
+            if (initializer != null) {
+                // The initializer is expected to call set(), so it has to be
+                // removed before to prevent recursive calls.
+                this.initializer = null;
+                try {
+                    initializer.run();
+                } catch (RuntimeException | Error e) {
+                    this.initializer = initializer;
+                    throw e;
+                }
+            }
+
+            Object value = desc.getInstance();
             Objects.requireNonNull(value, "Linked instance is null");
             //noinspection unchecked
             return (V) value;
@@ -117,31 +141,77 @@ public final class FieldReference<V> {
     }
 
     /**
-     * Applies a new value to the linked field.
+     * Applies a new value to the linked field. Final fields that are
+     * accessed through a read-only {@link FieldAccessor} keep their value.
      *
      * @param value the new value
-     * @throws NullPointerException if the value is {@code null}
+     * @throws NullPointerException  if the value is {@code null}
+     * @throws IllegalStateException if the field can not be accessed
      */
-    public void set(V value) throws NullPointerException {
+    public void set(V value) throws NullPointerException, IllegalStateException {
         // this method should not take any action if we want
         // to change the root element.
         if (desc.getFieldName().equals(THIS)) {
             return;
         }
 
-        Field field = (Field) desc.getField();
-        field.setAccessible(true);
-        try {
-            synchronized (getHook()) {
-                field.set(parent, value);
-                desc.setInstance(value);
-                type = value.getClass();
+        FieldAccessor accessor = this.accessor;
+        if (accessor == null) {
+            if (!(desc.getField() instanceof Field)) {
+                throw new IllegalStateException("No accessor for field '"
+                        + desc.getFieldName() + "'");
+            }
+            accessor = FieldAccessor.of((Field) desc.getField());
+            this.accessor = accessor;
+        }
+
+        synchronized (getHook()) {
+            if (accessor.isWritable()) {
+                accessor.set(parent, value);
             }
-        } catch (IllegalAccessException e) {
-            // pass that
+            desc.setInstance(value);
+            type = value.getClass();
         }
     }
 
+    /**
+     * Applies the accessor used to write the linked field. If none was
+     * defined, the accessor is created from the field of the
+     * {@link ComponentDesc}.
+     *
+     * @param accessor the field's accessor
+     * @throws NullPointerException if the accessor is {@code null}
+     * @since 0.0.2
+     */
+    public void setAccessor(FieldAccessor accessor) throws NullPointerException {
+        this.accessor = Objects.requireNonNull(accessor);
+    }
+
+    /**
+     * Defers the creation of the linked component until the first call to
+     * {@link #get()}. The given initializer has to apply the created value
+     * with {@link #set(Object)}.
+     *
+     * @param initializer the action creating the component
+     * @throws NullPointerException if the initializer is {@code null}
+     * @since 0.0.2
+     */
+    public void setInitializer(Runnable initializer) throws NullPointerException {
+        Objects.requireNonNull(initializer);
+        synchronized (getHook()) {
+            this.initializer = initializer;
+        }
+    }
+
+    /**
+     * @return {@code true} if the linked component was created; {@code false}
+     *         if it is created on the next call to {@link #get()}
+     * @since 0.0.2
+     */
+    public boolean isInitialized() {
+        return initializer == null;
+    }
+
     /**
      * @return the field's component number
      */
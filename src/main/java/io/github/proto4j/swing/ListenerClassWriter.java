@@ -0,0 +1,276 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing; //@date 18.10.2026
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the class file of a listener implementation whose methods all
+ * delegate to {@link ListenerFactory.Handler#handle(Object)}:
+ * <pre>
+ *     final class Listener implements &lt;type&gt; {
+ *         private final ListenerFactory.Handler handler;
+ *
+ *         Listener(ListenerFactory.Handler handler) {
+ *             this.handler = handler;
+ *         }
+ *
+ *         public void mouseMoved(MouseEvent e) {
+ *             handler.handle(e);
+ *         }
+ *         ...
+ *     }
+ * </pre>
+ * The class is defined as a hidden class of {@link ListenerFactory}. Only
+ * {@code void} methods taking no parameter or a reference as their first
+ * parameter are supported, which covers all AWT and Swing listeners.
+ *
+ * @see ListenerFactory
+ * @since 0.0.2
+ */
+final class ListenerClassWriter {
+
+    private static final int ACC_PUBLIC    = 0x0001;
+    private static final int ACC_PRIVATE   = 0x0002;
+    private static final int ACC_FINAL     = 0x0010;
+    private static final int ACC_SUPER     = 0x0020;
+    private static final int ACC_SYNTHETIC = 0x1000;
+
+    private static final int CONSTANT_UTF8          = 1;
+    private static final int CONSTANT_CLASS         = 7;
+    private static final int CONSTANT_FIELD_REF     = 9;
+    private static final int CONSTANT_METHOD_REF    = 10;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private static final int ALOAD_0       = 0x2a;
+    private static final int ALOAD_1       = 0x2b;
+    private static final int ACONST_NULL   = 0x01;
+    private static final int POP           = 0x57;
+    private static final int RETURN        = 0xb1;
+    private static final int GETFIELD      = 0xb4;
+    private static final int PUTFIELD      = 0xb5;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+
+    // Java 17
+    private static final int MAJOR_VERSION = 61;
+
+    private static final String OBJECT  = "java/lang/Object";
+    private static final String HANDLER = internalName(ListenerFactory.Handler.class);
+    private static final String FIELD   = "handler";
+
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream      pool      = new DataOutputStream(poolBytes);
+    private final Map<String, Integer>  entries   = new HashMap<>();
+    private       int                   poolSize  = 1;
+
+    private ListenerClassWriter() {}
+
+    /**
+     * @param method an abstract method of a listener type
+     * @return whether the given method can be implemented by this writer
+     */
+    static boolean supports(Method method) {
+        Class<?>[] parameters = method.getParameterTypes();
+        return method.getReturnType() == void.class
+                && (parameters.length == 0 || !parameters[0].isPrimitive());
+    }
+
+    /**
+     * Writes the class file of a listener implementing the given methods.
+     *
+     * @param type the listener type
+     * @param methods the abstract methods of the listener type; all of them
+     *         must be {@link #supports(Method) supported}
+     * @return the class file
+     */
+    static byte[] write(Class<?> type, List<Method> methods) {
+        try {
+            return new ListenerClassWriter().write0(type, methods);
+        } catch (IOException e) {
+            // not thrown by in-memory streams
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] write0(Class<?> type, List<Method> methods) throws IOException {
+        String handlerDesc = "L" + HANDLER + ";";
+        String className   = internalName(ListenerFactory.class).replace("ListenerFactory", "Listener");
+
+        int thisClass   = classRef(className);
+        int superClass  = classRef(OBJECT);
+        int iface       = classRef(internalName(type));
+        int field       = ref(CONSTANT_FIELD_REF, thisClass, FIELD, handlerDesc);
+        int superInit   = ref(CONSTANT_METHOD_REF, superClass, "<init>", "()V");
+        int handle      = ref(CONSTANT_METHOD_REF, classRef(HANDLER), "handle",
+                              "(Ljava/lang/Object;)Ljava/lang/Object;");
+        int code        = utf8("Code");
+        int fieldName   = utf8(FIELD);
+        int fieldDesc   = utf8(handlerDesc);
+        int initName    = utf8("<init>");
+        int initDesc    = utf8("(" + handlerDesc + ")V");
+
+        int[] names       = new int[methods.size()];
+        int[] descriptors = new int[methods.size()];
+        int[] locals      = new int[methods.size()];
+        for (int i = 0; i < methods.size(); i++) {
+            Method method = methods.get(i);
+            names[i]       = utf8(method.getName());
+            descriptors[i] = utf8(MethodType.methodType(void.class, method.getParameterTypes())
+                                            .toMethodDescriptorString());
+            locals[i] = 1;
+            for (Class<?> parameter : method.getParameterTypes()) {
+                locals[i] += parameter == long.class || parameter == double.class ? 2 : 1;
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream      out   = new DataOutputStream(bytes);
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0);
+        out.writeShort(MAJOR_VERSION);
+        out.writeShort(poolSize);
+        pool.flush();
+        poolBytes.writeTo(out);
+
+        out.writeShort(ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC);
+        out.writeShort(thisClass);
+        out.writeShort(superClass);
+        out.writeShort(1);
+        out.writeShort(iface);
+
+        // private final Handler handler;
+        out.writeShort(1);
+        out.writeShort(ACC_PRIVATE | ACC_FINAL);
+        out.writeShort(fieldName);
+        out.writeShort(fieldDesc);
+        out.writeShort(0);
+
+        out.writeShort(methods.size() + 1);
+        // Listener(Handler handler) { super(); this.handler = handler; }
+        out.writeShort(0);
+        out.writeShort(initName);
+        out.writeShort(initDesc);
+        writeCode(out, code, 2, 2, new byte[]{
+                ALOAD_0,
+                (byte) INVOKESPECIAL, hi(superInit), lo(superInit),
+                ALOAD_0,
+                ALOAD_1,
+                (byte) PUTFIELD, hi(field), lo(field),
+                (byte) RETURN
+        });
+
+        // public void method(Event e, ...) { handler.handle(e); }
+        for (int i = 0; i < methods.size(); i++) {
+            byte argument = (byte) (methods.get(i).getParameterCount() == 0 ? ACONST_NULL : ALOAD_1);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL);
+            out.writeShort(names[i]);
+            out.writeShort(descriptors[i]);
+            writeCode(out, code, 2, locals[i], new byte[]{
+                    ALOAD_0,
+                    (byte) GETFIELD, hi(field), lo(field),
+                    argument,
+                    (byte) INVOKEVIRTUAL, hi(handle), lo(handle),
+                    POP,
+                    (byte) RETURN
+            });
+        }
+
+        // no class attributes
+        out.writeShort(0);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeCode(DataOutputStream out, int code, int maxStack, int maxLocals,
+                                  byte[] instructions) throws IOException {
+        out.writeShort(1);
+        out.writeShort(code);
+        out.writeInt(12 + instructions.length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(instructions.length);
+        out.write(instructions);
+        // no exception table and attributes
+        out.writeShort(0);
+        out.writeShort(0);
+    }
+
+    private int utf8(String value) throws IOException {
+        Integer index = entries.get("U" + value);
+        if (index == null) {
+            pool.writeByte(CONSTANT_UTF8);
+            pool.writeUTF(value);
+            entries.put("U" + value, index = poolSize++);
+        }
+        return index;
+    }
+
+    private int classRef(String name) throws IOException {
+        Integer index = entries.get("C" + name);
+        if (index == null) {
+            int nameIndex = utf8(name);
+            pool.writeByte(CONSTANT_CLASS);
+            pool.writeShort(nameIndex);
+            entries.put("C" + name, index = poolSize++);
+        }
+        return index;
+    }
+
+    private int ref(int tag, int owner, String name, String descriptor) throws IOException {
+        int nameIndex = utf8(name);
+        int descIndex = utf8(descriptor);
+
+        pool.writeByte(CONSTANT_NAME_AND_TYPE);
+        pool.writeShort(nameIndex);
+        pool.writeShort(descIndex);
+        int nameAndType = poolSize++;
+
+        pool.writeByte(tag);
+        pool.writeShort(owner);
+        pool.writeShort(nameAndType);
+        return poolSize++;
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    private static byte hi(int index) {
+        return (byte) (index >>> 8);
+    }
+
+    private static byte lo(int index) {
+        return (byte) index;
+    }
+}
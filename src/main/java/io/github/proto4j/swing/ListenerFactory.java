@@ -0,0 +1,338 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing; //@date 18.10.2026
+
+import io.github.proto4j.swing.annotation.ActionHandler;
+import io.github.proto4j.swing.jfr.ActionHandlerEvent;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.EventListener;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Creates {@link EventListener} instances that delegate to an
+ * {@link ActionHandler} method.
+ * <p>
+ * The handler method is compiled into a {@link MethodHandle} once, so no
+ * reflection is involved when an event is dispatched. Listener types with a
+ * single abstract method (e.g. {@code ActionListener}) are implemented by a
+ * class spun with the {@link LambdaMetafactory}, which is created only once
+ * per listener type. Listener types with more than one method (e.g.
+ * {@code MouseMotionListener} or {@code DocumentListener}) are implemented by
+ * a hidden class written by the {@link ListenerClassWriter}, which calls the
+ * handler for every abstract method. A {@link Proxy} is only used for
+ * listener types that can not be implemented by a class of this module.
+ * <p>
+ * If the {@link ActionHandler} options of the method request coalescing, the
+ * events are passed to an {@link EventCoalescer} instead. Asynchronous
+ * handlers are executed by an {@link AsyncInvoker}.
+ *
+ * @see AbstractEntry#createListener(Class, Object, Object)
+ * @since 0.0.2
+ */
+final class ListenerFactory {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    // the type of every compiled handler method
+    private static final MethodType HANDLER_TYPE =
+            MethodType.methodType(Object.class, Object.class);
+
+    // the type of every listener factory
+    private static final MethodType FACTORY_TYPE =
+            MethodType.methodType(Object.class, Handler.class);
+
+    private static final MethodHandle HANDLE;
+    private static final MethodHandle NEW_PROXY;
+
+    static {
+        try {
+            HANDLE    = LOOKUP.findVirtual(Handler.class, "handle", HANDLER_TYPE);
+            NEW_PROXY = LOOKUP.findStatic(ListenerFactory.class, "newProxy",
+                                          MethodType.methodType(Object.class, Class.class, Handler.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final ClassValue<MethodHandle> FACTORIES = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            if (!isAccessible(type)) {
+                return NEW_PROXY.bindTo(type);
+            }
+
+            MethodHandle factory = spinLambda(type);
+            if (factory == null) {
+                factory = spinClass(type);
+            }
+            if (factory == null) {
+                factory = NEW_PROXY.bindTo(type);
+            }
+            return factory;
+        }
+    };
+
+    private ListenerFactory() {}
+
+    /**
+     * Creates a new listener of the given type that calls the given handler
+     * method for every abstract method of the listener type.
+     *
+     * @param type the listener type
+     * @param method the handler method taking no or one parameter
+     * @param parent the declaring object; {@code null} for static methods
+     * @param <E> the listener type
+     * @return the new listener or {@code null} if the handler method can not
+     *         be called by a listener of the given type
+     * @throws IllegalArgumentException if the callback method of an
+     *                                  asynchronous handler does not exist
+     * @throws IllegalStateException if the listener could not be created
+     */
+    static <E extends EventListener> E create(Class<E> type, Method method, Object parent) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(method);
+
+        MethodHandle target = compile(method, parent);
+        if (target == null || !type.isInterface()) {
+            return null;
+        }
+
+        Handler handler = new Handler(method, target, parent, method.getAnnotation(ActionHandler.class));
+        try {
+            return type.cast((Object) FACTORIES.get(type).invokeExact(handler));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Could not create a " + type.getName(), t);
+        }
+    }
+
+    private static MethodHandle compile(Method method, Object parent) {
+        if (method.getParameterCount() > 1) {
+            return null;
+        }
+
+        MethodHandle handle;
+        try {
+            method.setAccessible(true);
+            handle = LOOKUP.unreflect(method);
+        } catch (RuntimeException | IllegalAccessException e) {
+            return null;
+        }
+
+        if (!Modifier.isStatic(method.getModifiers())) {
+            if (!method.getDeclaringClass().isInstance(parent)) {
+                return null;
+            }
+            handle = handle.bindTo(parent);
+        }
+        if (method.getParameterCount() == 0) {
+            // the event is not used by the handler
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(HANDLER_TYPE);
+    }
+
+    private static MethodHandle spinLambda(Class<?> type) {
+        Method sam = null;
+        for (Method method : type.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers()) || isObjectMethod(method)) {
+                continue;
+            }
+            if (sam != null) {
+                return null;
+            }
+            sam = method;
+        }
+        if (sam == null || sam.getParameterCount() != 1) {
+            return null;
+        }
+
+        MethodType samType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+        try {
+            CallSite site = LambdaMetafactory.metafactory(
+                    LOOKUP, sam.getName(), MethodType.methodType(type, Handler.class),
+                    samType, HANDLE, samType);
+            return site.getTarget().asType(FACTORY_TYPE);
+        } catch (Exception | LinkageError | InternalError e) {
+            // e.g. the listener type is not accessible from this module
+            return null;
+        }
+    }
+
+    private static MethodHandle spinClass(Class<?> type) {
+        if (!isVisible(type)) {
+            return null;
+        }
+
+        Map<String, Method> methods = new LinkedHashMap<>();
+        for (Method method : type.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers()) || isObjectMethod(method)) {
+                continue;
+            }
+            if (!ListenerClassWriter.supports(method)) {
+                return null;
+            }
+            for (Class<?> parameter : method.getParameterTypes()) {
+                if (!isVisible(parameter)) {
+                    return null;
+                }
+            }
+            // the same method may be inherited from several interfaces
+            methods.putIfAbsent(method.getName() + MethodType.methodType(
+                    void.class, method.getParameterTypes()).toMethodDescriptorString(), method);
+        }
+
+        byte[] bytes = ListenerClassWriter.write(type, new ArrayList<>(methods.values()));
+        try {
+            Class<?> listener = LOOKUP.defineHiddenClass(bytes, true).lookupClass();
+            return LOOKUP.findConstructor(listener, MethodType.methodType(void.class, Handler.class))
+                         .asType(FACTORY_TYPE);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IllegalStateException("Could not implement " + type.getName(), e);
+        }
+    }
+
+    // The spun class refers to the listener and event types by name, so they
+    // have to resolve to the same classes from the class loader of this module.
+    private static boolean isVisible(Class<?> type) {
+        try {
+            return type.isPrimitive()
+                    || Class.forName(type.getName(), false, ListenerFactory.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    // The spun classes are defined in this module and have to be able to
+    // implement the listener type.
+    private static boolean isAccessible(Class<?> type) {
+        Module module = ListenerFactory.class.getModule();
+        if (!module.canRead(type.getModule())) {
+            module.addReads(type.getModule());
+        }
+        try {
+            LOOKUP.accessClass(type);
+            return true;
+        } catch (IllegalAccessException e) {
+            return false;
+        }
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static Object newProxy(Class<?> type, Handler handler) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    /**
+     * Calls the compiled handler method and reports an {@link ActionHandlerEvent}.
+     * It serves as the implementation of spun listener classes as well as the
+     * {@link InvocationHandler} of proxies for inaccessible listener types.
+     */
+    static final class Handler implements InvocationHandler {
+
+        private final Method         method;
+        private final MethodHandle   target;
+        private final EventCoalescer coalescer;
+        private final AsyncInvoker   invoker;
+
+        Handler(Method method, MethodHandle target, Object parent, ActionHandler options) {
+            this.method    = method;
+            this.target    = target;
+            this.coalescer = EventCoalescer.of(this, options);
+            this.invoker   = AsyncInvoker.of(this, method, parent, options);
+        }
+
+        public Object handle(Object event) throws Throwable {
+            if (coalescer != null) {
+                coalescer.offer(event);
+                return null;
+            }
+            return call(event);
+        }
+
+        Object call(Object event) throws Throwable {
+            if (invoker != null) {
+                invoker.submit(event);
+                return null;
+            }
+            return apply(event);
+        }
+
+        Object apply(Object event) throws Throwable {
+            ActionHandlerEvent jfr = new ActionHandlerEvent();
+            jfr.begin();
+            Object value = (Object) target.invokeExact(event);
+            jfr.report(method, method.getName(), ActionHandler.class);
+            return value;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return toString();
+                }
+            }
+
+            // Name check does not work, because methods could get a different
+            // name compared to their related base method name
+            if (Modifier.isAbstract(method.getModifiers())) {
+                return handle(args == null || args.length == 0 ? null : args[0]);
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return "Handler[" + method.getDeclaringClass().getName() + "#" + method.getName() + "]";
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing; //@date 18.10.2026
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.EventListener;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The resolved {@code addXxxListener} methods of a single component class.
+ * A method is looked up only once per listener type and compiled into a
+ * {@link MethodHandle}; listener types without such a method are cached as
+ * a miss.
+ *
+ * @see AbstractEntry#linkAction(String, Class, EventListener)
+ * @since 0.0.2
+ */
+final class ListenerRegistrars {
+
+    private static final ClassValue<ListenerRegistrars> TABLES = new ClassValue<>() {
+        @Override
+        protected ListenerRegistrars computeValue(Class<?> type) {
+            return new ListenerRegistrars(type);
+        }
+    };
+
+    private static final MethodType REGISTRAR_TYPE =
+            MethodType.methodType(void.class, Object.class, EventListener.class);
+
+    // cached result for listener types without an add method
+    private static final MethodHandle MISSING = MethodHandles.empty(REGISTRAR_TYPE);
+
+    private final Class<?> componentType;
+
+    private final Map<Class<?>, MethodHandle> registrars = new ConcurrentHashMap<>();
+
+    private ListenerRegistrars(Class<?> componentType) {
+        this.componentType = componentType;
+    }
+
+    /**
+     * Adds the given listener to the given component by calling its
+     * {@code "add" + type.getSimpleName()} method.
+     *
+     * @param component the component
+     * @param type the listener type
+     * @param listener the listener instance
+     * @throws NoSuchMethodException     if the component does not declare
+     *                                   a matching add method
+     * @throws InvocationTargetException if the add method throws an exception
+     */
+    static void add(Object component, Class<? extends EventListener> type, EventListener listener)
+            throws NoSuchMethodException, InvocationTargetException {
+        Objects.requireNonNull(component);
+        Objects.requireNonNull(listener);
+
+        MethodHandle registrar = TABLES.get(component.getClass()).get(type);
+        if (registrar == MISSING) {
+            throw new NoSuchMethodException(component.getClass().getName()
+                                                    + ".add" + type.getSimpleName());
+        }
+
+        try {
+            registrar.invokeExact(component, type.cast(listener));
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * @param componentType the component type
+     * @param type the listener type
+     * @return whether instances of the given component type declare an add
+     *         method for the given listener type
+     */
+    static boolean supports(Class<?> componentType, Class<? extends EventListener> type) {
+        Objects.requireNonNull(componentType);
+        return TABLES.get(componentType).get(type) != MISSING;
+    }
+
+    private MethodHandle get(Class<?> type) {
+        MethodHandle registrar = registrars.get(type);
+        if (registrar == null) {
+            registrar = registrars.computeIfAbsent(type, this::resolve);
+        }
+        return registrar;
+    }
+
+    private MethodHandle resolve(Class<?> type) {
+        Method method;
+        try {
+            method = componentType.getMethod("add" + type.getSimpleName(), type);
+        } catch (NoSuchMethodException e) {
+            return MISSING;
+        }
+
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(REGISTRAR_TYPE);
+        } catch (IllegalAccessException e) {
+            // e.g. declared by a non-public component class
+        }
+
+        try {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method).asType(REGISTRAR_TYPE);
+        } catch (RuntimeException | IllegalAccessException e) {
+            return MISSING;
+        }
+    }
+}
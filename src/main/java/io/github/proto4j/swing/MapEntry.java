@@ -25,11 +25,9 @@
 package io.github.proto4j.swing; //@date 06.09.2022
 
 import io.github.proto4j.swing.annotation.EntryPoint;
+import io.github.proto4j.swing.jfr.EntryPointEvent;
 
-import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
-import java.lang.reflect.Proxy;
 import java.nio.channels.AlreadyBoundException;
 import java.util.EventListener;
 import java.util.HashMap;
@@ -127,6 +125,7 @@ class MapEntry<G> extends AbstractEntry<G> {
             throw new AlreadyBoundException();
         }
         fields.put(name, reference);
+        invalidatePaths();
     }
 
     /**
@@ -155,7 +154,10 @@ class MapEntry<G> extends AbstractEntry<G> {
             if (m.isAnnotationPresent(EntryPoint.class)) {
                 try {
                     m.setAccessible(true);
+                    EntryPointEvent event = new EntryPointEvent();
+                    event.begin();
                     m.invoke(getGUI(), args);
+                    event.report(m, m.getName(), EntryPoint.class);
                 } catch (ReflectiveOperationException e) {
                     // ignore that
                 }
@@ -224,9 +226,21 @@ class MapEntry<G> extends AbstractEntry<G> {
             throw new AlreadyBoundException();
         }
         nested.put(name, entry);
+        invalidatePaths();
     }
 
-    // Still under development
+    /**
+     * Returns the given listener if it is already an instance of the given
+     * type, or creates a listener that calls the given handler method (see
+     * {@link ListenerFactory}).
+     *
+     * @param cls the {@link EventListener} class
+     * @param ls the listener object or handler {@link Method}
+     * @param parent the declaring object
+     * @param <E> the event listener type
+     * @return the {@link EventListener} instance; {@code null} if no listener
+     *         could be created
+     */
     @Override
     public <E extends EventListener> E createListener(Class<E> cls, Object ls, Object parent) {
         if (cls.isAssignableFrom(ls.getClass())) {
@@ -234,27 +248,9 @@ class MapEntry<G> extends AbstractEntry<G> {
         }
 
         if (ls instanceof Method) {
-            Object proxy = Proxy.newProxyInstance(cls.getClassLoader(), new Class[]{cls}, new InvocationHandler() {
-                final Method m = (Method) ls;
-
-                @Override
-                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-                    if (method.getDeclaringClass() == Object.class) {
-                        return method.invoke(this, args);
-                    }
-
-                    // Name check does not work, because methods could get a different
-                    // name compared to their related base method name
-                    if (Modifier.isAbstract(method.getModifiers())) {
-                        return m.invoke(parent, args);
-                    }
-                    return null;
-                }
-            });
-            return cls.cast(proxy);
+            return ListenerFactory.create(cls, (Method) ls, parent);
         }
         return null;
     }
 
-
 }
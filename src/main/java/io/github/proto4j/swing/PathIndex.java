@@ -0,0 +1,185 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing; //@date 18.10.2026
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An immutable index of all fields of an entry tree by their dotted path.
+ * <p>
+ * Fields of the root entry are mapped to their name, fields of nested GUIs
+ * to the path of the nested GUI field followed by their name, e.g.
+ * {@code settings.network.proxyHost}. The index is built once per entry
+ * tree, so a lookup does not walk the nested entries step by step.
+ * <pre>
+ *     FieldReference&lt;?&gt; host = entry.find("settings.network.proxyHost");
+ *     for (FieldReference&lt;?&gt; ref : entry.findAll("settings.network").values()) {
+ *         ...
+ *     }
+ * </pre>
+ *
+ * @see Entry#find(String)
+ * @see Entry#findAll(String)
+ * @since 0.0.2
+ */
+public final class PathIndex {
+
+    /**
+     * The character separating the names of a path.
+     */
+    public static final char SEPARATOR = '.';
+
+    private final Map<String, FieldReference<?>> fields;
+    private final Map<String, Entry<?>>          entries;
+
+    // all paths in their natural order, used for prefix queries
+    private final NavigableMap<String, FieldReference<?>> sorted;
+
+    private PathIndex(Map<String, FieldReference<?>> fields, Map<String, Entry<?>> entries) {
+        this.fields  = Map.copyOf(fields);
+        this.entries = Map.copyOf(entries);
+        this.sorted  = Collections.unmodifiableNavigableMap(new TreeMap<>(fields));
+    }
+
+    /**
+     * Builds the index of the given entry and all of its nested entries.
+     *
+     * @param root the root entry
+     * @return the new index
+     * @throws NullPointerException if the given entry is {@code null}
+     */
+    public static PathIndex of(Entry<?> root) throws NullPointerException {
+        Objects.requireNonNull(root);
+
+        Map<String, FieldReference<?>> fields  = new LinkedHashMap<>();
+        Map<String, Entry<?>>          entries = new LinkedHashMap<>();
+        Set<Entry<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        collect(root, "", fields, entries, visited);
+        return new PathIndex(fields, entries);
+    }
+
+    private static void collect(Entry<?> entry, String prefix, Map<String, FieldReference<?>> fields,
+                                Map<String, Entry<?>> entries, Set<Entry<?>> visited) {
+        if (!visited.add(entry)) {
+            return;
+        }
+
+        for (FieldReference<?> ref : entry.getDeclaredFields()) {
+            String name = ref.getDescription().getFieldName();
+            String path = prefix + name;
+            fields.put(path, ref);
+
+            Entry<?> nested = entry.getNestedGUI(name);
+            if (nested != null) {
+                entries.put(path, nested);
+                collect(nested, path + SEPARATOR, fields, entries, visited);
+            }
+        }
+    }
+
+    /**
+     * Resolves the given path by walking the nested entries step by step,
+     * without an index.
+     *
+     * @param root the root entry
+     * @param path the dotted path
+     * @return the field reference or {@code null} if the path does not exist
+     * @throws NullPointerException if any of the given arguments is {@code null}
+     */
+    public static FieldReference<?> walk(Entry<?> root, String path) throws NullPointerException {
+        Objects.requireNonNull(root);
+        Objects.requireNonNull(path);
+
+        Entry<?> entry = root;
+        int      start = 0;
+        int      end;
+        while ((end = path.indexOf(SEPARATOR, start)) >= 0) {
+            entry = entry.getNestedGUI(path.substring(start, end));
+            if (entry == null) {
+                return null;
+            }
+            start = end + 1;
+        }
+        return entry.getDeclaredField(path.substring(start));
+    }
+
+    /**
+     * @param path the dotted path
+     * @return the field reference mapped to the given path or {@code null}
+     *         if the path is not part of this index
+     */
+    public FieldReference<?> find(String path) {
+        return fields.get(path);
+    }
+
+    /**
+     * @param path the dotted path of a nested GUI field
+     * @return the entry of the nested GUI or {@code null} if the path does not
+     *         point to a nested GUI
+     */
+    public Entry<?> findEntry(String path) {
+        return entries.get(path);
+    }
+
+    /**
+     * Returns all fields whose path equals the given prefix or continues it
+     * with a {@link #SEPARATOR}, i.e. the field itself and everything below.
+     * An empty prefix returns all fields.
+     *
+     * @param prefix the path prefix
+     * @return an unmodifiable map of the matching paths in their natural order
+     * @throws NullPointerException if the given prefix is {@code null}
+     */
+    public Map<String, FieldReference<?>> findAll(String prefix) throws NullPointerException {
+        Objects.requireNonNull(prefix);
+        if (prefix.isEmpty()) {
+            return sorted;
+        }
+
+        Map<String, FieldReference<?>> result = new LinkedHashMap<>();
+        FieldReference<?> ref = fields.get(prefix);
+        if (ref != null) {
+            result.put(prefix, ref);
+        }
+        // all keys between "prefix." and "prefix/" start with "prefix."
+        result.putAll(sorted.subMap(prefix + SEPARATOR, true,
+                                    prefix + (char) (SEPARATOR + 1), false));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * @return the number of indexed fields
+     */
+    public int size() {
+        return fields.size();
+    }
+}
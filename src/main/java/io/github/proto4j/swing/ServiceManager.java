@@ -27,7 +27,7 @@ package io.github.proto4j.swing; //@date 05.09.2022
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.*;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -41,6 +41,13 @@ import java.util.stream.Stream;
  * that are loaded via the {@link ServiceLoader#load(Class)} mechanism.</li>
  * </ul>
  *
+ * <p>
+ * Registered services are stored in an immutable and versioned index that
+ * is replaced on every change. Readers never acquire a lock. If a key
+ * function was given at creation, every service is additionally mapped to
+ * its key, so that it can be found with {@link #getByKey(Class)} in constant
+ * time.
+ *
  * @apiNote {@code ServiceManager} initialization is done lazily and looks up
  *         service providers using the thread context class loader. The services loaded
  *         and available to an application will depend on the thread context class
@@ -50,16 +57,20 @@ import java.util.stream.Stream;
  */
 public final class ServiceManager<S> {
 
-    // list of registered service classes
-    private final CopyOnWriteArrayList<Info<S>> providers = new CopyOnWriteArrayList<>();
-
-    // used to synchronize all callers that access the registered services
+    // used to synchronize all callers that modify the registered services
     private final Object LOCK = new Object();
     private transient final Class<S> cls;
+    // maps each service to its lookup key; may be null
+    private transient final Function<? super S, ? extends Class<?>> keyFunction;
+    // the current snapshot of all registered services
+    private volatile Index<S> index = new Index<>();
     // used to indicate whether the services were initialized once
     private volatile boolean servicesLoaded;
 
-    private ServiceManager(Class<S> cls) {this.cls = cls;}
+    private ServiceManager(Class<S> cls, Function<? super S, ? extends Class<?>> keyFunction) {
+        this.cls         = cls;
+        this.keyFunction = keyFunction;
+    }
 
     /**
      * Creates a new {@link ServiceManager} for the given service type.
@@ -69,7 +80,27 @@ public final class ServiceManager<S> {
      * @return a new {@link ServiceManager} for the given service type.
      */
     public static <S> ServiceManager<S> from(Class<S> cls) {
-        return new ServiceManager<>(cls);
+        return new ServiceManager<>(cls, null);
+    }
+
+    /**
+     * Creates a new {@link ServiceManager} for the given service type, which
+     * maps every registered service to the key returned by the given function.
+     * If multiple services share a key, the first registered one is returned
+     * by {@link #getByKey(Class)}.
+     *
+     * @param cls the service clas
+     * @param keyFunction the function providing the lookup key of a service
+     * @param <S> the type of service this manager will provide
+     * @return a new {@link ServiceManager} for the given service type.
+     * @throws NullPointerException if the key function is {@code null}
+     * @since 0.0.2
+     */
+    public static <S> ServiceManager<S> from(Class<S> cls,
+                                             Function<? super S, ? extends Class<?>> keyFunction)
+            throws NullPointerException {
+        Objects.requireNonNull(keyFunction);
+        return new ServiceManager<>(cls, keyFunction);
     }
 
     /**
@@ -87,7 +118,12 @@ public final class ServiceManager<S> {
         synchronized (LOCK) {
             Objects.requireNonNull(service);
 
-            providers.addIfAbsent(new Info<>(service));
+            Info<S> info = new Info<>(service);
+            if (!index.providers.contains(info)) {
+                List<Info<S>> providers = new ArrayList<>(index.providers);
+                providers.add(info);
+                index = new Index<>(index.version + 1, providers, keyFunction);
+            }
         }
     }
 
@@ -112,7 +148,10 @@ public final class ServiceManager<S> {
         synchronized (LOCK) {
             Info<S> info = new Info<>(service);
 
-            providers.remove(info);
+            List<Info<S>> providers = new ArrayList<>(index.providers);
+            if (providers.remove(info)) {
+                index = new Index<>(index.version + 1, providers, keyFunction);
+            }
         }
     }
 
@@ -143,16 +182,66 @@ public final class ServiceManager<S> {
         Objects.requireNonNull(predicate);
 
         ensureProvidersInitialized();
-        synchronized (LOCK) {
-            for (Info<S> info : providers) {
-                if (predicate.test(info.service)) {
-                    return info.service;
-                }
+        for (Info<S> info : index.providers) {
+            if (predicate.test(info.service)) {
+                return info.service;
             }
         }
         return defaultVal;
     }
 
+    /**
+     * Attempts to locate a service that is bound to this manager with the
+     * given key.
+     *
+     * @param key the service's key
+     * @return a service object of type {@code <S>}
+     * @throws IllegalArgumentException if no service is mapped to the key
+     * @throws IllegalStateException    if this manager was created without a
+     *                                  key function
+     * @since 0.0.2
+     */
+    public S getByKey(Class<?> key) {
+        S service = getByKeyOrDefault(key, null);
+
+        if (service == null) {
+            throw new IllegalArgumentException("Could not find service");
+        }
+        return service;
+    }
+
+    /**
+     * Attempts to locate a service that is bound to this manager with the
+     * given key.
+     *
+     * @param key the service's key
+     * @param defaultVal the value returned if no service is mapped to the key
+     * @return a service object of type {@code <S>} or the given default value
+     * @throws IllegalStateException if this manager was created without a
+     *                               key function
+     * @since 0.0.2
+     */
+    public S getByKeyOrDefault(Class<?> key, S defaultVal) {
+        if (keyFunction == null) {
+            throw new IllegalStateException("ServiceManager has no key function");
+        }
+
+        ensureProvidersInitialized();
+        S service = key == null ? null : index.keys.get(key);
+        return service != null ? service : defaultVal;
+    }
+
+    /**
+     * Returns the version of the current service index. The version is
+     * increased on every successful registration or removal.
+     *
+     * @return the version of the current service index
+     * @since 0.0.2
+     */
+    public int getVersion() {
+        return index.version;
+    }
+
     /**
      * Retrieves an Enumeration with all the currently loaded services
      * to which the current caller has access.
@@ -182,7 +271,7 @@ public final class ServiceManager<S> {
     private List<S> getServicesInternal() {
         List<S> result = new LinkedList<>();
 
-        for (Info<S> info : providers) {
+        for (Info<S> info : index.providers) {
             result.add(info.service);
         }
         return result;
@@ -223,6 +312,37 @@ public final class ServiceManager<S> {
         }
     }
 
+    // An immutable snapshot of all registered services
+    private static final class Index<S> {
+
+        final int           version;
+        final List<Info<S>> providers;
+        final Map<Class<?>, S> keys;
+
+        Index() {
+            this.version   = 0;
+            this.providers = List.of();
+            this.keys      = Map.of();
+        }
+
+        Index(int version, List<Info<S>> providers,
+              Function<? super S, ? extends Class<?>> keyFunction) {
+            this.version   = version;
+            this.providers = List.copyOf(providers);
+
+            Map<Class<?>, S> keys = new HashMap<>();
+            if (keyFunction != null) {
+                for (Info<S> info : providers) {
+                    Class<?> key = keyFunction.apply(info.service);
+                    if (key != null) {
+                        keys.putIfAbsent(key, info.service);
+                    }
+                }
+            }
+            this.keys = Map.copyOf(keys);
+        }
+    }
+
     private static class Info<S> {
 
         final S service;
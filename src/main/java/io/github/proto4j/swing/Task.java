@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing; //@date 18.10.2026
+
+import java.util.List;
+
+/**
+ * A background task owned by an {@link Entry}, used as a replacement for
+ * hand-written {@code SwingWorker}s (see {@link Entry#submit(Task)}).
+ * <p>
+ * The {@link #call(Context)} method is executed outside the event dispatch
+ * thread. Intermediate results published with {@link Context#publish(Object)}
+ * are collected and passed in batches to {@link #process(List)} on the event
+ * dispatch thread, so a fast producer does not flood the event queue. Finally,
+ * {@link #done(Object, Throwable)} is called on the event dispatch thread.
+ * <pre>
+ *     entry.submit(context -&gt; {
+ *         for (File file : files) {
+ *             context.publish(file.getName());
+ *         }
+ *         return files.length;
+ *     });
+ * </pre>
+ *
+ * @param <V> the result type
+ * @param <P> the type of intermediate results
+ * @since 0.0.2
+ */
+@FunctionalInterface
+public interface Task<V, P> {
+
+    /**
+     * Computes the result of this task outside the event dispatch thread.
+     * Implementations should stop when the current thread is interrupted or
+     * {@link Context#isCancelled()} returns {@code true}.
+     *
+     * @param context the context used to publish intermediate results
+     * @return the computed result
+     * @throws Exception if the result could not be computed
+     */
+    V call(Context<P> context) throws Exception;
+
+    /**
+     * Receives intermediate results on the event dispatch thread. All results
+     * published since the last call are passed at once.
+     *
+     * @param chunks the published results in their order
+     */
+    default void process(List<P> chunks) {
+    }
+
+    /**
+     * Called on the event dispatch thread when this task has completed, failed
+     * or was cancelled.
+     *
+     * @param result the computed result; {@code null} on error
+     * @param error the exception thrown by {@link #call(Context)} or a
+     *         {@link java.util.concurrent.CancellationException}; {@code null}
+     *         on success
+     */
+    default void done(V result, Throwable error) {
+    }
+
+    /**
+     * The view of a running task on its own state.
+     *
+     * @param <P> the type of intermediate results
+     */
+    interface Context<P> {
+
+        /**
+         * Sends an intermediate result to {@link Task#process(List)}. Results
+         * published after the task was cancelled are dropped.
+         *
+         * @param chunk the intermediate result
+         */
+        void publish(P chunk);
+
+        /**
+         * @return whether the task was cancelled
+         */
+        boolean isCancelled();
+    }
+}
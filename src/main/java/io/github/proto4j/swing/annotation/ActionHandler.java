@@ -34,6 +34,12 @@ import java.util.EventListener;
 /**
  * The value of this annotation describes the field(s) this EventListener
  * will be added to.
+ * <p>
+ * Annotated methods may be called deferred: with {@link #coalesce()},
+ * {@link #debounceMillis()} or {@link #throttleMillis()} bursts of events are
+ * collapsed into one invocation on the event dispatch thread. With
+ * {@link #async()} the method is executed outside the event dispatch thread.
+ * The listener method of a deferred invocation returns {@code null}.
  *
  * @since 1.0
  */
@@ -49,4 +55,86 @@ public @interface ActionHandler {
      * @return the type of this listener when a method is annotated
      */
     Class<? extends EventListener> type() default ActionListener.class;
+
+    /**
+     * Whether events that arrive before the handler method was called on the
+     * event dispatch thread should be collapsed into a single invocation.
+     * Setting {@link #debounceMillis()} or {@link #throttleMillis()} implies
+     * coalescing.
+     *
+     * @return {@code true} if bursts of events should be collapsed
+     * @since 0.0.2
+     */
+    boolean coalesce() default false;
+
+    /**
+     * The time in milliseconds without further events that has to pass before
+     * the handler method is called. Takes precedence over
+     * {@link #throttleMillis()}.
+     *
+     * @return the quiet period in milliseconds; {@code 0} to disable
+     * @since 0.0.2
+     */
+    long debounceMillis() default 0;
+
+    /**
+     * The minimum time in milliseconds between two invocations of the handler
+     * method. Events within that period are collapsed into one invocation at
+     * its end.
+     *
+     * @return the throttle period in milliseconds; {@code 0} to disable
+     * @since 0.0.2
+     */
+    long throttleMillis() default 0;
+
+    /**
+     * Which event of a collapsed burst is passed to the handler method.
+     *
+     * @return {@code true} for the latest event, {@code false} for the first
+     * @since 0.0.2
+     */
+    boolean latestOnly() default true;
+
+    /**
+     * Whether the handler method should be executed outside the event dispatch
+     * thread, on a virtual thread if the runtime supports them. The listener
+     * method returns immediately, and the result is passed to the
+     * {@link #callback()} method on the event dispatch thread.
+     *
+     * @return {@code true} if the handler method should be called asynchronously
+     * @since 0.0.2
+     */
+    boolean async() default false;
+
+    /**
+     * The name of a method declared in the same class that receives the result
+     * of an {@link #async()} handler on the event dispatch thread. It may
+     * declare no parameters, the result or the result and a {@link Throwable}.
+     * Without the second parameter, exceptions of the handler are thrown on the
+     * event dispatch thread.
+     *
+     * @return the callback method's name; an empty string for no callback
+     * @since 0.0.2
+     */
+    String callback() default "";
+
+    /**
+     * The maximum number of concurrently running invocations of an
+     * {@link #async()} handler. Further invocations are queued without
+     * occupying a thread until a running invocation has finished.
+     *
+     * @return the concurrency limit; {@code 0} for no limit
+     * @since 0.0.2
+     */
+    int maxConcurrency() default 0;
+
+    /**
+     * Whether a still running invocation of an {@link #async()} handler should
+     * be cancelled (interrupted) when the handler fires again. The result of a
+     * superseded invocation is never delivered.
+     *
+     * @return {@code true} if superseded invocations should be cancelled
+     * @since 0.0.2
+     */
+    boolean cancelPrevious() default false;
 }
@@ -27,7 +27,6 @@ package io.github.proto4j.swing.annotation;//@date 12.02.2022
 import javax.swing.*;
 import java.awt.*;
 import java.lang.annotation.*;
-import java.lang.reflect.Method;
 import java.util.IllegalFormatCodePointException;
 import java.util.function.Supplier;
 
@@ -69,8 +68,11 @@ public @interface Option {
      * This attribute specifies the parent component the annotated component
      * should be added to. The keyword {@code this} refers to the class object
      * which is annotated with {@code Swing}.
+     * <p>
+     * Components of nested GUIs are referenced by their dotted path, e.g.
+     * {@code settings.network.panel} (see {@code Entry#find(String)}).
      *
-     * @return The parent component's field name
+     * @return The parent component's field name or path
      */
     String target() default "";
 
@@ -161,20 +163,10 @@ public @interface Option {
         private final Object component;
 
         /**
-         * A reference to the class that will be used to get the method
-         * that will be invoked.
-         */
-        private Class<?> cls;
-
-        /**
-         * Tha target method, which will be invoked.
-         */
-        private Method target;
-
-        /**
-         * The argument that will be used to invoke the target method.
+         * The compiled query, which is shared by all queries with the same
+         * query string.
          */
-        private Object argument;
+        private final QueryCompiler.Compiled compiled;
 
         public static boolean isQuery(String text) {
             return text != null && !text.isEmpty() && text.charAt(0) == indicator;
@@ -182,85 +174,47 @@ public @interface Option {
 
         /**
          * Creates a new {@link Query} object and tries to parse the given
-         * query string.
+         * query string. Each distinct query string is parsed only once per
+         * context class loader.
          *
          * @param data the statement to parse
          * @param component the referenced component
+         * @throws IllegalFormatCodePointException if no separator was found
+         * @throws IllegalArgumentException if the class or method of the query
+         *                                  does not exist
          */
         public Query(String data, Object component) {
-            this.data = data;
+            this.data      = data;
             this.component = component;
-            try {
-                parseStatement();
-            } catch (ClassNotFoundException e) {
-                System.err.println(getClass().getSimpleName() + ':' + e.toString());
-            }
+            this.compiled  = isQuery(data) ? QueryCompiler.compile(data) : null;
         }
 
         /**
-         * Parses the given query statement if possible and throws an
-         * exception on invalid input.
+         * Evaluates the given query string without creating a {@link Query}
+         * object.
          *
+         * @param data the query string
+         * @param component the referenced component
+         * @return the query result or {@code null} if the given string is
+         *         not a query or no result is available
          * @throws IllegalFormatCodePointException if no separator was found
-         * @throws ClassNotFoundException          if the provided class was not found
+         * @throws IllegalArgumentException if the class or method of the query
+         *                                  does not exist
+         * @since 0.0.2
          */
-        private void parseStatement() throws ClassNotFoundException {
-            if (data == null || data.charAt(0) != indicator) {
-                return;
-            }
-
-            int pos = data.indexOf(separator);
-            if (pos == -1) {
-                throw new IllegalFormatCodePointException(separator);
-            }
-
-            String className = data.substring(1, pos);
-            argument = data.substring(pos + 1);
-
-            if (className.equals(UIManager.class.getSimpleName())) {
-                cls = UIManager.class;
-            } else {
-                cls = Class.forName((String) argument);
-                for (Method method : cls.getMethods()) {
-                    if (method.getName().equals(argument)) {
-                        target = method;
-                        break;
-                    }
-                }
-                argument = target.getParameterCount() == 0 ? null : component;
-            }
+        public static String evaluate(String data, Object component) {
+            return isQuery(data) ? QueryCompiler.compile(data).apply(component) : null;
         }
 
         /**
-         * Fetches a result.
+         * Fetches a result. Results of {@code UIManager} queries are cached
+         * until the look and feel changes.
          *
          * @return a result
          */
         @Override
-        public synchronized String get() {
-            String result = null;
-            try {
-                if (cls == UIManager.class) {
-                    result = UIManager.getString(argument);
-                } else {
-                    if (target != null) {
-                        // Extra temp argument is necessary, because we don't
-                        // want a NPE to be thrown.
-                        Object temp = null;
-                        if (argument == null) {
-                            temp = target.invoke(null);
-                        } else {
-                            temp = target.invoke(null, argument);
-                        }
-                        if (temp != null) {
-                            result = temp.toString();
-                        }
-                    }
-                }
-            } catch (ReflectiveOperationException e) {
-                System.err.println(getClass().getSimpleName() + ": " + e.toString());
-            }
-            return result;
+        public String get() {
+            return compiled == null ? null : compiled.apply(component);
         }
     }
 
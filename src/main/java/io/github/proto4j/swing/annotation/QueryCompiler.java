@@ -0,0 +1,334 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing.annotation; //@date 18.10.2026
+
+import javax.swing.*;
+import java.beans.PropertyChangeListener;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.IllegalFormatCodePointException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compiles {@link Option.Query} strings into cached functions. Every distinct
+ * query string is parsed only once per context class loader:
+ * <ul>
+ *     <li>{@code UIManager#key} queries memoize their value until the look
+ *     and feel or one of the {@link UIManager} defaults is changed.</li>
+ *     <li>{@code class#method} queries are bound to a {@link MethodHandle}
+ *     of the static method.</li>
+ * </ul>
+ * Compiled method queries are owned by the class declaring the method, so
+ * they are discarded together with it. The lookup by context class loader
+ * and query string only references them weakly and never keeps a class
+ * loader alive. Neither the lookup nor the evaluation of a compiled query
+ * acquires a lock.
+ * <p>
+ * A query referring to a class or method that does not exist fails only
+ * once with an {@link IllegalArgumentException}. Afterwards, the query is
+ * compiled to a function that always returns {@code null}.
+ *
+ * @see Option.Query
+ * @since 0.0.2
+ */
+final class QueryCompiler {
+
+    // compiled queries per context class loader (weakly referenced, see METHODS)
+    private static final Map<LoaderKey, Map<String, WeakReference<Compiled>>> CACHE =
+            new ConcurrentHashMap<>();
+
+    // compiled queries if there is no context class loader
+    private static final Map<String, WeakReference<Compiled>> BOOTSTRAP =
+            new ConcurrentHashMap<>();
+
+    // keys of class loaders that have been collected
+    private static final ReferenceQueue<ClassLoader> COLLECTED = new ReferenceQueue<>();
+
+    // compiled class#method queries owned by the class declaring the method
+    private static final ClassValue<Map<String, Compiled>> METHODS = new ClassValue<>() {
+        @Override
+        protected Map<String, Compiled> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    // compiled UIManager#key queries; they only reference the key string
+    private static final Map<String, Compiled> DEFAULTS = new ConcurrentHashMap<>();
+
+    // result of queries whose class or method does not exist
+    private static final Compiled MISSING = component -> null;
+
+    private static final MethodType QUERY_TYPE =
+            MethodType.methodType(Object.class, Object.class);
+
+    // incremented on every look and feel or defaults change
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    // used to register the UIManager listeners only once
+    private static volatile boolean listening;
+
+    private QueryCompiler() {}
+
+    /**
+     * A compiled query.
+     */
+    interface Compiled {
+        String apply(Object component);
+    }
+
+    /**
+     * Returns the compiled form of the given query.
+     *
+     * @param query the query string
+     * @return the cached compiled query
+     * @throws IllegalFormatCodePointException if no separator was found
+     * @throws IllegalArgumentException if the class or method of the query
+     *                                  does not exist; only thrown by the
+     *                                  first call with the given query
+     */
+    static Compiled compile(String query) throws IllegalFormatCodePointException {
+        ClassLoader                          loader  = Thread.currentThread().getContextClassLoader();
+        Map<String, WeakReference<Compiled>> queries = queries(loader);
+
+        WeakReference<Compiled> ref      = queries.get(query);
+        Compiled                compiled = ref != null ? ref.get() : null;
+        if (compiled == null) {
+            // Queries without separator are not cached, so they fail on every call
+            try {
+                compiled = parse(query, loader);
+            } catch (ReflectiveOperationException e) {
+                queries.put(query, new WeakReference<>(MISSING));
+                throw new IllegalArgumentException("Invalid query: " + query, e);
+            }
+            queries.put(query, new WeakReference<>(compiled));
+        }
+        return compiled;
+    }
+
+    private static Map<String, WeakReference<Compiled>> queries(ClassLoader loader) {
+        if (loader == null) {
+            return BOOTSTRAP;
+        }
+
+        Map<String, WeakReference<Compiled>> queries = CACHE.get(new LoaderKey(loader, null));
+        if (queries == null) {
+            for (Reference<?> key; (key = COLLECTED.poll()) != null; ) {
+                CACHE.remove(key);
+            }
+            queries = CACHE.computeIfAbsent(new LoaderKey(loader, COLLECTED),
+                                            key -> new ConcurrentHashMap<>());
+        }
+        return queries;
+    }
+
+    private static Compiled parse(String query, ClassLoader loader) throws ReflectiveOperationException {
+        int pos = query.indexOf(Option.Query.separator);
+        if (pos == -1) {
+            throw new IllegalFormatCodePointException(Option.Query.separator);
+        }
+
+        String className = query.substring(1, pos);
+        String argument  = query.substring(pos + 1);
+        if (className.equals(UIManager.class.getSimpleName())) {
+            ensureListening();
+            return DEFAULTS.computeIfAbsent(argument, UIManagerQuery::new);
+        }
+
+        Class<?> cls      = loadClass(className, loader);
+        Compiled compiled = METHODS.get(cls).computeIfAbsent(argument, name -> {
+            MethodHandle handle = findMethod(cls, name);
+            return handle == null ? MISSING : new MethodQuery(handle);
+        });
+        if (compiled == MISSING) {
+            throw new NoSuchMethodException(cls.getName() + '.' + argument);
+        }
+        return compiled;
+    }
+
+    private static Class<?> loadClass(String name, ClassLoader loader) throws ClassNotFoundException {
+        if (loader != null) {
+            try {
+                return Class.forName(name, true, loader);
+            } catch (ClassNotFoundException e) {
+                // try the loader of this module
+            }
+        }
+        return Class.forName(name);
+    }
+
+    private static MethodHandle findMethod(Class<?> cls, String name) {
+        for (Method method : cls.getMethods()) {
+            if (!method.getName().equals(name)
+                    || !Modifier.isStatic(method.getModifiers())
+                    || method.getParameterCount() > 1) {
+                continue;
+            }
+
+            MethodHandle handle = unreflect(method);
+            if (handle == null) {
+                return null;
+            }
+
+            if (method.getParameterCount() == 0) {
+                // the component is not passed to the method
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(QUERY_TYPE);
+        }
+        return null;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            // not accessible without suppressing the access checks
+        }
+
+        try {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void ensureListening() {
+        if (listening) {
+            return;
+        }
+
+        synchronized (QueryCompiler.class) {
+            if (!listening) {
+                PropertyChangeListener listener = event -> GENERATION.incrementAndGet();
+                UIManager.addPropertyChangeListener(event -> {
+                    if ("lookAndFeel".equals(event.getPropertyName())) {
+                        GENERATION.incrementAndGet();
+                    }
+                });
+                UIManager.getDefaults().addPropertyChangeListener(listener);
+                listening = true;
+            }
+        }
+    }
+
+    /**
+     * Queries the {@link UIManager} and keeps the result until the look and
+     * feel changes.
+     */
+    private static final class UIManagerQuery implements Compiled {
+
+        private final String key;
+
+        // replaced as a whole, so no lock is needed
+        private volatile Value value;
+
+        UIManagerQuery(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public String apply(Object component) {
+            int   current = GENERATION.get();
+            Value cached  = value;
+            if (cached == null || cached.generation != current) {
+                cached = value = new Value(current, UIManager.getString(key));
+            }
+            return cached.result;
+        }
+    }
+
+    private static final class Value {
+        final int    generation;
+        final String result;
+
+        Value(int generation, String result) {
+            this.generation = generation;
+            this.result     = result;
+        }
+    }
+
+    /**
+     * Invokes a static method with an optional component argument.
+     */
+    private static final class MethodQuery implements Compiled {
+
+        private final MethodHandle handle;
+
+        MethodQuery(MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public String apply(Object component) {
+            try {
+                Object result = (Object) handle.invokeExact(component);
+                return result == null ? null : result.toString();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Could not evaluate query", t);
+            }
+        }
+    }
+
+    /**
+     * Weakly references a class loader and compares it by identity.
+     */
+    private static final class LoaderKey extends WeakReference<ClassLoader> {
+
+        private final int hash;
+
+        LoaderKey(ClassLoader loader, ReferenceQueue<ClassLoader> queue) {
+            super(loader, queue);
+            this.hash = System.identityHashCode(loader);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof LoaderKey)) {
+                return false;
+            }
+            Object loader = get();
+            return loader != null && loader == ((LoaderKey) obj).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,717 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.proto4j.swing.core; //@date 18.10.2026
+
+import io.github.proto4j.swing.FieldReference;
+import io.github.proto4j.swing.annotation.AnnotationContext;
+import io.github.proto4j.swing.laf.LAFProvider;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * A persistent store for {@link GUIBlueprint}s. If {@link #DIRECTORY_PROPERTY}
+ * points to a directory, every computed blueprint is written to a compact
+ * binary file in that directory and read again on the next start of the
+ * application. The file contains the resolved component plan (names,
+ * component numbers, providers, targets and 'init' methods) together with
+ * the attribute values of all handled annotations, so the per-attribute
+ * reflection of the first generation is skipped.
+ * <p>
+ * Each file is keyed by a checksum of the GUI's class file and a checksum of
+ * the class files of this library. A file whose checksums or format do not
+ * match is considered stale: the blueprint is computed again and the file is
+ * replaced. The cache is disabled by default.
+ * <p>
+ * <b>Note:</b> The {@link SwingHandler}s are still resolved at runtime, so
+ * handlers registered after a file was written are used as well. Handlers
+ * of annotations with stored values receive an annotation instance backed by
+ * these values, so the annotations of a stored GUI are only read if one of
+ * their values could not be stored.
+ *
+ * @see GUIBlueprint#of(Class)
+ * @since 0.0.2
+ */
+public final class BlueprintCache {
+
+    /**
+     * The system property defining the cache directory.
+     */
+    public static final String DIRECTORY_PROPERTY = "proto4j.swing.blueprint.cache";
+
+    /**
+     * The file extension of stored blueprints.
+     */
+    public static final String EXTENSION = ".blueprint";
+
+    /**
+     * The resource containing the checksum of the library's class files,
+     * which is generated by the build.
+     */
+    static final String CHECKSUM_RESOURCE = "META-INF/proto4j-swing.checksum";
+
+    private static final int   MAGIC   = 0x50344250; // P4BP
+    private static final short VERSION = 3;
+
+    // the values of an annotation record follow
+    private static final byte STORED   = 1;
+    // the annotation is read from the element
+    private static final byte RESOLVED = 0;
+
+    private static final Path DIRECTORY;
+
+    static {
+        String path = System.getProperty(DIRECTORY_PROPERTY);
+        Path directory = null;
+        if (path != null && !path.isBlank()) {
+            try {
+                directory = Paths.get(path);
+            } catch (InvalidPathException e) {
+                // the cache stays disabled
+            }
+        }
+        DIRECTORY = directory;
+    }
+
+    private static final LongAdder hits   = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private BlueprintCache() {}
+
+    /**
+     * @return {@code true} if {@link #DIRECTORY_PROPERTY} defines a cache
+     *         directory
+     */
+    public static boolean isEnabled() {
+        return DIRECTORY != null;
+    }
+
+    /**
+     * @return the cache directory or {@code null} if the cache is disabled
+     */
+    public static Path getDirectory() {
+        return DIRECTORY;
+    }
+
+    /**
+     * @return the amount of blueprints that were read from the cache
+     */
+    public static long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the amount of blueprints that were missing or stale
+     */
+    public static long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Deletes all stored blueprints. Blueprints that are already loaded are
+     * not affected, see {@link GUIBlueprint#evict(Class)}.
+     *
+     * @throws IOException if a file could not be deleted
+     */
+    public static void clear() throws IOException {
+        if (DIRECTORY == null || !Files.isDirectory(DIRECTORY)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(DIRECTORY, "*" + EXTENSION)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    //---------------------------------------------------------------------
+    // Loading
+    //---------------------------------------------------------------------
+
+    // Returns null if the cache is disabled or the stored blueprint is
+    // missing or stale.
+    static <G> GUIBlueprint<G> load(Class<G> type) {
+        if (DIRECTORY == null) {
+            return null;
+        }
+
+        long checksum = checksum(type);
+        Path file     = fileOf(type);
+        if (checksum == 0 || Library.CHECKSUM == 0 || !Files.isRegularFile(file)) {
+            misses.increment();
+            return null;
+        }
+
+        // Read with a plain stream: in a fresh VM, opening a file channel
+        // costs more than reading the whole file.
+        try (InputStream in = new FileInputStream(file.toFile())) {
+            ByteBuffer buffer = ByteBuffer.wrap(in.readAllBytes());
+            List<GUIBlueprint.Slot> slots = read(type, checksum, buffer);
+            if (slots != null) {
+                hits.increment();
+                return GUIBlueprint.create(type, slots);
+            }
+        } catch (IOException | RuntimeException | ReflectiveOperationException | LinkageError e) {
+            // A corrupted or outdated file is treated like a stale one
+        }
+        misses.increment();
+        return null;
+    }
+
+    private static List<GUIBlueprint.Slot> read(Class<?> type, long checksum, ByteBuffer buffer)
+            throws ReflectiveOperationException {
+        if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION
+                || buffer.getLong() != checksum
+                || buffer.getLong() != Library.CHECKSUM
+                || !type.getName().equals(readString(buffer))) {
+            return null;
+        }
+
+        ClassLoader loader = type.getClassLoader();
+        Map<String, Field> fields = new HashMap<>();
+        for (Field field : type.getDeclaredFields()) {
+            fields.put(field.getName(), field);
+        }
+
+        int count = buffer.getInt();
+        List<GUIBlueprint.Slot> slots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = readString(buffer);
+            AnnotatedElement element = FieldReference.THIS.equals(name) ? type : fields.get(name);
+            if (element == null) {
+                throw new NoSuchFieldException(name);
+            }
+
+            int id = buffer.getInt();
+            Class<? extends LAFProvider> provider =
+                    Class.forName(readString(buffer), false, loader).asSubclass(LAFProvider.class);
+            boolean nested     = buffer.get() != 0;
+            boolean lazy       = buffer.get() != 0;
+            String  targetName = readString(buffer);
+            String  initName   = readString(buffer);
+
+            // one record per declared annotation, together with the
+            // attribute values of the annotations that were handled when
+            // this file was written
+            int records = buffer.getInt();
+            List<GUIBlueprint.Handle> handles = new ArrayList<>(records);
+            for (int j = 0; j < records; j++) {
+                Class<? extends Annotation> annotation =
+                        Class.forName(readString(buffer), false, loader).asSubclass(Annotation.class);
+                String[] names = null;
+                Object[] array = null;
+                if (buffer.get() == STORED) {
+                    names = new String[buffer.getInt()];
+                    array = new Object[names.length];
+                    for (int k = 0; k < names.length; k++) {
+                        names[k] = readString(buffer);
+                        array[k] = readValue(buffer, loader);
+                    }
+                }
+
+                // Handlers may have been registered since the file was
+                // written, so they are looked up again.
+                SwingHandler handler = SwingHandler.CACHE.getByKeyOrDefault(annotation, null);
+                if (handler == null) {
+                    continue;
+                }
+                handles.add(names == null
+                        ? new GUIBlueprint.Handle(handler, AnnotationContext.exchange(annotation, element))
+                        : new GUIBlueprint.Handle(handler, new StoredContext<>(annotation, element, names, array),
+                                                  names, array));
+            }
+
+            slots.add(new GUIBlueprint.Slot(element, name, id, provider, nested, lazy,
+                                            handles.toArray(GUIBlueprint.Handle[]::new),
+                                            targetName, initName));
+        }
+        return buffer.hasRemaining() ? null : slots;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Object readValue(ByteBuffer buffer, ClassLoader loader)
+            throws ReflectiveOperationException {
+        byte tag = buffer.get();
+        switch (tag) {
+            case 'Z': return buffer.get() != 0;
+            case 'B': return buffer.get();
+            case 'C': return buffer.getChar();
+            case 'S': return buffer.getShort();
+            case 'I': return buffer.getInt();
+            case 'J': return buffer.getLong();
+            case 'F': return buffer.getFloat();
+            case 'D': return buffer.getDouble();
+            case 's': return readString(buffer);
+            case 'c': return classForName(readString(buffer), loader);
+            case 'e': return enumConstant(classForName(readString(buffer), loader), readString(buffer));
+            case '[': {
+                Class<?> component = classForName(readString(buffer), loader);
+                Object   array     = Array.newInstance(component, buffer.getInt());
+                for (int i = 0; i < Array.getLength(array); i++) {
+                    Array.set(array, i, readValue(buffer, loader));
+                }
+                return array;
+            }
+            default:
+                throw new IllegalStateException("Unknown value tag: " + tag);
+        }
+    }
+
+    private static Object enumConstant(Class<?> type, String name) {
+        for (Object constant : type.asSubclass(Enum.class).getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(name)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("No enum constant " + type.getName() + "." + name);
+    }
+
+    private static Class<?> classForName(String name, ClassLoader loader)
+            throws ClassNotFoundException {
+        switch (name) {
+            case "boolean": return boolean.class;
+            case "byte":    return byte.class;
+            case "char":    return char.class;
+            case "short":   return short.class;
+            case "int":     return int.class;
+            case "long":    return long.class;
+            case "float":   return float.class;
+            case "double":  return double.class;
+            case "void":    return void.class;
+            default:        return Class.forName(name, false, loader);
+        }
+    }
+
+    //---------------------------------------------------------------------
+    // Storing
+    //---------------------------------------------------------------------
+
+    static void store(GUIBlueprint<?> blueprint) {
+        if (DIRECTORY == null) {
+            return;
+        }
+
+        Class<?> type     = blueprint.getType();
+        long     checksum = checksum(type);
+        if (checksum == 0 || Library.CHECKSUM == 0) {
+            return;
+        }
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+            DataOutputStream      out   = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(checksum);
+            out.writeLong(Library.CHECKSUM);
+            writeString(out, type.getName());
+
+            out.writeInt(blueprint.getSlots().size());
+            for (GUIBlueprint.Slot slot : blueprint.getSlots()) {
+                writeSlot(out, slot);
+            }
+            out.flush();
+
+            // Written to a temporary file first, so a concurrent reader never
+            // sees a partial blueprint.
+            Files.createDirectories(DIRECTORY);
+            Path temp = Files.createTempFile(DIRECTORY, type.getName(), ".tmp");
+            try {
+                Files.write(temp, bytes.toByteArray());
+                moveTo(temp, fileOf(type));
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException | RuntimeException e) {
+            // the blueprint is computed again on the next start
+        }
+    }
+
+    private static void moveTo(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void writeSlot(DataOutputStream out, GUIBlueprint.Slot slot) throws IOException {
+        writeString(out, slot.getName());
+        out.writeInt(slot.getId());
+        writeString(out, slot.getProviderType().getName());
+        out.writeBoolean(slot.isNested());
+        out.writeBoolean(slot.isLazy());
+        writeString(out, slot.getTargetName());
+        writeString(out, slot.getInitName());
+
+        // Annotations without a handler and annotations with values that
+        // can't be stored (e.g. nested annotations) are read from the
+        // element again.
+        Annotation[] annotations = slot.getElement().getDeclaredAnnotations();
+        out.writeInt(annotations.length);
+        for (Annotation annotation : annotations) {
+            writeString(out, annotation.annotationType().getName());
+
+            ByteArrayOutputStream bytes  = new ByteArrayOutputStream(128);
+            DataOutputStream      record = new DataOutputStream(bytes);
+            GUIBlueprint.Handle   handle = handleOf(slot, annotation.annotationType());
+            if (handle != null && writeRecord(record, handle)) {
+                record.flush();
+                out.writeByte(STORED);
+                out.write(bytes.toByteArray());
+            } else {
+                out.writeByte(RESOLVED);
+            }
+        }
+    }
+
+    private static GUIBlueprint.Handle handleOf(GUIBlueprint.Slot slot, Class<? extends Annotation> type) {
+        for (GUIBlueprint.Handle handle : slot.handles()) {
+            if (handle.context.annotationType() == type) {
+                return handle;
+            }
+        }
+        return null;
+    }
+
+    private static boolean writeRecord(DataOutputStream out, GUIBlueprint.Handle handle)
+            throws IOException {
+        out.writeInt(handle.names.length);
+        for (int i = 0; i < handle.names.length; i++) {
+            writeString(out, handle.names[i]);
+            if (!writeValue(out, handle.values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof Boolean) {
+            out.writeByte('Z');
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            out.writeByte('B');
+            out.writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            out.writeByte('C');
+            out.writeChar((Character) value);
+        } else if (value instanceof Short) {
+            out.writeByte('S');
+            out.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            out.writeByte('I');
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte('J');
+            out.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            out.writeByte('F');
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte('D');
+            out.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            out.writeByte('s');
+            writeString(out, (String) value);
+        } else if (value instanceof Class) {
+            out.writeByte('c');
+            writeString(out, ((Class<?>) value).getName());
+        } else if (value instanceof Enum) {
+            out.writeByte('e');
+            writeString(out, ((Enum<?>) value).getDeclaringClass().getName());
+            writeString(out, ((Enum<?>) value).name());
+        } else if (value != null && value.getClass().isArray()) {
+            out.writeByte('[');
+            writeString(out, value.getClass().getComponentType().getName());
+            int length = Array.getLength(value);
+            out.writeInt(length);
+            for (int i = 0; i < length; i++) {
+                if (!writeValue(out, Array.get(value, i))) {
+                    return false;
+                }
+            }
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    //---------------------------------------------------------------------
+    // Keys
+    //---------------------------------------------------------------------
+
+    private static Path fileOf(Class<?> type) {
+        return DIRECTORY.resolve(type.getName() + EXTENSION);
+    }
+
+    // The checksum of the class file or 0 if it is not available, e.g. for
+    // generated classes.
+    private static long checksum(Class<?> type) {
+        String name = type.getName();
+        try (InputStream in = type.getResourceAsStream(
+                name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+            if (in == null) {
+                return 0;
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(in.readAllBytes());
+            return crc.getValue() | 1L << 32;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Computes the checksum of the class files in the given jar file or
+     * output directory.
+     *
+     * @param location the jar file or the directory containing the classes
+     * @return the checksum; never {@code 0}
+     * @throws IOException if an I/O error occurs
+     */
+    static long checksumOf(Path location) throws IOException {
+        CRC32 crc = new CRC32();
+        if (!Files.isDirectory(location)) {
+            crc.update(Files.readAllBytes(location));
+            return crc.getValue() | 1L << 32;
+        }
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(location)) {
+            files = stream.filter(file -> file.toString().endsWith(".class"))
+                          .sorted()
+                          .collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            String name = location.relativize(file).toString().replace(File.separatorChar, '/');
+            crc.update(name.getBytes(StandardCharsets.UTF_8));
+            crc.update(Files.readAllBytes(file));
+        }
+        return crc.getValue() | 1L << 32;
+    }
+
+    /**
+     * The context of an annotation whose values were read from a stored
+     * blueprint. The annotation instance is a proxy returning these values,
+     * so the annotations of the element are not parsed. Attributes without a
+     * stored value are read from the annotation of the element.
+     */
+    private static final class StoredContext<A extends Annotation> extends AnnotationContext<A>
+            implements InvocationHandler {
+
+        private final AnnotatedElement element;
+        private final String[]         names;
+        private final Object[]         values;
+
+        // created on first use; proxies are immutable, so a race only
+        // creates a duplicate
+        private volatile A value;
+
+        StoredContext(Class<A> type, AnnotatedElement element, String[] names, Object[] values) {
+            super(type);
+            this.element = element;
+            this.names   = names;
+            this.values  = values;
+        }
+
+        @Override
+        public A annotationValue() {
+            A value = this.value;
+            if (value == null) {
+                try {
+                    value = annotationType().cast(Proxy.newProxyInstance(
+                            annotationType().getClassLoader(), new Class<?>[]{annotationType()}, this));
+                } catch (IllegalArgumentException e) {
+                    // e.g. the annotation type is not accessible
+                    value = element.getDeclaredAnnotation(annotationType());
+                }
+                this.value = value;
+            }
+            return value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public A[] toArray() {
+            A[] array = (A[]) Array.newInstance(annotationType(), 1);
+            array[0] = annotationValue();
+            return array;
+        }
+
+        @Override
+        public boolean isPresent() {
+            return true;
+        }
+
+        @Override
+        public void requireNonNull() {}
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (args != null && args.length == 1 && name.equals("equals")) {
+                return equalTo(args[0]);
+            }
+            switch (name) {
+                case "annotationType": return annotationType();
+                case "hashCode":       return hash();
+                case "toString":       return toString();
+            }
+
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    return copy(values[i]);
+                }
+            }
+            try {
+                return method.invoke(element.getDeclaredAnnotation(annotationType()), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        // see Annotation#equals(Object)
+        private boolean equalTo(Object other) {
+            if (!annotationType().isInstance(other)) {
+                return false;
+            }
+            for (int i = 0; i < names.length; i++) {
+                try {
+                    Method method = annotationType().getDeclaredMethod(names[i]);
+                    if (!Objects.deepEquals(values[i], method.invoke(other))) {
+                        return false;
+                    }
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // see Annotation#hashCode()
+        private int hash() {
+            int hash = 0;
+            for (int i = 0; i < names.length; i++) {
+                // the hash code of the value, or Arrays.hashCode for arrays
+                int value = Arrays.deepHashCode(new Object[]{values[i]}) - 31;
+                hash += (127 * names[i].hashCode()) ^ value;
+            }
+            return hash;
+        }
+
+        private static Object copy(Object value) {
+            if (value == null || !value.getClass().isArray()) {
+                return value;
+            }
+            int    length = Array.getLength(value);
+            Object array  = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, array, 0, length);
+            return array;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("@").append(annotationType().getName()).append('(');
+            for (int i = 0; i < names.length; i++) {
+                String value = Arrays.deepToString(new Object[]{values[i]});
+                builder.append(i == 0 ? "" : ", ").append(names[i]).append('=')
+                       .append(value, 1, value.length() - 1);
+            }
+            return builder.append(')').toString();
+        }
+    }
+
+    // Annotation defaults and handlers are part of the library, so every
+    // other build of it invalidates all stored blueprints.
+    private static final class Library {
+        static final long CHECKSUM = checksum();
+
+        // The checksum written by the build (see LibraryChecksumGenerator).
+        // Without it, e.g. when running from an IDE, it is computed from the
+        // class files of the library once; 0 if they can not be found.
+        private static long checksum() {
+            try (InputStream in = BlueprintCache.class.getResourceAsStream("/" + CHECKSUM_RESOURCE)) {
+                if (in != null) {
+                    return new DataInputStream(in).readLong();
+                }
+
+                CodeSource source = BlueprintCache.class.getProtectionDomain().getCodeSource();
+                if (source == null || source.getLocation() == null) {
+                    return 0;
+                }
+                return checksumOf(Paths.get(source.getLocation().toURI()));
+            } catch (IOException | URISyntaxException | RuntimeException e) {
+                return 0;
+            }
+        }
+    }
+}
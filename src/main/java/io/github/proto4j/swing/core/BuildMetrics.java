@@ -0,0 +1,298 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing.core; //@date 18.10.2026
+
+import io.github.proto4j.swing.Entry;
+import io.github.proto4j.swing.laf.LAFProvider;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * The timings of a single {@link Entry} generation. All values are measured
+ * in nanoseconds with {@link System#nanoTime()}.
+ * <p>
+ * Metrics are only recorded if at least one {@link EntryBuildListener} is
+ * registered. Otherwise, {@link #begin(Class)} returns {@code null} and the
+ * generation process skips every measurement, so there is no overhead except
+ * a single volatile read per entry.
+ * <p>
+ * The reflective path reports all phases together with the time spent on
+ * each field and each {@link SwingHandler}. Generated {@link GUIBinder}s
+ * report the same values, except for the {@link Phase#INIT} phase, which is
+ * part of {@link Phase#LINK} there.
+ * <p>
+ * Instances are not thread-safe and are only modified by the thread that
+ * generates the entry.
+ *
+ * @see EntryBuildListener
+ * @see BuildStatistics
+ * @since 0.0.2
+ */
+public final class BuildMetrics {
+
+    /**
+     * The system property defining the amount of fields and handlers that are
+     * printed to {@link System#err} at shutdown. If defined, a
+     * {@link BuildStatistics} listener is registered automatically.
+     */
+    public static final String TOP_PROPERTY = "proto4j.swing.metrics.top";
+
+    /**
+     * The phases of the generation process.
+     */
+    public enum Phase {
+        /**
+         * Creation of the GUI instance.
+         */
+        INSTANCE,
+
+        /**
+         * Creation of the components by the {@link LAFProvider}, including
+         * the generation of nested GUIs.
+         */
+        COMPONENTS,
+
+        /**
+         * Creation of the descriptions and the {@link SwingHandler} calls.
+         */
+        HANDLERS,
+
+        /**
+         * Calls to the 'init' methods of the {@code @Option} annotations.
+         */
+        INIT,
+
+        /**
+         * Linking the components to their target components.
+         */
+        LINK
+    }
+
+    private static final Object LOCK = new Object();
+
+    private static volatile EntryBuildListener[] listeners = loadListeners();
+
+    private final Class<?> type;
+    private final long     start;
+    private final long[]   phases = new long[Phase.values().length];
+
+    private final List<Timing> fields   = new ArrayList<>();
+    private final List<Timing> handlers = new ArrayList<>();
+
+    private long duration = -1;
+
+    private BuildMetrics(Class<?> type) {
+        this.type  = type;
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * Starts recording the generation of the given GUI type.
+     *
+     * @param type the GUI's type
+     * @return a new instance or {@code null} if no listener is registered
+     * @throws NullPointerException if the given type is {@code null}
+     */
+    public static BuildMetrics begin(Class<?> type) throws NullPointerException {
+        Objects.requireNonNull(type);
+        return listeners.length == 0 ? null : new BuildMetrics(type);
+    }
+
+    /**
+     * @return {@code true} if at least one listener is registered
+     */
+    public static boolean isEnabled() {
+        return listeners.length != 0;
+    }
+
+    /**
+     * Registers the given listener. If the listener is already registered, no
+     * action is taken.
+     *
+     * @param listener the listener to add
+     * @throws NullPointerException if the given listener is {@code null}
+     */
+    public static void addListener(EntryBuildListener listener) throws NullPointerException {
+        Objects.requireNonNull(listener);
+        synchronized (LOCK) {
+            List<EntryBuildListener> list = new ArrayList<>(Arrays.asList(listeners));
+            if (!list.contains(listener)) {
+                list.add(listener);
+                listeners = list.toArray(EntryBuildListener[]::new);
+            }
+        }
+    }
+
+    /**
+     * Removes the given listener. If no listener is left, the recording is
+     * disabled.
+     *
+     * @param listener the listener to remove
+     */
+    public static void removeListener(EntryBuildListener listener) {
+        if (listener == null) {
+            return;
+        }
+
+        synchronized (LOCK) {
+            List<EntryBuildListener> list = new ArrayList<>(Arrays.asList(listeners));
+            if (list.remove(listener)) {
+                listeners = list.toArray(EntryBuildListener[]::new);
+            }
+        }
+    }
+
+    private static EntryBuildListener[] loadListeners() {
+        List<EntryBuildListener> list = new ArrayList<>();
+        try {
+            for (EntryBuildListener listener : ServiceLoader.load(EntryBuildListener.class)) {
+                list.add(listener);
+            }
+        } catch (ServiceConfigurationError e) {
+            // the generation should not fail because of a broken listener
+        }
+
+        int top = Integer.getInteger(TOP_PROPERTY, 0);
+        if (top > 0) {
+            BuildStatistics statistics = new BuildStatistics();
+            list.add(statistics);
+            Runtime.getRuntime().addShutdownHook(
+                    new Thread(() -> statistics.print(System.err, top), "proto4j-metrics"));
+        }
+        return list.toArray(EntryBuildListener[]::new);
+    }
+
+    /**
+     * Finishes the recording and informs all registered listeners. This
+     * method does nothing if the given metrics are {@code null}.
+     *
+     * @param metrics the recorded metrics or {@code null}
+     */
+    public static void complete(BuildMetrics metrics) {
+        if (metrics == null) {
+            return;
+        }
+
+        metrics.duration = System.nanoTime() - metrics.start;
+        for (EntryBuildListener listener : listeners) {
+            listener.entryBuilt(metrics);
+        }
+    }
+
+    void addPhase(Phase phase, long nanos) {
+        phases[phase.ordinal()] += nanos;
+    }
+
+    void addField(String field, long nanos) {
+        fields.add(new Timing(field, null, nanos));
+    }
+
+    void addHandler(String field, Class<? extends Annotation> annotation, long nanos) {
+        handlers.add(new Timing(field, annotation, nanos));
+    }
+
+    /**
+     * @return The GUI's type
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return the time spent on the whole generation or {@code -1} if the
+     *         generation is not completed yet
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * @param phase the phase
+     * @return the time spent in the given phase
+     */
+    public long getPhaseTime(Phase phase) {
+        return phases[phase.ordinal()];
+    }
+
+    /**
+     * @return the time spent on each field in creation order
+     */
+    public List<Timing> getFieldTimings() {
+        return Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * @return the time spent on each {@link SwingHandler} call in creation
+     *         order
+     */
+    public List<Timing> getHandlerTimings() {
+        return Collections.unmodifiableList(handlers);
+    }
+
+    /**
+     * A single measured field or handler call.
+     */
+    public static final class Timing {
+
+        private final String                      field;
+        private final Class<? extends Annotation> annotationType;
+        private final long                        nanos;
+
+        Timing(String field, Class<? extends Annotation> annotationType, long nanos) {
+            this.field          = field;
+            this.annotationType = annotationType;
+            this.nanos          = nanos;
+        }
+
+        /**
+         * @return The field's name
+         */
+        public String getField() {
+            return field;
+        }
+
+        /**
+         * @return the annotation type of the handler or {@code null} if this
+         *         timing belongs to a field
+         */
+        public Class<? extends Annotation> getAnnotationType() {
+            return annotationType;
+        }
+
+        /**
+         * @return the measured time in nanoseconds
+         */
+        public long getTime() {
+            return nanos;
+        }
+    }
+}
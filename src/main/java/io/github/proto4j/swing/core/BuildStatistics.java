@@ -0,0 +1,211 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing.core; //@date 18.10.2026
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link EntryBuildListener} that sums up the timings of all generated
+ * entries per field and per handler. It can be used to find the slowest
+ * parts of a GUI, for example:
+ * <pre>
+ *     BuildStatistics statistics = new BuildStatistics();
+ *     BuildMetrics.addListener(statistics);
+ *     Entry&lt;MyGUI&gt; entry = Entry.of(MyGUI.class);
+ *     statistics.print(System.out, 10);
+ * </pre>
+ * Fields are named {@code GUIClass.field} and handlers are named
+ * {@code GUIClass.field@Annotation}.
+ *
+ * @see BuildMetrics#TOP_PROPERTY
+ * @since 0.0.2
+ */
+public class BuildStatistics implements EntryBuildListener {
+
+    private final Map<String, Stat> phases   = new ConcurrentHashMap<>();
+    private final Map<String, Stat> fields   = new ConcurrentHashMap<>();
+    private final Map<String, Stat> handlers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates new empty statistics. They have to be registered with
+     * {@link BuildMetrics#addListener(EntryBuildListener)} to receive the
+     * timings of generated entries.
+     */
+    public BuildStatistics() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void entryBuilt(BuildMetrics metrics) {
+        Objects.requireNonNull(metrics);
+
+        String type = metrics.getType().getName();
+        stat(phases, type).add(metrics.getDuration());
+        for (BuildMetrics.Timing timing : metrics.getFieldTimings()) {
+            stat(fields, type + "." + timing.getField()).add(timing.getTime());
+        }
+        for (BuildMetrics.Timing timing : metrics.getHandlerTimings()) {
+            stat(handlers, type + "." + timing.getField() + "@"
+                    + timing.getAnnotationType().getSimpleName()).add(timing.getTime());
+        }
+    }
+
+    private static Stat stat(Map<String, Stat> map, String name) {
+        return map.computeIfAbsent(name, Stat::new);
+    }
+
+    /**
+     * @param n the maximum amount of results
+     * @return the GUI types with the highest total generation time
+     */
+    public List<Stat> getSlowestEntries(int n) {
+        return top(phases, n);
+    }
+
+    /**
+     * @param n the maximum amount of results
+     * @return the fields with the highest total time
+     */
+    public List<Stat> getSlowestFields(int n) {
+        return top(fields, n);
+    }
+
+    /**
+     * @param n the maximum amount of results
+     * @return the handler calls with the highest total time
+     */
+    public List<Stat> getSlowestHandlers(int n) {
+        return top(handlers, n);
+    }
+
+    private static List<Stat> top(Map<String, Stat> map, int n) {
+        List<Stat> list = new ArrayList<>(map.values());
+        list.sort(Comparator.comparingLong(Stat::getTotalTime).reversed());
+        return list.size() > n ? new ArrayList<>(list.subList(0, Math.max(0, n))) : list;
+    }
+
+    /**
+     * Prints the {@code n} slowest entries, fields and handlers to the given
+     * stream.
+     *
+     * @param out the output stream
+     * @param n the maximum amount of results per category
+     * @throws NullPointerException if the given stream is {@code null}
+     */
+    public void print(PrintStream out, int n) throws NullPointerException {
+        Objects.requireNonNull(out);
+
+        print(out, "entries", getSlowestEntries(n));
+        print(out, "fields", getSlowestFields(n));
+        print(out, "handlers", getSlowestHandlers(n));
+        out.flush();
+    }
+
+    private static void print(PrintStream out, String title, List<Stat> stats) {
+        out.printf("Top %d %s (total ms / count / avg us / max us):%n", stats.size(), title);
+        for (Stat stat : stats) {
+            out.printf("  %10.3f %8d %10.1f %10.1f  %s%n",
+                       stat.getTotalTime() / 1e6, stat.getCount(),
+                       stat.getAverageTime() / 1e3, stat.getMaxTime() / 1e3,
+                       stat.getName());
+        }
+    }
+
+    /**
+     * Removes all collected values.
+     */
+    public void reset() {
+        phases.clear();
+        fields.clear();
+        handlers.clear();
+    }
+
+    /**
+     * The summed up timings of a single entry, field or handler.
+     */
+    public static final class Stat {
+
+        private final String     name;
+        private final LongAdder  count = new LongAdder();
+        private final LongAdder  total = new LongAdder();
+        private final AtomicLong max   = new AtomicLong();
+
+        private Stat(String name) {
+            this.name = name;
+        }
+
+        private void add(long nanos) {
+            count.increment();
+            total.add(nanos);
+            max.accumulateAndGet(nanos, Math::max);
+        }
+
+        /**
+         * @return the name of the measured element
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return how often the element was measured
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * @return the total time in nanoseconds
+         */
+        public long getTotalTime() {
+            return total.sum();
+        }
+
+        /**
+         * @return the average time in nanoseconds
+         */
+        public double getAverageTime() {
+            long c = getCount();
+            return c == 0 ? 0 : getTotalTime() / (double) c;
+        }
+
+        /**
+         * @return the maximum time in nanoseconds
+         */
+        public long getMaxTime() {
+            return max.get();
+        }
+    }
+}
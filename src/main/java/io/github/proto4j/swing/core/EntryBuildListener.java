@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing.core; //@date 18.10.2026
+
+import io.github.proto4j.swing.Entry;
+
+import java.util.EventListener;
+
+/**
+ * The listener interface for receiving the timings of generated GUIs. A
+ * listener is informed once for every {@link Entry} that was generated
+ * successfully, including the entries of nested GUIs.
+ * <p>
+ * Listeners are loaded with the {@link java.util.ServiceLoader} mechanism or
+ * registered with {@link BuildMetrics#addListener(EntryBuildListener)}. As
+ * nested GUIs may be generated concurrently, implementations have to be
+ * thread-safe.
+ *
+ * @see BuildMetrics
+ * @see BuildStatistics
+ * @since 0.0.2
+ */
+@FunctionalInterface
+public interface EntryBuildListener extends EventListener {
+
+    /**
+     * This method gets called after an {@link Entry} was generated and linked.
+     *
+     * @param metrics the timings of the generation process
+     */
+    public void entryBuilt(BuildMetrics metrics);
+}
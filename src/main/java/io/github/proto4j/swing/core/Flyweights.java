@@ -0,0 +1,205 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing.core; //@date 18.10.2026
+
+import io.github.proto4j.swing.core.desc.MarginDesc;
+
+import javax.swing.border.Border;
+import java.awt.*;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Interning caches for the immutable values created by descriptions. Equal
+ * {@code @Margin} or {@code @Option} declarations resolve to the same values,
+ * so all components share a single {@link Border} or {@link Color} instance
+ * instead of allocating a new one per component.
+ * <p>
+ * Each cache is bounded by {@link #SIZE_PROPERTY} entries. If a cache is full,
+ * new values are created without being cached. A size of {@code 0} disables
+ * the caches.
+ * <p>
+ * Only immutable values are shared. Borders that provide setters, e.g.
+ * {@link javax.swing.border.TitledBorder}, are created per component,
+ * because modifying a shared border would affect all components using it.
+ *
+ * @see MarginDesc#create()
+ * @see GlobalDesc#getColor(String)
+ * @since 0.0.2
+ */
+public final class Flyweights {
+
+    /**
+     * The system property defining the maximum amount of values per cache.
+     */
+    public static final String SIZE_PROPERTY = "proto4j.swing.flyweight.size";
+
+    /**
+     * The maximum size that is used if no property value was defined.
+     */
+    public static final int DEFAULT_SIZE = 1024;
+
+    /**
+     * Borders created by {@link MarginDesc}s, mapped to their type and
+     * resolved constructor arguments.
+     */
+    public static final Cache<Border> BORDERS = new Cache<>("borders");
+
+    /**
+     * Colors mapped to their option value.
+     */
+    public static final Cache<Color> COLORS = new Cache<>("colors");
+
+    private Flyweights() {}
+
+    /**
+     * Creates a key from the given values that can be used with
+     * {@link Cache#intern(Object, Supplier)}. The values may be {@code null}.
+     *
+     * @param values the resolved values
+     * @return a key comparing all values
+     */
+    public static Object key(Object... values) {
+        return new Key(values);
+    }
+
+    /**
+     * A bounded interning cache with hit and miss statistics.
+     *
+     * @param <V> the value type
+     */
+    public static final class Cache<V> {
+
+        private final String         name;
+        private final Map<Object, V> values = new ConcurrentHashMap<>();
+        private final int            maxSize;
+
+        private final LongAdder hits   = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        private Cache(String name) {
+            this.name    = name;
+            this.maxSize = Math.max(0, Integer.getInteger(SIZE_PROPERTY, DEFAULT_SIZE));
+        }
+
+        /**
+         * Returns the value mapped to the given key or creates a new one. A
+         * {@code null} value is never cached.
+         *
+         * @param key the resolved values
+         * @param factory the factory creating a new value
+         * @return the shared value
+         * @throws NullPointerException if any of the given arguments is
+         *                              {@code null}
+         */
+        public V intern(Object key, Supplier<? extends V> factory) throws NullPointerException {
+            Objects.requireNonNull(key);
+            Objects.requireNonNull(factory);
+
+            V value = values.get(key);
+            if (value != null) {
+                hits.increment();
+                return value;
+            }
+
+            misses.increment();
+            value = factory.get();
+            if (value == null || values.size() >= maxSize) {
+                return value;
+            }
+
+            V previous = values.putIfAbsent(key, value);
+            return previous != null ? previous : value;
+        }
+
+        /**
+         * @return the amount of calls that returned a shared value
+         */
+        public long getHits() {
+            return hits.sum();
+        }
+
+        /**
+         * @return the amount of calls that created a new value
+         */
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        /**
+         * @return the current amount of shared values
+         */
+        public int size() {
+            return values.size();
+        }
+
+        /**
+         * @return the maximum amount of shared values
+         */
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Removes all shared values and resets the statistics.
+         */
+        public void clear() {
+            values.clear();
+            hits.reset();
+            misses.reset();
+        }
+
+        @Override
+        public String toString() {
+            return name + "[size=" + size() + "/" + maxSize + ", hits=" + getHits()
+                    + ", misses=" + getMisses() + "]";
+        }
+    }
+
+    private static final class Key {
+
+        private final Object[] values;
+        private final int      hash;
+
+        Key(Object[] values) {
+            this.values = values;
+            this.hash   = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && Arrays.equals(values, ((Key) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
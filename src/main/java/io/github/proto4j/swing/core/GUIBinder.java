@@ -0,0 +1,588 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing.core; //@date 17.10.2026
+
+import io.github.proto4j.swing.Entry;
+import io.github.proto4j.swing.FieldAccessor;
+import io.github.proto4j.swing.FieldReference;
+import io.github.proto4j.swing.ServiceManager;
+import io.github.proto4j.swing.annotation.GUI;
+import io.github.proto4j.swing.annotation.Layout;
+import io.github.proto4j.swing.annotation.Margin;
+import io.github.proto4j.swing.annotation.Option;
+import io.github.proto4j.swing.annotation.Position;
+import io.github.proto4j.swing.core.desc.BoundsDesc;
+import io.github.proto4j.swing.core.desc.ComponentDesc;
+import io.github.proto4j.swing.core.desc.DescInitializationException;
+import io.github.proto4j.swing.core.desc.GenericDesc;
+import io.github.proto4j.swing.core.desc.ModelDesc;
+import io.github.proto4j.swing.core.desc.layout.AbsoluteLayoutDesc;
+import io.github.proto4j.swing.jfr.HandlerEvent;
+import io.github.proto4j.swing.laf.LAFProvider;
+
+import java.awt.*;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Objects;
+
+/**
+ * The base class for binders that are generated at compile time by the
+ * {@code GUIProcessor}. A binder performs the same steps as the
+ * {@link SwingReader} and the {@link SwingLinker}, but all annotation values
+ * are already resolved into plain Java statements. Therefore, no annotation
+ * has to be read at runtime.
+ * <p>
+ * Binders are located by their name: the binder of {@code com.example.MyGUI}
+ * is named {@code com.example.MyGUIBinder}. Nested classes are flattened with
+ * an underscore, e.g. {@code Outer_InnerBinder}. If no binder could be found,
+ * {@link Entry#of(Class, Object...)} falls back to the reflective path.
+ * <p>
+ * Generated binders access the fields and 'init' methods of their GUI
+ * directly (see {@link #get(Object, int)} and {@link #set(Object, int, Object)}).
+ * Private members are accessed through {@link VarHandle}s and
+ * {@link MethodHandle}s of a private lookup in the GUI class, so no
+ * {@code java.lang.reflect} object is created.
+ * <p>
+ * The basic execution flow of {@link #bind(Entry, Object[])} is the
+ * following:
+ * <ol>
+ *     <li>Create the GUI instance if not already present</li>
+ *     <li>Create all {@link FieldReference}s and apply their descriptions
+ *     (see {@link #bindFields(Entry, Object)})</li>
+ *     <li>Execute all 'init' methods and link the components (see
+ *     {@link #link(Entry, Object)})</li>
+ * </ol>
+ *
+ * @param <G> the GUI's type
+ * @see SwingReader
+ * @see SwingLinker
+ * @since 0.0.2
+ */
+public abstract class GUIBinder<G> {
+
+    /**
+     * The suffix that is appended to the flattened GUI class name.
+     */
+    public static final String BINDER_SUFFIX = "Binder";
+
+    // Binders are resolved only once per class. A missing binder is
+    // stored as NONE to prevent repeated class loading attempts.
+    private static final ClassValue<GUIBinder<?>> BINDERS = new ClassValue<>() {
+        @Override
+        protected GUIBinder<?> computeValue(Class<?> type) {
+            return loadBinder(type);
+        }
+    };
+
+    private static final GUIBinder<?> NONE = new GUIBinder<>(Object.class) {
+        @Override
+        protected void bindFields(Entry<Object> entry, Object gui) {}
+
+        @Override
+        protected void link(Entry<Object> entry, Object gui) {}
+
+        @Override
+        protected Object get(Object gui, int field) {
+            throw new IllegalArgumentException("Unknown field: " + field);
+        }
+
+        @Override
+        protected void set(Object gui, int field, Object value) {
+            throw new IllegalArgumentException("Unknown field: " + field);
+        }
+    };
+
+    // The metrics of the binder that currently creates its fields on this
+    // thread, if any.
+    private static final ThreadLocal<Recording> RECORDING = new ThreadLocal<>();
+
+    // (Object,int)Object and (Object,int,Object)void, dispatched to the
+    // generated implementations
+    private static final MethodHandle GET;
+    private static final MethodHandle SET;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            GET = lookup.findVirtual(GUIBinder.class, "get",
+                    MethodType.methodType(Object.class, Object.class, int.class));
+            SET = lookup.findVirtual(GUIBinder.class, "set",
+                    MethodType.methodType(void.class, Object.class, int.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The GUI's type
+     */
+    private final Class<G> type;
+
+    /**
+     * The accessors of all fields, created on first use.
+     */
+    private final FieldAccessor[] accessors;
+
+    /**
+     * Creates a new {@link GUIBinder} for the given GUI type.
+     *
+     * @param type the GUI's type
+     */
+    protected GUIBinder(Class<G> type) {
+        this(type, 0);
+    }
+
+    /**
+     * Creates a new {@link GUIBinder} for the given GUI type that caches the
+     * accessors of the given amount of fields.
+     *
+     * @param type the GUI's type
+     * @param fields the amount of fields accessed by this binder
+     * @since 0.0.2
+     */
+    protected GUIBinder(Class<G> type, int fields) {
+        this.type      = Objects.requireNonNull(type);
+        this.accessors = new FieldAccessor[Math.max(0, fields)];
+    }
+
+    /**
+     * Returns the generated binder for the given GUI class.
+     *
+     * @param cls the GUI's class
+     * @param <G> the GUI type
+     * @return the generated binder or {@code null} if none exists
+     * @throws NullPointerException if the given class is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <G> GUIBinder<G> lookup(Class<G> cls) throws NullPointerException {
+        Objects.requireNonNull(cls);
+
+        GUIBinder<?> binder = BINDERS.get(cls);
+        if (binder == NONE) {
+            return null;
+        }
+        return (GUIBinder<G>) binder;
+    }
+
+    /**
+     * Returns the qualified name of the binder class that would be generated
+     * for the given GUI class.
+     *
+     * @param cls the GUI's class
+     * @return the binder's class name
+     */
+    public static String getBinderName(Class<?> cls) {
+        Objects.requireNonNull(cls);
+
+        String name = cls.getName();
+        String pkg  = cls.getPackageName();
+        if (!pkg.isEmpty()) {
+            name = name.substring(pkg.length() + 1);
+            pkg += ".";
+        }
+        return pkg + name.replace('$', '_') + BINDER_SUFFIX;
+    }
+
+    private static GUIBinder<?> loadBinder(Class<?> type) {
+        if (!type.isAnnotationPresent(GUI.class)) {
+            return NONE;
+        }
+
+        try {
+            Class<?> cls = Class.forName(getBinderName(type), true, type.getClassLoader());
+            if (!GUIBinder.class.isAssignableFrom(cls)) {
+                return NONE;
+            }
+
+            GUIBinder<?> binder = (GUIBinder<?>) cls.getDeclaredConstructor().newInstance();
+            return binder.getType() == type ? binder : NONE;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // No binder was generated for this class, so the reflective
+            // path will be used.
+            return NONE;
+        }
+    }
+
+    /**
+     * @return The GUI's type
+     */
+    public Class<G> getType() {
+        return type;
+    }
+
+    /**
+     * Tries to fill the given {@link Entry} with a GUI instance and all
+     * {@link FieldReference} objects. Afterwards, all components are linked
+     * together.
+     *
+     * @param entry the entry to be filled
+     * @param args constructor arguments for the GUI-class
+     * @throws Exception if an error occurs
+     */
+    public void bind(Entry<G> entry, Object[] args) throws Exception {
+        bind(entry, args, null);
+    }
+
+    /**
+     * Fills the given {@link Entry} like {@link #bind(Entry, Object[])} and
+     * records the time spent in each step in the given {@link BuildMetrics}.
+     *
+     * @param entry the entry to be filled
+     * @param args constructor arguments for the GUI-class
+     * @param metrics the metrics to record or {@code null} to disable the
+     *         recording
+     * @throws Exception if an error occurs
+     */
+    public void bind(Entry<G> entry, Object[] args, BuildMetrics metrics) throws Exception {
+        Objects.requireNonNull(entry);
+        Objects.requireNonNull(args);
+
+        long begin = metrics != null ? System.nanoTime() : 0L;
+        G    gui   = entry.getGUI();
+        if (gui == null) {
+            gui = args.length == 0 ? newInstance() : null;
+            if (gui == null) {
+                gui = newInstance(args);
+            }
+            entry.setGUI(gui);
+        }
+        if (metrics == null) {
+            bindFields(entry, gui);
+            link(entry, gui);
+            return;
+        }
+
+        long created = System.nanoTime();
+        metrics.addPhase(BuildMetrics.Phase.INSTANCE, created - begin);
+
+        // The generated steps report to the recording of this thread. Nested
+        // GUIs are bound within a step of their parent, so the recording of
+        // the parent is restored afterwards.
+        Recording previous  = RECORDING.get();
+        Recording recording = new Recording(metrics, created);
+        RECORDING.set(recording);
+        try {
+            bindFields(entry, gui);
+        } finally {
+            recording.finish();
+            if (previous == null) {
+                RECORDING.remove();
+            } else {
+                RECORDING.set(previous);
+            }
+        }
+
+        long bound = System.nanoTime();
+        link(entry, gui);
+        metrics.addPhase(BuildMetrics.Phase.LINK, System.nanoTime() - bound);
+    }
+
+    /**
+     * Creates a new GUI instance with the no-args constructor. Generated
+     * binders override this method if the constructor is accessible.
+     *
+     * @return the new GUI instance or {@code null} to use the reflective way
+     */
+    protected G newInstance() {
+        return null;
+    }
+
+    /**
+     * Creates all {@link FieldReference}s of the GUI instance and applies
+     * their descriptions.
+     *
+     * @param entry the entry to be filled
+     * @param gui the GUI's instance
+     * @throws Exception if an error occurs
+     */
+    protected abstract void bindFields(Entry<G> entry, G gui) throws Exception;
+
+    /**
+     * Executes all 'init' methods and tries to add the fields to their target
+     * components in the {@link LinkOrder} of their targets.
+     *
+     * @param entry the filled entry
+     * @param gui the GUI's instance
+     * @throws Exception if an error occurs
+     */
+    protected abstract void link(Entry<G> entry, G gui) throws Exception;
+
+    /**
+     * Returns the value of the field with the given index. Generated binders
+     * read their fields directly.
+     *
+     * @param gui the GUI's instance
+     * @param field the index of the field
+     * @return the field's value
+     */
+    protected abstract Object get(G gui, int field);
+
+    /**
+     * Applies a new value to the field with the given index. Generated
+     * binders write their fields directly.
+     *
+     * @param gui the GUI's instance
+     * @param field the index of the field
+     * @param value the new value
+     */
+    protected abstract void set(G gui, int field, Object value);
+
+    // The following methods are used by the generated code and should not be
+    // called from anywhere else.
+
+    protected static VarHandle varHandle(MethodHandles.Lookup lookup, Class<?> cls,
+                                         String name, Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(cls, lookup).findVarHandle(cls, name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Binder out of date: " + e.getMessage(), e);
+        }
+    }
+
+    protected static MethodHandle method(MethodHandles.Lookup lookup, Class<?> cls,
+                                         String name, Class<?> returnType) {
+        try {
+            return MethodHandles.privateLookupIn(cls, lookup)
+                    .findVirtual(cls, name, MethodType.methodType(returnType));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Binder out of date: " + e.getMessage(), e);
+        }
+    }
+
+    protected static void invoke(MethodHandle method, Object gui) throws Exception {
+        try {
+            method.invoke(gui);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    protected static LAFProvider provider(Class<? extends LAFProvider> cls) {
+        ServiceManager<LAFProvider> manager = LAFProvider.getManager();
+        return manager.getByKey(cls);
+    }
+
+    protected static Component nested(Entry<?> entry, String name, Class<?> type) throws Exception {
+        Entry<?> nested = Entry.of(type);
+        entry.putNestedGUI(name, nested);
+        return (Component) nested.getGUI();
+    }
+
+    protected static <G> FieldReference<Component> reference
+            (G gui, Class<G> type, int id, Component component) {
+        Objects.requireNonNull(component, "Could not create Component");
+        FieldReference<Component> ref = new FieldReference<>(id);
+
+        ref.setComponentDesc(ComponentDesc.createDesc(type, gui));
+        ref.setParent(gui);
+        ref.set(component);
+        Recording recording = RECORDING.get();
+        if (recording != null) {
+            recording.created(FieldReference.THIS);
+        }
+        return ref;
+    }
+
+    protected final FieldReference<Component> reference
+            (G gui, int field, String name, Class<?> fieldType, boolean writable,
+             int id, Component component) {
+        Objects.requireNonNull(component, "Could not create Component");
+        FieldReference<Component> ref = new FieldReference<>(id);
+
+        ref.setComponentDesc(ComponentDesc.createDesc(type, name, fieldType, gui));
+        ref.setParent(gui);
+        ref.setAccessor(accessor(field, name, writable));
+        ref.set(component);
+        Recording recording = RECORDING.get();
+        if (recording != null) {
+            recording.created(name);
+        }
+        return ref;
+    }
+
+    protected static GenericDesc<Option> option(FieldReference<?> ref) {
+        return ref.getDescription().getDesc(Option.class);
+    }
+
+    protected static GenericDesc<Position> position(FieldReference<?> ref) {
+        return ref.getDescription().getDesc(Position.class);
+    }
+
+    protected static GenericDesc<Layout> layout(FieldReference<?> ref, Class<?> cls, boolean absolute) {
+        GenericDesc<Layout> desc = GlobalDesc.getLayoutDesc(cls, ref.getDescription());
+        if (desc == null && absolute) {
+            desc = new AbsoluteLayoutDesc(ref.getDescription());
+        }
+        if (desc == null) {
+            throw new DescInitializationException("No layout description for " + cls.getName()
+                    + " (field '" + ref.getDescription().getFieldName() + "')");
+        }
+        return desc;
+    }
+
+    protected static GenericDesc<Margin> margin(FieldReference<?> ref, Class<?> cls) {
+        GenericDesc<Margin> desc = GlobalDesc.getMarginDesc(cls);
+        if (desc == null) {
+            throw new DescInitializationException("No margin description for " + cls.getName()
+                    + " (field '" + ref.getDescription().getFieldName() + "')");
+        }
+        return desc;
+    }
+
+    protected static BoundsDesc bounds(FieldReference<?> ref) {
+        return new BoundsDesc();
+    }
+
+    protected static ModelDesc model(FieldReference<?> ref) {
+        return new ModelDesc();
+    }
+
+    protected static <A extends Annotation> void apply
+            (FieldReference<?> ref, GenericDesc<A> desc, String[] names, Object[] values) {
+        // Same as AbstractSwingHandler.onElement, but without reading
+        // the annotation instance.
+        HandlerEvent event = new HandlerEvent();
+        event.begin();
+        ComponentDesc component = ref.getDescription();
+        component.addIfAbsent(desc);
+        desc.read(names, values);
+        desc.applyTo((Component) ref.get());
+        LAFBindings.trackIfDependent(ref.get(), desc);
+        event.report(component.getDeclaringClass(), component.getFieldName(), desc.annotationType());
+
+        Recording recording = RECORDING.get();
+        if (recording != null) {
+            recording.applied(desc.annotationType());
+        }
+    }
+
+    protected static void link(SwingLinker linker, Entry<?> entry, String name, String target) {
+        FieldReference<?> ref       = entry.getDeclaredField(name);
+        FieldReference<?> refTarget = SwingLinker.isPath(target)
+                ? entry.find(target) : entry.getDeclaredField(target);
+        if (ref != null && refTarget != null) {
+            linker.bind(ref, refTarget);
+        }
+    }
+
+    protected static void validate(SwingLinker linker, Entry<?> entry, String name) {
+        FieldReference<?> ref = entry.getDeclaredField(name);
+        if (ref != null) {
+            linker.validate(ref);
+        }
+    }
+
+    /**
+     * Reports the steps of a generated {@link #bindFields(Entry, Object)} to
+     * the {@link BuildMetrics} of the entry. Every step ends with a call to
+     * {@link #reference} or {@link #apply}, so the time since the previous
+     * step is the time spent in it: a reference includes the creation of the
+     * component and an apply includes the creation of its description.
+     */
+    private static final class Recording {
+
+        private final BuildMetrics metrics;
+
+        // the end of the previous step
+        private long   mark;
+        private String field;
+        private long   fieldTime;
+
+        Recording(BuildMetrics metrics, long mark) {
+            this.metrics = metrics;
+            this.mark    = mark;
+        }
+
+        void created(String name) {
+            finish();
+            long end = System.nanoTime();
+            metrics.addPhase(BuildMetrics.Phase.COMPONENTS, end - mark);
+            field     = name;
+            fieldTime = end - mark;
+            mark      = end;
+        }
+
+        void applied(Class<? extends Annotation> annotation) {
+            long end  = System.nanoTime();
+            long time = end - mark;
+            metrics.addPhase(BuildMetrics.Phase.HANDLERS, time);
+            if (field != null) {
+                metrics.addHandler(field, annotation, time);
+                fieldTime += time;
+            }
+            mark = end;
+        }
+
+        void finish() {
+            if (field != null) {
+                metrics.addField(field, fieldTime);
+                field = null;
+            }
+        }
+    }
+
+    private FieldAccessor accessor(int field, String name, boolean writable) {
+        FieldAccessor accessor = field < accessors.length ? accessors[field] : null;
+        if (accessor == null) {
+            MethodHandle getter = MethodHandles.insertArguments(GET.bindTo(this), 1, field);
+            MethodHandle setter = writable
+                    ? MethodHandles.insertArguments(SET.bindTo(this), 1, field) : null;
+
+            accessor = FieldAccessor.of(name, getter, setter);
+            if (field < accessors.length) {
+                // accessors are immutable, so a race only creates a duplicate
+                accessors[field] = accessor;
+            }
+        }
+        return accessor;
+    }
+
+    private G newInstance(Object[] args) {
+        Class<?>[] argTypes = new Class<?>[args.length];
+        for (int i = 0; i < args.length; i++) {
+            argTypes[i] = args[i].getClass();
+        }
+
+        try {
+            G gui;
+            if (argTypes.length == 0) {
+                gui = type.getDeclaredConstructor().newInstance();
+            } else {
+                Constructor<G> c = type.getConstructor(argTypes);
+                gui = c.newInstance(args);
+            }
+            return Objects.requireNonNull(gui, "GUI instance not initialized");
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
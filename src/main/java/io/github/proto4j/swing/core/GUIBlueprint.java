@@ -0,0 +1,630 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing.core; //@date 18.10.2026
+
+import io.github.proto4j.swing.FieldAccessor;
+import io.github.proto4j.swing.FieldReference;
+import io.github.proto4j.swing.annotation.*;
+import io.github.proto4j.swing.core.desc.GenericDesc;
+import io.github.proto4j.swing.laf.LAFProvider;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * An immutable plan describing how a GUI class is generated. It is computed
+ * once per class and contains everything the {@link SwingReader} and the
+ * {@link SwingLinker} would otherwise resolve on every call:
+ * <ul>
+ *     <li>the ordered list of components (the root component first),</li>
+ *     <li>the {@link SwingHandler} bound to each annotation together with
+ *     the attribute values of that annotation,</li>
+ *     <li>the resolved 'init' methods and</li>
+ *     <li>the index of each component's target.</li>
+ * </ul>
+ * Blueprints are stored in a {@link ClassValue}, so they are released
+ * together with the GUI class. Use {@link #evict(Class)} to force a
+ * blueprint to be computed again, e.g. after new {@link SwingHandler}s were
+ * registered.
+ *
+ * @param <G> the GUI's type
+ * @see SwingReader
+ * @see SwingLinker
+ * @since 0.0.2
+ */
+public final class GUIBlueprint<G> {
+
+    private static final ClassValue<GUIBlueprint<?>> BLUEPRINTS = new ClassValue<>() {
+        @Override
+        protected GUIBlueprint<?> computeValue(Class<?> type) {
+            GUIBlueprint<?> blueprint = BlueprintCache.load(type);
+            if (blueprint == null) {
+                blueprint = new GUIBlueprint<>(type, scan(type));
+                BlueprintCache.store(blueprint);
+            }
+            return blueprint;
+        }
+    };
+
+    /**
+     * The GUI's type
+     */
+    private final Class<G> type;
+
+    /**
+     * All components in the order they are created.
+     */
+    private final List<Slot> slots;
+
+    /**
+     * All slot indices sorted by their component number.
+     */
+    private final int[] linkOrder;
+
+    /**
+     * The dependency order used to initialize and link all slots.
+     */
+    private final LinkOrder linkSteps;
+
+    /**
+     * Names and types of all nested GUIs that are created eagerly.
+     */
+    private final String[]   nestedNames;
+    private final Class<?>[] nestedTypes;
+
+    private GUIBlueprint(Class<G> type, List<Slot> slots) {
+        this.type  = type;
+        this.slots = Collections.unmodifiableList(slots);
+
+        Map<String, Integer> indices = new HashMap<>();
+        for (int i = 0; i < slots.size(); i++) {
+            indices.put(slots.get(i).name, i);
+        }
+        for (Slot slot : slots) {
+            slot.target = slot.targetName == null
+                    ? -1 : indices.getOrDefault(slot.targetName, -1);
+        }
+
+        // All slots sorted by their component number
+        this.linkOrder = new int[slots.size()];
+        Integer[] order = new Integer[slots.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> slots.get(i).id));
+        for (int i = 0; i < order.length; i++) {
+            linkOrder[i] = order[i];
+        }
+
+        int[] ids     = new int[slots.size()];
+        int[] targets = new int[slots.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i]     = slots.get(i).id;
+            targets[i] = slots.get(i).target;
+        }
+        this.linkSteps = LinkOrder.of(ids, targets);
+
+        List<String>   names = new ArrayList<>();
+        List<Class<?>> types = new ArrayList<>();
+        for (Slot slot : slots) {
+            if (slot.nested && !slot.lazy && slot.element instanceof Field) {
+                names.add(slot.name);
+                types.add(((Field) slot.element).getType());
+            }
+        }
+        this.nestedNames = names.toArray(String[]::new);
+        this.nestedTypes = types.toArray(Class<?>[]::new);
+    }
+
+    // Used by the BlueprintCache to create a blueprint from stored slots
+    static <G> GUIBlueprint<G> create(Class<G> type, List<Slot> slots) {
+        return new GUIBlueprint<>(type, slots);
+    }
+
+    /**
+     * Returns the blueprint for the given GUI class. The blueprint is
+     * computed on the first call and cached afterwards. If the
+     * {@link BlueprintCache} is enabled, the blueprint is read from its
+     * cache directory when possible.
+     *
+     * @param cls the GUI's class
+     * @param <G> the GUI type
+     * @return the blueprint for the given class
+     * @throws NullPointerException if the given class is {@code null}
+     */
+    public static <G> GUIBlueprint<G> of(Class<G> cls) throws NullPointerException {
+        Objects.requireNonNull(cls);
+        //noinspection unchecked
+        return (GUIBlueprint<G>) BLUEPRINTS.get(cls);
+    }
+
+    /**
+     * Removes the cached blueprint of the given GUI class. The next call to
+     * {@link #of(Class)} computes a new blueprint.
+     *
+     * @param cls the GUI's class
+     * @throws NullPointerException if the given class is {@code null}
+     */
+    public static void evict(Class<?> cls) throws NullPointerException {
+        Objects.requireNonNull(cls);
+        BLUEPRINTS.remove(cls);
+    }
+
+    /**
+     * Computes the blueprint of the given GUI class and all of its nested
+     * GUIs and resolves everything that does not depend on a component
+     * instance: the generated {@link GUIBinder}, the option namespaces and
+     * description layouts of all handled annotations, the description types
+     * of layout managers and borders, the used {@link LAFProvider}s and the
+     * model classes.
+     * <p>
+     * No Swing component is created here, so this method can be called from
+     * any thread before the GUI is generated on the event dispatch thread.
+     *
+     * @param cls the GUI's class
+     * @throws NullPointerException if the given class is {@code null}
+     */
+    public static void preload(Class<?> cls) throws NullPointerException {
+        Objects.requireNonNull(cls);
+        preload(cls, new HashSet<>());
+    }
+
+    private static void preload(Class<?> cls, Set<Class<?>> visited) {
+        if (!visited.add(cls)) {
+            return;
+        }
+
+        GUIBinder.lookup(cls);
+        for (Slot slot : of(cls).slots) {
+            LAFProvider.MANAGER.getByKeyOrDefault(slot.provider, null);
+            for (Handle handle : slot.handles) {
+                Class<? extends Annotation> type = handle.context.annotationType();
+                if (GlobalDesc.getSharedOption(type) != null) {
+                    GenericDesc.prepare(type);
+                }
+
+                Annotation value = handle.context.annotationValue();
+                if (value instanceof Layout) {
+                    GlobalDesc.resolveDesc(((Layout) value).value());
+                } else if (value instanceof Margin) {
+                    Margin margin = (Margin) value;
+                    GlobalDesc.resolveDesc(margin.value());
+                    GlobalDesc.resolveDesc(margin.compoundInside());
+                    GlobalDesc.resolveDesc(margin.compoundOutside());
+                } else if (value instanceof Model) {
+                    initialize(((Model) value).value());
+                }
+            }
+
+            if (slot.nested && slot.element instanceof Field) {
+                preload(((Field) slot.element).getType(), visited);
+            }
+        }
+    }
+
+    private static void initialize(Class<?> cls) {
+        try {
+            Class.forName(cls.getName(), true, cls.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            // reported when the model is created
+        }
+    }
+
+    /**
+     * @return The GUI's type
+     */
+    public Class<G> getType() {
+        return type;
+    }
+
+    /**
+     * @return all components of this blueprint in the order they are created
+     */
+    public List<Slot> getSlots() {
+        return slots;
+    }
+
+    /**
+     * @return the slot indices sorted by their component number
+     */
+    public int[] getLinkOrder() {
+        return linkOrder.clone();
+    }
+
+    /**
+     * @return the order in which the slots are initialized and attached to
+     *         their targets
+     * @since 0.0.2
+     */
+    public LinkOrder getLinkSteps() {
+        return linkSteps;
+    }
+
+    String[] nestedNames() {
+        return nestedNames;
+    }
+
+    Class<?>[] nestedTypes() {
+        return nestedTypes;
+    }
+
+    private static List<Slot> scan(Class<?> type) {
+        List<Slot> slots = new ArrayList<>();
+        Slot root = createRoot(type);
+        if (root != null) {
+            slots.add(root);
+        }
+
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                // Static fields are ignored by default - there could be an
+                // implementation for handling static fields in the future.
+                continue;
+            }
+
+            Slot slot = createSlot(field);
+            if (slot != null) {
+                slots.add(slot);
+            }
+        }
+        return slots;
+    }
+
+    private static Slot createRoot(Class<?> type) {
+        Swing       swing  = type.getDeclaredAnnotation(Swing.class);
+        SwingWindow window = type.getDeclaredAnnotation(SwingWindow.class);
+        if (swing == null && window == null) {
+            return null;
+        }
+
+        Class<? extends LAFProvider> provider =
+                swing != null ? swing.provider() : window.provider();
+        return new Slot(type, FieldReference.THIS, 0, provider, false, false);
+    }
+
+    private static Slot createSlot(Field field) {
+        int id;
+        Class<? extends LAFProvider> provider;
+
+        Swing swing = field.getDeclaredAnnotation(Swing.class);
+        if (swing == null) {
+            SwingWindow window = field.getDeclaredAnnotation(SwingWindow.class);
+            if (window == null) {
+                // This definition error will be ignored by default
+                return null;
+            }
+            id       = window.value();
+            provider = window.provider();
+        } else {
+            id       = swing.value();
+            provider = swing.provider();
+        }
+
+        return new Slot(field, field.getName(), id, provider,
+                        field.isAnnotationPresent(Nested.class),
+                        field.isAnnotationPresent(Lazy.class)
+                                && !Modifier.isFinal(field.getModifiers()));
+    }
+
+    /**
+     * A single component of the {@link GUIBlueprint}.
+     */
+    public static final class Slot {
+
+        private final AnnotatedElement             element;
+        private final String                       name;
+        private final int                          id;
+        private final Class<? extends LAFProvider> provider;
+        private final boolean                      nested;
+        private final boolean                      lazy;
+        private final Handle[]                     handles;
+
+        private final String targetName;
+        private final String initName;
+        private final Method init;
+
+        // resolved after all slots were created
+        private int target;
+
+        // created on first use; null for the root component
+        private volatile FieldAccessor accessor;
+
+        Slot(AnnotatedElement element, String name, int id,
+             Class<? extends LAFProvider> provider, boolean nested, boolean lazy) {
+            this.element  = element;
+            this.name     = name;
+            this.id       = id;
+            this.provider = provider;
+            this.nested   = nested;
+            this.lazy     = lazy;
+            this.handles  = createHandles(element);
+
+            // Only a single @Option is handled by the BasicOptionHandler, so
+            // repeated declarations are ignored here too.
+            Option option = element.getDeclaredAnnotation(Option.class);
+            targetName = option == null || option.target().isEmpty() ? null : option.target();
+            initName   = option == null || option.init().isEmpty() ? null : option.init();
+            init       = initName == null ? null : findInit(element, initName);
+        }
+
+        // Creates a slot from a stored blueprint (see BlueprintCache)
+        Slot(AnnotatedElement element, String name, int id,
+             Class<? extends LAFProvider> provider, boolean nested, boolean lazy,
+             Handle[] handles, String targetName, String initName) {
+            this.element    = element;
+            this.name       = name;
+            this.id         = id;
+            this.provider   = provider;
+            this.nested     = nested;
+            this.lazy       = lazy;
+            this.handles    = handles;
+            this.targetName = targetName;
+            this.initName   = initName;
+            this.init       = initName == null ? null : findInit(element, initName);
+        }
+
+        private static Handle[] createHandles(AnnotatedElement element) {
+            List<Handle> handles = new ArrayList<>();
+            for (AnnotationContext<?> ac : AnnotationContext.collect(element)) {
+                // SwingHandlers are loaded dynamically at runtime with an
+                // object of the ServiceManager class.
+                SwingHandler handler = SwingHandler.CACHE
+                        .getByKeyOrDefault(ac.annotationType(), null);
+                if (handler != null) {
+                    handles.add(new Handle(handler, ac));
+                }
+            }
+            return handles.toArray(Handle[]::new);
+        }
+
+        private static Method findInit(AnnotatedElement element, String name) {
+            Class<?> type = element instanceof Field
+                    ? ((Field) element).getDeclaringClass() : (Class<?>) element;
+            try {
+                Method method = type.getDeclaredMethod(name);
+                method.setAccessible(true);
+                return method;
+            } catch (NoSuchMethodException e) {
+                // reported when the entry is linked
+                return null;
+            }
+        }
+
+        /**
+         * @return the annotated field or the GUI class for the root component
+         */
+        public AnnotatedElement getElement() {
+            return element;
+        }
+
+        /**
+         * @return The field's name or {@link FieldReference#THIS}
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the component number
+         */
+        public int getId() {
+            return id;
+        }
+
+        /**
+         * @return the {@link LAFProvider} type used to create the component
+         */
+        public Class<? extends LAFProvider> getProviderType() {
+            return provider;
+        }
+
+        /**
+         * @return {@code true} if this component is a nested GUI
+         */
+        public boolean isNested() {
+            return nested;
+        }
+
+        /**
+         * @return {@code true} if the component is created on first use
+         * @see Lazy
+         */
+        public boolean isLazy() {
+            return lazy;
+        }
+
+        /**
+         * @return {@code true} if the component is read from a final field
+         */
+        public boolean isFinal() {
+            return element instanceof Field
+                    && Modifier.isFinal(((Field) element).getModifiers());
+        }
+
+        /**
+         * Returns the accessor of the annotated field. It is created once per
+         * slot, so the access check of the field is only disabled once.
+         * Final fields are read-only.
+         *
+         * @return the field's accessor or {@code null} for the root component
+         * @throws IllegalStateException if the field could not be accessed
+         * @since 0.0.2
+         */
+        public FieldAccessor getAccessor() throws IllegalStateException {
+            if (!(element instanceof Field)) {
+                return null;
+            }
+
+            FieldAccessor accessor = this.accessor;
+            if (accessor == null) {
+                Field field = (Field) element;
+                try {
+                    field.setAccessible(true);
+                    MethodHandles.Lookup lookup = MethodHandles.lookup();
+                    accessor = FieldAccessor.of(name, lookup.unreflectGetter(field),
+                                                isFinal() ? null : lookup.unreflectSetter(field));
+                } catch (RuntimeException | IllegalAccessException e) {
+                    throw new IllegalStateException("Could not access field '" + name + "'", e);
+                }
+                // accessors are immutable, so a race only creates a duplicate
+                this.accessor = accessor;
+            }
+            return accessor;
+        }
+
+        /**
+         * @return the index of the target slot or {@code -1} if this component
+         *         is not added to another one
+         */
+        public int getTarget() {
+            return target;
+        }
+
+        /**
+         * @return the target name of the {@link Option} annotation or
+         *         {@code null} if none was defined
+         * @since 0.0.2
+         */
+        public String getTargetName() {
+            return targetName;
+        }
+
+        /**
+         * @return the 'init' method name or {@code null} if none was defined
+         */
+        public String getInitName() {
+            return initName;
+        }
+
+        /**
+         * @return the 'init' method or {@code null} if none was defined
+         */
+        public Method getInit() {
+            return init;
+        }
+
+        /**
+         * @return the annotation types that are handled by a {@link SwingHandler}
+         */
+        public List<Class<? extends Annotation>> getHandledTypes() {
+            List<Class<? extends Annotation>> list = new ArrayList<>(handles.length);
+            for (Handle handle : handles) {
+                list.add(handle.context.annotationType());
+            }
+            return list;
+        }
+
+        Handle[] handles() {
+            return handles;
+        }
+
+        void handle(FieldReference<?> reference) {
+            for (Handle handle : handles) {
+                handle.handler.onElement(reference, handle.context,
+                                         handle.names, handle.values());
+            }
+        }
+
+        void handle(FieldReference<?> reference, BuildMetrics metrics) {
+            if (metrics == null) {
+                handle(reference);
+                return;
+            }
+
+            for (Handle handle : handles) {
+                long begin = System.nanoTime();
+                handle.handler.onElement(reference, handle.context,
+                                         handle.names, handle.values());
+                metrics.addHandler(name, handle.context.annotationType(),
+                                   System.nanoTime() - begin);
+            }
+        }
+    }
+
+    // An annotation together with its handler and prebuilt attribute values.
+    static final class Handle {
+
+        final SwingHandler         handler;
+        final AnnotationContext<?> context;
+        final String[]             names;
+        final Object[]             values;
+
+        Handle(SwingHandler handler, AnnotationContext<?> context) {
+            this.handler = handler;
+            this.context = context;
+
+            Annotation   value   = context.annotationValue();
+            Method[]     methods = context.annotationType().getDeclaredMethods();
+            List<String> names   = new ArrayList<>(methods.length);
+            List<Object> values  = new ArrayList<>(methods.length);
+            for (Method method : methods) {
+                if (method.getParameterCount() != 0) {
+                    continue;
+                }
+                try {
+                    // Same lookup as GenericDesc.read(Annotation)
+                    Method m = value.getClass().getDeclaredMethod(method.getName());
+                    values.add(m.invoke(value));
+                    names.add(method.getName());
+                } catch (ReflectiveOperationException e) {
+                    // ignore that and continue
+                }
+            }
+            this.names  = names.toArray(String[]::new);
+            this.values = values.toArray();
+        }
+
+        // Uses attribute values read from a stored blueprint
+        Handle(SwingHandler handler, AnnotationContext<?> context,
+               String[] names, Object[] values) {
+            this.handler = handler;
+            this.context = context;
+            this.names   = names;
+            this.values  = values;
+        }
+
+        Object[] values() {
+            Object[] copy = values.clone();
+            for (int i = 0; i < copy.length; i++) {
+                Object v = copy[i];
+                if (v != null && v.getClass().isArray()) {
+                    // annotations return a new array on every call, so the
+                    // descriptions may rely on owning it.
+                    int    length = Array.getLength(v);
+                    Object array  = Array.newInstance(v.getClass().getComponentType(), length);
+                    System.arraycopy(v, 0, array, 0, length);
+                    copy[i] = array;
+                }
+            }
+            return copy;
+        }
+    }
+}
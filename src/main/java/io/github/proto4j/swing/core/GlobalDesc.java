@@ -26,6 +26,7 @@ package io.github.proto4j.swing.core; //@date 05.09.2022
 
 import io.github.proto4j.swing.annotation.*;
 import io.github.proto4j.swing.core.desc.ComponentDesc;
+import io.github.proto4j.swing.core.desc.DescInitializationException;
 import io.github.proto4j.swing.core.desc.GenericDesc;
 import io.github.proto4j.swing.core.desc.LayoutDesc;
 import io.github.proto4j.swing.core.desc.MarginDesc;
@@ -34,19 +35,34 @@ import javax.swing.*;
 import javax.swing.border.Border;
 import java.awt.*;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * This class wraps general and utility methods on providing the option
- * namespace. At initialization this manager will look up the /META-INF/options
- * directory in order to retrieve all defined options.
+ * namespace. At initialization this manager reads the precompiled
+ * {@link OptionsIndex} of every jar in order to retrieve all defined options.
+ * <p>
+ * The {@link LayoutDesc} and {@link MarginDesc} types bound to a layout or
+ * border class are resolved only once per package path and cached together
+ * with a factory, including classes for which no description exists.
+ * Descriptions of other libraries can be registered explicitly with
+ * {@link #registerLayoutDesc(Class, Function)} and
+ * {@link #registerMarginDesc(Class, Supplier)}, so that no package has to be
+ * probed for them.
  *
  * @since 1.0
  */
@@ -63,6 +79,32 @@ public final class GlobalDesc {
     // used to determine whether the options were loaded
     private static volatile boolean optionsInitialized;
 
+    // factories that were registered explicitly
+    private static final Map<Class<?>, Function<ComponentDesc, ? extends LayoutDesc>> layoutDescs =
+            new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Supplier<? extends MarginDesc>> marginDescs =
+            new ConcurrentHashMap<>();
+
+    // resolved factories mapped to the package path they were found with
+    private static final ClassValue<Map<String, Function<ComponentDesc, LayoutDesc>>> resolvedLayouts =
+            new ClassValue<>() {
+                @Override
+                protected Map<String, Function<ComponentDesc, LayoutDesc>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+    private static final ClassValue<Map<String, Supplier<MarginDesc>>> resolvedMargins =
+            new ClassValue<>() {
+                @Override
+                protected Map<String, Supplier<MarginDesc>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    // cached result for classes without a description
+    private static final Function<ComponentDesc, LayoutDesc> NO_LAYOUT = parent -> null;
+    private static final Supplier<MarginDesc>                NO_MARGIN = () -> null;
+
     static {
         String pathBase = GenericDesc.class.getPackageName();
         String path     = String.join(":", pathBase + ".layout", pathBase + ".margin");
@@ -109,15 +151,12 @@ public final class GlobalDesc {
      * @param cls the border type
      * @return a new instance of the qualified {@link MarginDesc}
      * @throws NullPointerException if the border type was {@code null}
+     * @throws DescInitializationException if the description exists, but can
+     *         not be created
      */
     public static MarginDesc getMarginDesc(Class<?> cls)
-            throws NullPointerException {
-        String path = System.getProperty(DESC_PATH_PROPERTY);
-        if (path == null) {
-            path = GlobalDesc.class.getPackageName() + ".margin";
-        }
-
-        return getMarginDesc(cls, path.split(":"));
+            throws NullPointerException, DescInitializationException {
+        return getMarginDesc(cls, getDescPath(".margin"), null);
     }
 
     /**
@@ -130,31 +169,70 @@ public final class GlobalDesc {
      *         are located
      * @return a new instance of the qualified {@link MarginDesc}
      * @throws NullPointerException if the border type was {@code null}
+     * @throws DescInitializationException if the description exists, but can
+     *         not be created
      */
     public static MarginDesc getMarginDesc(Class<?> cls, String... packageNames)
-            throws NullPointerException {
+            throws NullPointerException, DescInitializationException {
+        return getMarginDesc(cls, String.join(":", packageNames), packageNames);
+    }
+
+    private static MarginDesc getMarginDesc(Class<?> cls, String path, String[] packageNames) {
         Objects.requireNonNull(cls);
 
         if (cls == Border.class || cls.isInterface()) {
             return null;
         }
+        return getMarginFactory(cls, path, packageNames).get();
+    }
 
-        try {
-            for (String packageName : packageNames) {
-                String name = String.join(".", packageName, cls.getSimpleName());
-
-                try {
-                    Class<?> mDescClass = Class.forName(name + "Desc");
-                    return (MarginDesc) mDescClass.getDeclaredConstructor().newInstance();
-                } catch (ClassNotFoundException notFound) {
-                    // ignore that exception
-                }
+    private static Supplier<? extends MarginDesc> getMarginFactory(Class<?> cls, String path,
+                                                                   String[] packageNames) {
+        Supplier<? extends MarginDesc> factory = marginDescs.get(cls);
+        if (factory == null) {
+            Map<String, Supplier<MarginDesc>> resolved = resolvedMargins.get(cls);
+            factory = resolved.get(path);
+            if (factory == null) {
+                String[] packages = packageNames != null ? packageNames : path.split(":");
+                factory = resolved.computeIfAbsent(path, p -> resolveMarginDesc(cls, packages));
             }
-        } catch (ReflectiveOperationException e) {
-            // The given border class is not implemented, so we should return
-            // null instead of throwing an exception.
         }
-        return null;
+        return factory;
+    }
+
+    private static Supplier<MarginDesc> resolveMarginDesc(Class<?> cls, String[] packageNames) {
+        MethodHandle constructor = findDesc(cls, packageNames, MarginDesc.class,
+                                            MethodType.methodType(void.class));
+        if (constructor == null) {
+            return NO_MARGIN;
+        }
+
+        return () -> {
+            try {
+                return (MarginDesc) constructor.invoke();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new DescInitializationException("Could not create the description of " + cls, t);
+            }
+        };
+    }
+
+    /**
+     * Registers a factory for the {@link MarginDesc} of the given border type.
+     * Registered factories are used before any package is probed.
+     *
+     * @param cls the border type
+     * @param factory the factory creating new descriptions
+     * @throws NullPointerException if any of the given arguments is {@code null}
+     * @since 0.0.2
+     */
+    public static void registerMarginDesc(Class<? extends Border> cls,
+                                          Supplier<? extends MarginDesc> factory)
+            throws NullPointerException {
+        Objects.requireNonNull(cls);
+        Objects.requireNonNull(factory);
+        marginDescs.put(cls, factory);
     }
 
     /**
@@ -165,15 +243,12 @@ public final class GlobalDesc {
      * @param cls the layout manager type
      * @return a new instance of the qualified {@link LayoutDesc}
      * @throws NullPointerException if the layout manager type was {@code null}
+     * @throws DescInitializationException if the description exists, but can
+     *         not be created
      */
     public static LayoutDesc getLayoutDesc(Class<?> cls, ComponentDesc parent)
-            throws NullPointerException {
-        String path = System.getProperty(DESC_PATH_PROPERTY);
-        if (path == null) {
-            path = GlobalDesc.class.getPackageName() + ".layout";
-        }
-
-        return getLayoutDesc(cls, parent, path.split(":"));
+            throws NullPointerException, DescInitializationException {
+        return getLayoutDesc(cls, parent, getDescPath(".layout"), null);
     }
 
     /**
@@ -187,31 +262,134 @@ public final class GlobalDesc {
      *         are located
      * @return a new instance of the qualified {@link LayoutDesc}
      * @throws NullPointerException if the layout manager type was {@code null}
+     * @throws DescInitializationException if the description exists, but can
+     *         not be created
      */
     public static LayoutDesc getLayoutDesc(Class<?> cls, ComponentDesc parent, String... packageNames)
-            throws NullPointerException {
+            throws NullPointerException, DescInitializationException {
+        return getLayoutDesc(cls, parent, String.join(":", packageNames), packageNames);
+    }
+
+    private static LayoutDesc getLayoutDesc(Class<?> cls, ComponentDesc parent,
+                                            String path, String[] packageNames) {
         Objects.requireNonNull(cls);
         Objects.requireNonNull(parent);
 
         if (cls == LayoutManager.class || cls.isInterface()) {
             return null;
         }
+        return getLayoutFactory(cls, path, packageNames).apply(parent);
+    }
 
-        try {
-            for (String packageName : packageNames) {
-                String name = String.join(".", packageName, cls.getSimpleName());
-
-                try {
-                    Class<?> mDescClass = Class.forName(name + "Desc");
-                    return (LayoutDesc) mDescClass.getDeclaredConstructor(ComponentDesc.class)
-                                                  .newInstance(parent);
-                } catch (ClassNotFoundException notFound) {
-                    // ignore that exception
-                }
+    private static Function<ComponentDesc, ? extends LayoutDesc> getLayoutFactory(Class<?> cls, String path,
+                                                                                  String[] packageNames) {
+        Function<ComponentDesc, ? extends LayoutDesc> factory = layoutDescs.get(cls);
+        if (factory == null) {
+            Map<String, Function<ComponentDesc, LayoutDesc>> resolved = resolvedLayouts.get(cls);
+            factory = resolved.get(path);
+            if (factory == null) {
+                String[] packages = packageNames != null ? packageNames : path.split(":");
+                factory = resolved.computeIfAbsent(path, p -> resolveLayoutDesc(cls, packages));
+            }
+        }
+        return factory;
+    }
+
+    /**
+     * Resolves the description type bound to the given layout manager or
+     * border class without creating a description. This method can be used
+     * to move the class resolution to another thread before the GUI is
+     * created.
+     *
+     * @param cls the layout manager or border type
+     * @throws NullPointerException if the given class is {@code null}
+     * @since 0.0.2
+     */
+    public static void resolveDesc(Class<?> cls)
+            throws NullPointerException, DescInitializationException {
+        Objects.requireNonNull(cls);
+        if (cls.isInterface()) {
+            return;
+        }
+
+        if (LayoutManager.class.isAssignableFrom(cls)) {
+            getLayoutFactory(cls, getDescPath(".layout"), null);
+        } else if (Border.class.isAssignableFrom(cls)) {
+            getMarginFactory(cls, getDescPath(".margin"), null);
+        }
+    }
+
+    private static String getDescPath(String defaultSuffix) {
+        String path = System.getProperty(DESC_PATH_PROPERTY);
+        if (path == null) {
+            path = GlobalDesc.class.getPackageName() + defaultSuffix;
+        }
+        return path;
+    }
+
+    private static Function<ComponentDesc, LayoutDesc> resolveLayoutDesc(Class<?> cls, String[] packageNames) {
+        MethodHandle constructor = findDesc(cls, packageNames, LayoutDesc.class,
+                                            MethodType.methodType(void.class, ComponentDesc.class));
+        if (constructor == null) {
+            return NO_LAYOUT;
+        }
+
+        return parent -> {
+            try {
+                return (LayoutDesc) constructor.invoke(parent);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new DescInitializationException("Could not create the description of " + cls, t);
+            }
+        };
+    }
+
+    /**
+     * Registers a factory for the {@link LayoutDesc} of the given layout
+     * manager type. Registered factories are used before any package is
+     * probed.
+     *
+     * @param cls the layout manager type
+     * @param factory the factory creating new descriptions for a parent
+     *         {@link ComponentDesc}
+     * @throws NullPointerException if any of the given arguments is {@code null}
+     * @since 0.0.2
+     */
+    public static void registerLayoutDesc(Class<? extends LayoutManager> cls,
+                                          Function<ComponentDesc, ? extends LayoutDesc> factory)
+            throws NullPointerException {
+        Objects.requireNonNull(cls);
+        Objects.requireNonNull(factory);
+        layoutDescs.put(cls, factory);
+    }
+
+    // Probes all packages for a class named <SimpleName>Desc and returns its
+    // constructor, or null if no description exists. A description that exists
+    // but can not be accessed is reported with an exception.
+    private static MethodHandle findDesc(Class<?> cls, String[] packageNames,
+                                         Class<?> base, MethodType type) {
+        for (String packageName : packageNames) {
+            String name = String.join(".", packageName, cls.getSimpleName());
+
+            Class<?> descClass;
+            try {
+                descClass = Class.forName(name + "Desc");
+            } catch (ClassNotFoundException notFound) {
+                // ignore that exception
+                continue;
+            }
+            if (!base.isAssignableFrom(descClass)) {
+                return null;
+            }
+
+            try {
+                Constructor<?> constructor = descClass.getDeclaredConstructor(type.parameterArray());
+                constructor.setAccessible(true);
+                return MethodHandles.lookup().unreflectConstructor(constructor);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                throw new DescInitializationException("Could not access the constructor of " + descClass, e);
             }
-        } catch (ReflectiveOperationException e) {
-            // The given border class is not implemented, so we should return
-            // null instead of throwing an exception.
         }
         return null;
     }
@@ -226,14 +404,15 @@ public final class GlobalDesc {
      * {@link Option.Query#indicator} in font of the color's name.
      *
      * @param value the color's name
-     * @return a new {@link Color} object representing the color
+     * @return a {@link Color} object representing the color; parsed RGB values
+     *         are shared through {@link Flyweights#COLORS}
      */
     public static Color getColor(String value) {
-        if (value.contains(",")) {
-            int[] rgb = Arrays.stream(value.split(","))
-                              .mapToInt(Integer::parseInt).toArray();
-            if (rgb.length == 3) {
-                return new Color(rgb[0], rgb[1], rgb[2]);
+        if (value.indexOf(',') >= 0) {
+            // parsed colors are shared by all components
+            Color color = Flyweights.COLORS.intern(value, () -> parseRGB(value));
+            if (color != null) {
+                return color;
             }
         }
         else if (Option.Query.isQuery(value)) {
@@ -242,6 +421,15 @@ public final class GlobalDesc {
         return Color.getColor(value);
     }
 
+    private static Color parseRGB(String value) {
+        String[] rgb = value.split(",");
+        if (rgb.length != 3) {
+            return null;
+        }
+        return new Color(Integer.parseInt(rgb[0]), Integer.parseInt(rgb[1]),
+                         Integer.parseInt(rgb[2]));
+    }
+
     public static void ensureOptionsInitialized() {
         if (optionsInitialized) {
             return;
@@ -257,28 +445,24 @@ public final class GlobalDesc {
         }
         registerDefaults();
 
-        URL url = ClassLoader.getSystemResource(OPTIONS_PREFIX);
-        if (url == null) {
-            return null;
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = GlobalDesc.class.getClassLoader();
         }
 
         try {
-            File   optionsDir = new File(url.getFile() + "/");
-            File[] options    = optionsDir.listFiles();
-            if (options == null || options.length == 0) {
-                return null;
+            // Every jar ships a single precompiled index, so there is no
+            // directory to list and no property file to parse here.
+            Map<String, Map<String, String>> options = OptionsIndex.load(loader);
+            if (options.isEmpty()) {
+                options = loadOptionsDirectory(loader);
             }
 
-            for (File file : options) {
-                // This replacement enables the extra properties' extension at
-                // the end of the loaded file.
-                String className = file.getName().replace(".properties", "");
-
+            for (Map.Entry<String, Map<String, String>> entry : options.entrySet()) {
                 Properties local = new Properties();
-                local.load(new FileReader(file));
-                sharedOptions.putIfAbsent(className, local);
+                local.putAll(entry.getValue());
+                sharedOptions.putIfAbsent(entry.getKey(), local);
             }
-
         } catch (IOException e) {
             throw new UnsupportedOperationException(e);
         }
@@ -286,6 +470,22 @@ public final class GlobalDesc {
         return null;
     }
 
+    // Fallback for exploded class directories that were built without the
+    // options index (e.g. by an IDE).
+    private static Map<String, Map<String, String>> loadOptionsDirectory(ClassLoader loader)
+            throws IOException {
+        URL url = loader.getResource(OPTIONS_PREFIX);
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return Map.of();
+        }
+
+        try {
+            return OptionsIndex.readDirectory(new File(url.toURI()));
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return Map.of();
+        }
+    }
+
     private static void registerDefaults() {
         sharedOptions.putIfAbsent(Layout.class.getName(), new GlobalOptions.LayoutOptions());
         sharedOptions.putIfAbsent(Margin.class.getName(), new GlobalOptions.MarginOptions());
@@ -0,0 +1,258 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing.core; //@date 18.10.2026
+
+import io.github.proto4j.swing.core.desc.GenericDesc;
+import io.github.proto4j.swing.laf.LAFChangeListener;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps track of all descriptions whose applied values depend on the current
+ * look and feel (see {@link GenericDesc#dependsOnLookAndFeel()}), e.g.
+ * {@code @}-queries for texts, titles, colors and borders. Only a copy of the
+ * {@code @}-query values is stored (see {@link GenericDesc#copyDependentValues()}),
+ * so when the look and feel changes, just these values are applied again.
+ * Every other property of the component keeps the value it has at runtime.
+ * <p>
+ * The descriptions are re-applied on the event dispatch thread in slices of
+ * {@link #getBatchSize()} components, so the GUI stays responsive. The
+ * registered {@link LAFChangeListener}s are called as follows:
+ * <ol>
+ *     <li>{@link LAFChangeListener#SETUP} once with a {@code null} component,</li>
+ *     <li>{@link LAFChangeListener#UNINSTALL} for every affected component
+ *     before its descriptions are applied,</li>
+ *     <li>{@link LAFChangeListener#INSTALL} for every affected component
+ *     afterwards.</li>
+ * </ol>
+ * Components are referenced weakly and the stored copies do not reference
+ * them, so they are not kept alive by this class.
+ *
+ * @see LAFChangeListener
+ * @since 0.0.2
+ */
+public final class LAFBindings {
+
+    /**
+     * The system property defining the amount of components that are updated
+     * in a single event dispatch thread slice.
+     */
+    public static final String BATCH_PROPERTY = "proto4j.swing.laf.batch";
+
+    /**
+     * The batch size that is used if no property value was defined.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 200;
+
+    // the values never reference their component, see GenericDesc.copyDependentValues()
+    private static final Map<Component, GenericDesc<?>[]> BINDINGS = new WeakHashMap<>();
+
+    private static final List<LAFChangeListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    // incremented on every update, so that an outdated update stops
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    // used to register the UIManager listener only once
+    private static volatile boolean listening;
+
+    private LAFBindings() {}
+
+    /**
+     * Tracks the given description if it depends on the look and feel.
+     *
+     * @param component the component the description was applied to
+     * @param desc the applied description
+     */
+    public static void trackIfDependent(Object component, GenericDesc<?> desc) {
+        if (component instanceof Component && desc != null && desc.dependsOnLookAndFeel()) {
+            track((Component) component, desc);
+        }
+    }
+
+    /**
+     * Tracks the look and feel dependent values of the given description, so
+     * that they will be applied again to the given component after the look
+     * and feel has changed. A description of the same annotation type that
+     * was tracked before is replaced.
+     *
+     * @param component the component the description was applied to
+     * @param desc the applied description
+     * @throws NullPointerException if any of the given arguments is {@code null}
+     */
+    public static void track(Component component, GenericDesc<?> desc) throws NullPointerException {
+        Objects.requireNonNull(component);
+        Objects.requireNonNull(desc);
+
+        GenericDesc<?> copy = desc.copyDependentValues();
+        if (copy == null) {
+            return;
+        }
+        ensureListening();
+
+        synchronized (BINDINGS) {
+            GenericDesc<?>[] descs = BINDINGS.get(component);
+            if (descs == null) {
+                descs = new GenericDesc<?>[]{copy};
+            } else {
+                int index = 0;
+                while (index < descs.length && descs[index].annotationType() != copy.annotationType()) {
+                    index++;
+                }
+                descs = Arrays.copyOf(descs, Math.max(descs.length, index + 1));
+                descs[index] = copy;
+            }
+            BINDINGS.put(component, descs);
+        }
+    }
+
+    /**
+     * Stops tracking the given component.
+     *
+     * @param component the component
+     */
+    public static void untrack(Component component) {
+        if (component == null) {
+            return;
+        }
+        synchronized (BINDINGS) {
+            BINDINGS.remove(component);
+        }
+    }
+
+    /**
+     * @return the amount of currently tracked components
+     */
+    public static int size() {
+        synchronized (BINDINGS) {
+            return BINDINGS.size();
+        }
+    }
+
+    /**
+     * Registers a listener that is informed about every updated component.
+     *
+     * @param listener the listener
+     * @throws NullPointerException if the given listener is {@code null}
+     */
+    public static void addListener(LAFChangeListener listener) throws NullPointerException {
+        LISTENERS.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * Removes the given listener.
+     *
+     * @param listener the listener
+     */
+    public static void removeListener(LAFChangeListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * @return the amount of components that are updated in a single event
+     *         dispatch thread slice
+     */
+    public static int getBatchSize() {
+        return Math.max(1, Integer.getInteger(BATCH_PROPERTY, DEFAULT_BATCH_SIZE));
+    }
+
+    /**
+     * Applies all tracked descriptions again. This method is called
+     * automatically when the look and feel changes, but can also be used
+     * after the {@link UIManager} defaults were changed. A running update is
+     * cancelled.
+     */
+    public static void reapply() {
+        List<Map.Entry<Component, GenericDesc<?>[]>> bindings;
+        synchronized (BINDINGS) {
+            bindings = new ArrayList<>(BINDINGS.size());
+            for (Map.Entry<Component, GenericDesc<?>[]> entry : BINDINGS.entrySet()) {
+                bindings.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        int generation = GENERATION.incrementAndGet();
+        // Started later, so that all other listeners (e.g. the query cache)
+        // are informed about the change before.
+        EventQueue.invokeLater(() -> {
+            fire(LAFChangeListener.SETUP, null);
+            update(bindings, 0, generation, getBatchSize());
+        });
+    }
+
+    private static void update(List<Map.Entry<Component, GenericDesc<?>[]>> bindings,
+                               int start, int generation, int batchSize) {
+        if (generation != GENERATION.get()) {
+            // a newer update was started
+            return;
+        }
+
+        int end = Math.min(bindings.size(), start + batchSize);
+        for (int i = start; i < end; i++) {
+            Component component = bindings.get(i).getKey();
+
+            fire(LAFChangeListener.UNINSTALL, component);
+            for (GenericDesc<?> desc : bindings.get(i).getValue()) {
+                desc.applyTo(component);
+            }
+            fire(LAFChangeListener.INSTALL, component);
+        }
+
+        if (end < bindings.size()) {
+            EventQueue.invokeLater(() -> update(bindings, end, generation, batchSize));
+        }
+    }
+
+    private static void fire(String state, Component component) {
+        for (LAFChangeListener listener : LISTENERS) {
+            listener.update(state, component);
+        }
+    }
+
+    private static void ensureListening() {
+        if (listening) {
+            return;
+        }
+
+        synchronized (LAFBindings.class) {
+            if (!listening) {
+                UIManager.addPropertyChangeListener(event -> {
+                    if ("lookAndFeel".equals(event.getPropertyName())) {
+                        reapply();
+                    }
+                });
+                listening = true;
+            }
+        }
+    }
+}
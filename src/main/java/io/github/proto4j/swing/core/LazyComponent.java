@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing.core; //@date 18.10.2026
+
+import io.github.proto4j.swing.FieldReference;
+import io.github.proto4j.swing.annotation.Lazy;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The placeholder of a {@link Lazy} component. It is bound to the target
+ * component instead of the real one and creates it the first time it is
+ * showing. The created component is placed in the center of this panel.
+ *
+ * @see Lazy
+ * @since 0.0.2
+ */
+final class LazyComponent extends JPanel implements HierarchyListener {
+
+    private static final long serialVersionUID = 5826416397241736427L;
+
+    private final transient FieldReference<?> reference;
+
+    // actions executed after the component was created
+    private transient List<Runnable> pending = new ArrayList<>();
+
+    LazyComponent(FieldReference<?> reference) {
+        super(new BorderLayout());
+        this.reference = Objects.requireNonNull(reference);
+        setOpaque(false);
+        addHierarchyListener(this);
+    }
+
+    /**
+     * Returns the placeholder of the given reference if its component was not
+     * created yet.
+     *
+     * @param reference the field's reference
+     * @return the placeholder or {@code null} if the component was created
+     */
+    static LazyComponent of(FieldReference<?> reference) {
+        if (reference.isInitialized()) {
+            return null;
+        }
+
+        Object instance = reference.getDescription().getInstance();
+        return instance instanceof LazyComponent ? (LazyComponent) instance : null;
+    }
+
+    @Override
+    public void hierarchyChanged(HierarchyEvent e) {
+        if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0 && isShowing()) {
+            // FieldReference.get() creates the component and calls attach()
+            reference.get();
+        }
+    }
+
+    /**
+     * Executes the given action after the component was created, or directly
+     * if it already exists.
+     *
+     * @param action the action to execute
+     */
+    void whenCreated(Runnable action) {
+        Objects.requireNonNull(action);
+        if (pending == null) {
+            action.run();
+        } else {
+            pending.add(action);
+        }
+    }
+
+    /**
+     * Places the created component into this placeholder and executes all
+     * pending actions. The component exists regardless of the actions, so a
+     * failing action does not prevent the others from being executed. Each
+     * failure is passed to the uncaught exception handler of the current
+     * thread.
+     *
+     * @param component the created component
+     */
+    void attach(Component component) {
+        removeHierarchyListener(this);
+        add(component, BorderLayout.CENTER);
+
+        List<Runnable> actions = pending;
+        pending = null;
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, new IllegalStateException(
+                        "Pending action of lazy component '"
+                                + reference.getDescription().getFieldName() + "' failed", e));
+            }
+        }
+        revalidate();
+        repaint();
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing.core; //@date 18.10.2026
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The order in which the components of a GUI are initialized and linked
+ * (see {@link SwingLinker}).
+ * <p>
+ * The containment graph is built from the target of every component. It is
+ * traversed from the top-level components in the order of their component
+ * numbers: a component is attached to its target after all of its own
+ * children were attached. Every subtree is therefore complete before it joins
+ * the hierarchy, and siblings are still added in the order of their component
+ * numbers.
+ * <p>
+ * The {@code init} methods of a subtree are called once the subtree was
+ * attached to its top-level component, parents before their children. Like
+ * with the former order of the component numbers, every ancestor of a
+ * component is therefore part of the top-level hierarchy when its
+ * {@code init} method is called.
+ * <p>
+ * The order is encoded as an array of steps: a non-negative step {@code i}
+ * initializes the slot {@code i}, a negative step attaches the slot
+ * {@code ~step} to its target (see {@link #isAttach(int)} and
+ * {@link #slotOf(int)}).
+ *
+ * @see GUIBlueprint
+ * @since 0.0.2
+ */
+public final class LinkOrder {
+
+    private final int[] steps;
+    private final int[] roots;
+
+    private LinkOrder(int[] steps, int[] roots) {
+        this.steps = steps;
+        this.roots = roots;
+    }
+
+    /**
+     * Computes the link order of the given slots.
+     *
+     * @param ids the component number of every slot
+     * @param targets the index of the target slot of every slot or
+     *         {@code -1} if the slot has no target
+     * @return the computed link order
+     * @throws NullPointerException     if any of the given arrays is {@code null}
+     * @throws IllegalArgumentException if both arrays differ in length
+     */
+    public static LinkOrder of(int[] ids, int[] targets)
+            throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(ids);
+        Objects.requireNonNull(targets);
+        if (ids.length != targets.length) {
+            throw new IllegalArgumentException("ids and targets differ in length");
+        }
+
+        int       size  = ids.length;
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        // stable, so slots with the same number keep their declaration order
+        Arrays.sort(order, Comparator.comparingInt(i -> ids[i]));
+
+        List<List<Integer>> children = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            children.add(null);
+        }
+        List<Integer> roots = new ArrayList<>();
+        for (int index : order) {
+            int target = targets[index];
+            if (target < 0 || target >= size || target == index) {
+                roots.add(index);
+                continue;
+            }
+            if (children.get(target) == null) {
+                children.set(target, new ArrayList<>(4));
+            }
+            children.get(target).add(index);
+        }
+
+        int[]     steps   = new int[size * 2];
+        int       count   = 0;
+        boolean[] visited = new boolean[size];
+        Steps     inits   = new Steps(size);
+        for (int root : roots) {
+            steps[count++] = root;
+            count = visit(root, children, visited, steps, count, inits, true);
+        }
+        // components in a cycle are linked like before: in the order of
+        // their numbers, and initialized once they were linked
+        for (int index : order) {
+            if (!visited[index]) {
+                inits.add(index);
+                count = visit(index, children, visited, steps, count, inits, false);
+                steps[count++] = ~index;
+                count = inits.drainTo(steps, count);
+            }
+        }
+
+        List<Integer> containers = new ArrayList<>();
+        for (int root : roots) {
+            if (children.get(root) != null) {
+                containers.add(root);
+            }
+        }
+        return new LinkOrder(Arrays.copyOf(steps, count),
+                             containers.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    // Appends the attach steps of all components below the given start.
+    // Their init steps are collected in the given buffer, which is drained
+    // after each child of a top-level start was attached.
+    private static int visit(int start, List<List<Integer>> children, boolean[] visited,
+                             int[] steps, int count, Steps inits, boolean topLevel) {
+        // iterative, so deep trees don't overflow the stack
+        List<int[]> stack = new ArrayList<>();
+        visited[start] = true;
+        stack.add(new int[]{start, 0});
+
+        while (!stack.isEmpty()) {
+            int[]         frame = stack.get(stack.size() - 1);
+            List<Integer> list  = children.get(frame[0]);
+            if (list == null || frame[1] >= list.size()) {
+                stack.remove(stack.size() - 1);
+                if (!stack.isEmpty()) {
+                    // the subtree is complete, attach it to its target
+                    steps[count++] = ~frame[0];
+                    if (topLevel && stack.size() == 1) {
+                        count = inits.drainTo(steps, count);
+                    }
+                }
+                continue;
+            }
+
+            int child = list.get(frame[1]++);
+            if (!visited[child]) {
+                visited[child] = true;
+                inits.add(child);
+                stack.add(new int[]{child, 0});
+            }
+        }
+        return count;
+    }
+
+    // the init steps of a subtree that is not attached to its top-level yet
+    private static final class Steps {
+        private final int[] values;
+        private int         size;
+
+        Steps(int capacity) {
+            this.values = new int[capacity];
+        }
+
+        void add(int step) {
+            values[size++] = step;
+        }
+
+        int drainTo(int[] steps, int count) {
+            System.arraycopy(values, 0, steps, count, size);
+            count += size;
+            size = 0;
+            return count;
+        }
+    }
+
+    /**
+     * @param step a step of this order
+     * @return whether the given step attaches a slot to its target
+     */
+    public static boolean isAttach(int step) {
+        return step < 0;
+    }
+
+    /**
+     * @param step a step of this order
+     * @return the slot index of the given step
+     */
+    public static int slotOf(int step) {
+        return step < 0 ? ~step : step;
+    }
+
+    /**
+     * @return all steps of this order
+     */
+    public int[] getSteps() {
+        return steps.clone();
+    }
+
+    /**
+     * @return the indices of all top-level slots that other slots are
+     *         attached to
+     */
+    public int[] getRoots() {
+        return roots.clone();
+    }
+
+    int[] steps() {
+        return steps;
+    }
+
+    int[] roots() {
+        return roots;
+    }
+}
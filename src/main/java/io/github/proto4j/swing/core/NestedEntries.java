@@ -0,0 +1,199 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing.core; //@date 18.10.2026
+
+import io.github.proto4j.swing.Entry;
+import io.github.proto4j.swing.annotation.Nested;
+
+import java.awt.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Builds the {@link Nested} GUIs of a single parent GUI. Sibling nested GUIs
+ * do not depend on each other, so the work that does not touch any Swing
+ * component - computing their {@link GUIBlueprint}s and resolving the
+ * description types (see {@link GUIBlueprint#preload(Class)}) - is started
+ * concurrently on the {@link ForkJoinPool#commonPool()} if there are at least
+ * as many of them as defined by the {@link #THRESHOLD_PROPERTY}. The
+ * components themselves are always created on the calling thread, which is
+ * usually the event dispatch thread, and attached to the parent in field
+ * order.
+ * <p>
+ * Creating whole nested GUIs on pool threads violates the Swing threading
+ * rules and is therefore only done if the {@link #CONCURRENT_BUILD_PROPERTY}
+ * is set to {@code true}. Nested GUIs built that way are not realized before
+ * they are attached to the parent on the calling thread.
+ *
+ * @see Nested
+ * @since 0.0.2
+ */
+public final class NestedEntries {
+
+    /**
+     * The system property defining the minimum amount of sibling nested GUIs
+     * that are prepared concurrently. Use {@link Integer#MAX_VALUE} to
+     * disable concurrent preparation.
+     */
+    public static final String THRESHOLD_PROPERTY = "proto4j.swing.nested.threshold";
+
+    /**
+     * The threshold that is used if no property value was defined.
+     */
+    public static final int DEFAULT_THRESHOLD = 2;
+
+    /**
+     * The system property that enables the creation of the nested GUIs
+     * themselves on pool threads ({@code false} by default). Only GUIs whose
+     * components can safely be created off the event dispatch thread should
+     * enable this property.
+     */
+    public static final String CONCURRENT_BUILD_PROPERTY = "proto4j.swing.nested.concurrentBuild";
+
+    // Used if there are fewer nested GUIs than the threshold
+    private static final NestedEntries SEQUENTIAL = new NestedEntries(Map.of(), false);
+
+    private final Map<String, ForkJoinTask<?>> tasks;
+
+    // whether the tasks create the nested entries or only preload them
+    private final boolean built;
+
+    private NestedEntries(Map<String, ForkJoinTask<?>> tasks, boolean built) {
+        this.tasks = tasks;
+        this.built = built;
+    }
+
+    /**
+     * Starts the preparation of the given nested GUIs if there are at least
+     * {@link #getThreshold()} of them. Otherwise, each GUI is prepared on
+     * the call to {@link #attach(Entry, String, Class)}. The GUIs are
+     * created on pool threads only if {@link #isConcurrentBuild()} returns
+     * {@code true}.
+     *
+     * @param names the field names of the nested GUIs
+     * @param types the GUI types at the same position
+     * @return the started tasks
+     * @throws NullPointerException     if any of the given arrays is {@code null}
+     * @throws IllegalArgumentException if both arrays differ in length
+     */
+    public static NestedEntries fork(String[] names, Class<?>[] types)
+            throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(names);
+        Objects.requireNonNull(types);
+        if (names.length != types.length) {
+            throw new IllegalArgumentException("names and types differ in length");
+        }
+
+        if (names.length < Math.max(2, getThreshold())) {
+            return SEQUENTIAL;
+        }
+
+        ForkJoinPool                  pool  = ForkJoinPool.commonPool();
+        Map<String, ForkJoinTask<?>> tasks = new HashMap<>(names.length * 2);
+        if (isConcurrentBuild()) {
+            for (int i = 0; i < names.length; i++) {
+                Class<?> type = types[i];
+                tasks.put(names[i], pool.submit(() -> Entry.of(type)));
+            }
+            return new NestedEntries(tasks, true);
+        }
+
+        // Siblings of the same type share a single preload task
+        Map<Class<?>, ForkJoinTask<?>> preloads = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            tasks.put(names[i], preloads.computeIfAbsent(
+                    types[i], type -> pool.submit(() -> GUIBlueprint.preload(type))));
+        }
+        return new NestedEntries(tasks, false);
+    }
+
+    /**
+     * @return an instance that prepares and generates every nested GUI on
+     *         the calling thread
+     */
+    public static NestedEntries sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * @return the minimum amount of sibling nested GUIs that are prepared
+     *         concurrently
+     */
+    public static int getThreshold() {
+        return Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @return whether the nested GUIs are created on pool threads
+     * @see #CONCURRENT_BUILD_PROPERTY
+     */
+    public static boolean isConcurrentBuild() {
+        return Boolean.getBoolean(CONCURRENT_BUILD_PROPERTY);
+    }
+
+    /**
+     * Waits for the preparation of the nested GUI mapped to the given name,
+     * generates it on the calling thread and inserts it into the given parent
+     * entry. If the GUI was already created concurrently, only the created
+     * entry is inserted.
+     *
+     * @param entry the parent entry
+     * @param name the field's name
+     * @param type the nested GUI's type
+     * @return the nested GUI instance
+     * @throws Exception if an error occurs while generating the nested GUI
+     */
+    public Component attach(Entry<?> entry, String name, Class<?> type) throws Exception {
+        Objects.requireNonNull(entry);
+        Objects.requireNonNull(name);
+
+        Object result = null;
+        ForkJoinTask<?> task = tasks.get(name);
+        if (task != null) {
+            try {
+                result = task.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception) {
+                    throw (Exception) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+
+        Entry<?> nested = built && result != null
+                ? (Entry<?>) result
+                : Entry.of(Objects.requireNonNull(type));
+        entry.putNestedGUI(name, nested);
+        return (Component) nested.getGUI();
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing.core; //@date 18.10.2026
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * A binary index of all option files placed in the {@code META-INF/options/}
+ * directory. The index is generated at build time (see
+ * {@code OptionsIndexGenerator} in the {@code buildTools} source set) and
+ * stored as a single {@link #INDEX_RESOURCE} per jar, so that the options
+ * of all jars can be loaded with {@link ClassLoader#getResources(String)}
+ * without listing any directory or parsing property files.
+ * <p>
+ * The index has the following format (see {@link DataOutputStream}):
+ * <pre>
+ *     int    magic   (0x50344F49)
+ *     short  version
+ *     int    class count
+ *     for each class:
+ *         UTF    class name
+ *         int    option count
+ *         UTF[]  key and value of every option
+ * </pre>
+ *
+ * @see GlobalDesc#getSharedOption(String)
+ * @since 0.0.2
+ */
+public final class OptionsIndex {
+
+    /**
+     * The name of the index resource in every jar.
+     */
+    public static final String INDEX_RESOURCE = "META-INF/options.idx";
+
+    private static final int   MAGIC   = 0x50344F49;
+    private static final short VERSION = 1;
+
+    private OptionsIndex() {}
+
+    /**
+     * Reads all indexes visible to the given class loader. If multiple
+     * indexes define options for the same class, the first one is used.
+     *
+     * @param loader the class loader to search with
+     * @return an immutable map of class names to their options
+     * @throws IOException if an index could not be read
+     */
+    public static Map<String, Map<String, String>> load(ClassLoader loader) throws IOException {
+        Objects.requireNonNull(loader);
+
+        Map<String, Map<String, String>> options = new LinkedHashMap<>();
+        Enumeration<URL> resources = loader.getResources(INDEX_RESOURCE);
+        while (resources.hasMoreElements()) {
+            try (InputStream in = resources.nextElement().openStream()) {
+                read(in).forEach(options::putIfAbsent);
+            }
+        }
+        return Collections.unmodifiableMap(options);
+    }
+
+    /**
+     * Reads a single index in one pass.
+     *
+     * @param in the stream to read from
+     * @return an immutable map of class names to their options
+     * @throws IOException if the stream is not a valid index
+     */
+    public static Map<String, Map<String, String>> read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not an options index");
+        }
+        short version = data.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported options index version: " + version);
+        }
+
+        int classes = data.readInt();
+        Map<String, Map<String, String>> options = new LinkedHashMap<>(classes * 2);
+        for (int i = 0; i < classes; i++) {
+            String className = data.readUTF();
+            int    count     = data.readInt();
+
+            Map<String, String> values = new HashMap<>(count * 2);
+            for (int j = 0; j < count; j++) {
+                values.put(data.readUTF(), data.readUTF());
+            }
+            options.put(className, Map.copyOf(values));
+        }
+        return Collections.unmodifiableMap(options);
+    }
+
+    /**
+     * Writes the given options as a new index.
+     *
+     * @param options the options mapped to their class names
+     * @param out the stream to write to
+     * @throws IOException if an I/O error occurs
+     */
+    static void write(Map<String, ? extends Map<String, String>> options, OutputStream out)
+            throws IOException {
+        Objects.requireNonNull(options);
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeInt(options.size());
+        for (Map.Entry<String, ? extends Map<String, String>> entry : options.entrySet()) {
+            data.writeUTF(entry.getKey());
+            data.writeInt(entry.getValue().size());
+            for (Map.Entry<String, String> option : entry.getValue().entrySet()) {
+                data.writeUTF(option.getKey());
+                data.writeUTF(option.getValue());
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads all option files of the given directory. The file name (without
+     * a {@code .properties} extension) is the name of the annotation class.
+     *
+     * @param dir the options directory
+     * @return the options mapped to their class names
+     * @throws IOException if a file could not be read
+     */
+    static Map<String, Map<String, String>> readDirectory(File dir) throws IOException {
+        Objects.requireNonNull(dir);
+
+        Map<String, Map<String, String>> options = new LinkedHashMap<>();
+        File[] files = dir.listFiles(File::isFile);
+        if (files == null) {
+            return options;
+        }
+
+        Arrays.sort(files);
+        for (File file : files) {
+            // This replacement enables the extra properties' extension at
+            // the end of the loaded file.
+            String className = file.getName().replace(".properties", "");
+
+            Properties local = new Properties();
+            try (Reader reader = new FileReader(file)) {
+                local.load(reader);
+            }
+            // sorted to generate the same index on every build
+            Map<String, String> values = new TreeMap<>();
+            for (String key : local.stringPropertyNames()) {
+                values.put(key, local.getProperty(key));
+            }
+            options.put(className, values);
+        }
+        return options;
+    }
+}
@@ -49,11 +49,14 @@ public interface SwingHandler {
      * The ServiceManager object storing all loaded {@link SwingHandler}s. They
      * should call the {@link ServiceManager#register(Object)} in a static
      * context to ensure the service wil be added.
+     * <p>
+     * Handlers are mapped to their {@link #annotationType()}, so they can be
+     * located with {@link ServiceManager#getByKey(Class)}.
      *
      * @since 1.0
      */
     public static final ServiceManager<SwingHandler> CACHE =
-            ServiceManager.from(SwingHandler.class);
+            ServiceManager.from(SwingHandler.class, SwingHandler::annotationType);
 
     /**
      * Handles the incoming {@link FieldReference} with its {@link ComponentDesc}
@@ -68,6 +71,25 @@ public interface SwingHandler {
      */
     public void onElement(FieldReference<?> reference, AnnotationContext<?> context);
 
+    /**
+     * Handles the incoming {@link FieldReference} with attribute values that
+     * were already read from the annotation, for example by a
+     * {@link GUIBlueprint}.
+     * <p>
+     * The default implementation ignores the given values and delegates to
+     * {@link #onElement(FieldReference, AnnotationContext)}.
+     *
+     * @param reference the field's reference
+     * @param context the loaded annotation wrapped into an {@link AnnotationContext}
+     * @param names the attribute names
+     * @param values the attribute values at the same position
+     * @since 0.0.2
+     */
+    public default void onElement(FieldReference<?> reference, AnnotationContext<?> context,
+                                  String[] names, Object[] values) {
+        onElement(reference, context);
+    }
+
     /**
      * @return the annotation type that can be handled
      */
@@ -26,19 +26,26 @@ package io.github.proto4j.swing.core; //@date 06.09.2022
 
 import io.github.proto4j.swing.Entry;
 import io.github.proto4j.swing.FieldReference;
+import io.github.proto4j.swing.PathIndex;
 import io.github.proto4j.swing.annotation.Layout;
+import io.github.proto4j.swing.annotation.Lazy;
 import io.github.proto4j.swing.annotation.Option;
 import io.github.proto4j.swing.core.desc.ComponentDesc;
 import io.github.proto4j.swing.core.desc.DescInitializationException;
 import io.github.proto4j.swing.core.desc.GenericDesc;
 import io.github.proto4j.swing.core.desc.LayoutDesc;
 import io.github.proto4j.swing.core.desc.layout.BorderLayoutDesc;
+import io.github.proto4j.swing.jfr.InitEvent;
+import io.github.proto4j.swing.jfr.LinkEvent;
 
 import javax.swing.*;
 import java.awt.*;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 
@@ -46,6 +53,14 @@ import java.util.Properties;
  * This class is the next level handler in the generation process of every
  * gui. It is called after the {@link SwingReader} and should add the given
  * components to their parent component.
+ * <p>
+ * Components are attached bottom-up in the {@link LinkOrder}, so every
+ * subtree is complete before it joins the hierarchy and each add only
+ * invalidates a container that is not part of the visible hierarchy yet.
+ * The {@code init} methods of a subtree are called once it was attached to
+ * its top-level component. Targets in nested entries (dotted paths, see {@link Entry#find(String)})
+ * are resolved after the whole entry tree was linked. Afterwards, every
+ * top-level container is validated once.
  *
  * @see SwingReader
  * @since 1.0
@@ -72,7 +87,38 @@ public class SwingLinker {
         FieldReference<?>[] fields = entry.getDeclaredFields();
 
         Arrays.sort(fields, Comparator.comparingInt(FieldReference::getId));
-        for (FieldReference<?> ref : fields) {
+        Map<FieldReference<?>, Integer> indices = new IdentityHashMap<>();
+        for (int i = 0; i < fields.length; i++) {
+            indices.put(fields[i], i);
+        }
+
+        int[]    ids     = new int[fields.length];
+        int[]    targets = new int[fields.length];
+        String[] paths   = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            GenericDesc<Option> desc = fields[i].getDescription().getDesc(Option.class);
+            ids[i]     = fields[i].getId();
+            targets[i] = -1;
+            if (desc.hasOption(target)) {
+                String name = desc.get(target).toString();
+                FieldReference<?> refTarget = entry.getDeclaredField(name);
+                if (refTarget != null) {
+                    targets[i] = indices.getOrDefault(refTarget, -1);
+                } else if (isPath(name)) {
+                    paths[i] = name;
+                }
+            }
+        }
+
+        LinkOrder order = LinkOrder.of(ids, targets);
+        for (int step : order.steps()) {
+            int               index = LinkOrder.slotOf(step);
+            FieldReference<?> ref   = fields[index];
+            if (LinkOrder.isAttach(step)) {
+                attach(linker, ref, fields[targets[index]]);
+                continue;
+            }
+
             GenericDesc<Option> desc = ref.getDescription().getDesc(Option.class);
             if (desc.hasOption(init)) {
                 Object gui = entry.getGUI();
@@ -80,17 +126,178 @@ public class SwingLinker {
                         gui.getClass().getDeclaredMethod(desc.get(init).toString());
 
                 method.setAccessible(true);
-                method.invoke(gui);
+                String name = ref.getDescription().getFieldName();
+                LazyComponent lazy = LazyComponent.of(ref);
+                if (lazy != null) {
+                    // Lazy components are initialized after they were created
+                    lazy.whenCreated(() -> invokeInit(method, gui, name));
+                } else {
+                    invoke(method, gui, name);
+                }
             }
+        }
 
-            if (desc.hasOption(target)) {
-                FieldReference<?> refTarget =
-                        entry.getDeclaredField(desc.get(target).toString());
-                if (refTarget != null) {
-                    linker.bind(ref, refTarget);
+        for (int i = 0; i < fields.length; i++) {
+            if (paths[i] != null) {
+                attach(linker, fields[i], entry.find(paths[i]));
+            }
+        }
+
+        for (int root : order.roots()) {
+            linker.validate(fields[root]);
+        }
+    }
+
+    /**
+     * Executes all 'init' methods and tries to add the fields to their target
+     * components. In contrast to {@link #readEntry(Entry)} the order, methods
+     * and targets are taken from the given {@link GUIBlueprint}, so nothing has
+     * to be sorted or resolved by name here.
+     *
+     * @param entry the GUI entry
+     * @param blueprint the blueprint the entry was created from
+     * @throws NullPointerException if any of the given arguments is {@code null}
+     * @since 0.0.2
+     */
+    public static void readEntry(Entry<?> entry, GUIBlueprint<?> blueprint) throws Exception {
+        readEntry(entry, blueprint, null);
+    }
+
+    /**
+     * Executes all 'init' methods and tries to add the fields to their target
+     * components like {@link #readEntry(Entry, GUIBlueprint)} and records the
+     * time spent in the given {@link BuildMetrics}.
+     *
+     * @param entry the GUI entry
+     * @param blueprint the blueprint the entry was created from
+     * @param metrics the metrics to record or {@code null} to disable the
+     *         recording
+     * @throws NullPointerException if the entry or blueprint is {@code null}
+     * @since 0.0.2
+     */
+    public static void readEntry(Entry<?> entry, GUIBlueprint<?> blueprint, BuildMetrics metrics)
+            throws Exception {
+        Objects.requireNonNull(entry);
+        Objects.requireNonNull(blueprint);
+
+        long begin = metrics != null ? System.nanoTime() : 0L;
+        long init  = 0L;
+
+        List<GUIBlueprint.Slot> slots = blueprint.getSlots();
+        FieldReference<?>[]     refs  = new FieldReference<?>[slots.size()];
+        for (int i = 0; i < refs.length; i++) {
+            refs[i] = entry.getDeclaredField(slots.get(i).getName());
+        }
+
+        SwingLinker linker = new SwingLinker();
+        Object      gui    = entry.getGUI();
+        LinkOrder   order  = blueprint.getLinkSteps();
+        for (int step : order.steps()) {
+            int               index = LinkOrder.slotOf(step);
+            GUIBlueprint.Slot slot  = slots.get(index);
+            if (LinkOrder.isAttach(step)) {
+                attach(linker, refs[index], refs[slot.getTarget()]);
+                continue;
+            }
+
+            if (slot.getInitName() != null) {
+                Method method = slot.getInit();
+                if (method == null) {
+                    throw new NoSuchMethodException(gui.getClass().getName()
+                            + "." + slot.getInitName() + "()");
+                }
+
+                LazyComponent lazy = refs[index] == null ? null : LazyComponent.of(refs[index]);
+                if (lazy != null) {
+                    // Lazy components are initialized after they were created
+                    lazy.whenCreated(() -> invokeInit(method, gui, slot.getName()));
+                } else if (metrics != null) {
+                    long start = System.nanoTime();
+                    invoke(method, gui, slot.getName());
+                    init += System.nanoTime() - start;
+                } else {
+                    invoke(method, gui, slot.getName());
                 }
             }
         }
+
+        // targets in nested entries exist once the whole tree was created
+        for (int i = 0; i < refs.length; i++) {
+            GUIBlueprint.Slot slot = slots.get(i);
+            if (slot.getTarget() == -1 && isPath(slot.getTargetName())) {
+                attach(linker, refs[i], entry.find(slot.getTargetName()));
+            }
+        }
+
+        for (int root : order.roots()) {
+            if (refs[root] != null) {
+                linker.validate(refs[root]);
+            }
+        }
+
+        if (metrics != null) {
+            metrics.addPhase(BuildMetrics.Phase.INIT, init);
+            metrics.addPhase(BuildMetrics.Phase.LINK, System.nanoTime() - begin - init);
+        }
+    }
+
+    /**
+     * @param target the target name of an {@link Option} annotation
+     * @return whether the given target is the dotted path of a field in a
+     *         nested entry
+     * @since 0.0.2
+     */
+    public static boolean isPath(String target) {
+        return target != null && target.indexOf(PathIndex.SEPARATOR) > 0;
+    }
+
+    /**
+     * Executes the given action once the component of the given reference
+     * exists. Components marked as {@link Lazy} are created the first time
+     * they are showing, so actions on them are deferred until then. For all
+     * other components the action is executed directly.
+     *
+     * @param reference the field's reference
+     * @param action the action to execute
+     * @return {@code true} if the action was deferred
+     * @throws NullPointerException if any of the given arguments is {@code null}
+     * @since 0.0.2
+     */
+    public static boolean whenCreated(FieldReference<?> reference, Runnable action)
+            throws NullPointerException {
+        Objects.requireNonNull(reference);
+        Objects.requireNonNull(action);
+
+        LazyComponent lazy = LazyComponent.of(reference);
+        if (lazy == null) {
+            action.run();
+            return false;
+        }
+        lazy.whenCreated(action);
+        return true;
+    }
+
+    private static void attach(SwingLinker linker, FieldReference<?> src, FieldReference<?> dest) {
+        if (src == null || dest == null) {
+            return;
+        }
+        whenCreated(dest, () -> linker.bind(src, dest));
+    }
+
+    private static void invokeInit(Method method, Object gui, String field) {
+        try {
+            invoke(method, gui, field);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void invoke(Method method, Object gui, String field)
+            throws ReflectiveOperationException {
+        InitEvent event = new InitEvent();
+        event.begin();
+        method.invoke(gui);
+        event.report(gui.getClass(), field, Option.class);
     }
 
     /**
@@ -106,7 +313,41 @@ public class SwingLinker {
         Objects.requireNonNull(reference);
         Objects.requireNonNull(target);
 
-        Object src = reference.get();
+        LinkEvent event = new LinkEvent();
+        event.begin();
+        bind0(reference, target);
+
+        ComponentDesc desc = reference.getDescription();
+        event.report(desc.getDeclaringClass(), desc.getFieldName(), Option.class);
+    }
+
+    /**
+     * Validates the given top-level component once after all components were
+     * attached to it. AWT only lays out containers that are displayable, so
+     * the layout of any other container is computed when it becomes
+     * displayable (e.g. by {@link Window#pack()}), which validates it once
+     * again.
+     *
+     * @param root the reference of the top-level component
+     * @throws NullPointerException if the given reference is {@code null}
+     * @since 0.0.2
+     */
+    public void validate(FieldReference<?> root) throws NullPointerException {
+        Objects.requireNonNull(root);
+        if (!root.isInitialized()) {
+            return;
+        }
+
+        Object component = root.get();
+        if (component instanceof Container) {
+            ((Container) component).validate();
+        }
+    }
+
+    private void bind0(FieldReference<?> reference, FieldReference<?> target) {
+        // Lazy components are bound with their placeholder
+        Object src = reference.isInitialized()
+                ? reference.get() : reference.getDescription().getInstance();
         // REVISIT: Check the component type
         Container     dest    = (Container) target.get();
         ComponentDesc srcDesc = reference.getDescription();
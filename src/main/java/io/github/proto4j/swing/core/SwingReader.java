@@ -35,7 +35,6 @@ import java.awt.*;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Objects;
 
 /**
@@ -55,6 +54,10 @@ import java.util.Objects;
  * Note the {@link SwingLinker} statement above - it is used to execute all
  * defined 'init' methods from the {@link Option} annotation and tries to
  * bind each component to their specified parent component
+ * <p>
+ * The annotations of a GUI class are resolved only once and stored in a
+ * {@link GUIBlueprint}. This reader just creates the components and applies
+ * the blueprint to them.
  *
  * @see java.lang.AutoCloseable
  * @since 1.0
@@ -64,6 +67,28 @@ public class SwingReader implements AutoCloseable {
     // Indicates whether this reader is already closed
     private volatile boolean closed = false;
 
+    // the timings of the current entry; null if disabled
+    private final BuildMetrics metrics;
+
+    /**
+     * Creates a new reader that does not record any timings.
+     */
+    public SwingReader() {
+        this(null);
+    }
+
+    /**
+     * Creates a new reader that records its timings in the given
+     * {@link BuildMetrics}.
+     *
+     * @param metrics the metrics to record or {@code null} to disable the
+     *         recording
+     * @since 0.0.2
+     */
+    public SwingReader(BuildMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     /**
      * Tries to fill the given {@link Entry} with a GUI instance and all
      * possible {@link FieldReference} objects.
@@ -88,18 +113,21 @@ public class SwingReader implements AutoCloseable {
 
         T_GUI root = entry.getGUI();
         if (root == null) {
+            long begin = metrics != null ? System.nanoTime() : 0L;
             root = setGUIInstance(entry, args, type);
+            if (metrics != null) {
+                metrics.addPhase(BuildMetrics.Phase.INSTANCE, System.nanoTime() - begin);
+            }
         }
 
-        ServiceManager<LAFProvider> manager = LAFProvider.getManager();
-        handleRootComponent(entry, root, manager);
-        for (Field field : type.getDeclaredFields()) {
-            if (Modifier.isStatic(field.getModifiers())) {
-                // Static fields are ignored by default - there could be an
-                // implementation for handling static fields in the future.
-                continue;
-            }
-            handleComponent(entry, root, manager, field);
+        // All annotations are resolved once per class, so only the components
+        // have to be created here.
+        GUIBlueprint<T_GUI>         blueprint = GUIBlueprint.of(type);
+        ServiceManager<LAFProvider> manager   = LAFProvider.getManager();
+        // Independent nested GUIs may be generated concurrently
+        NestedEntries nested = NestedEntries.fork(blueprint.nestedNames(), blueprint.nestedTypes());
+        for (GUIBlueprint.Slot slot : blueprint.getSlots()) {
+            handleComponent(entry, root, manager, nested, slot);
         }
     }
 
@@ -122,101 +150,113 @@ public class SwingReader implements AutoCloseable {
         return root;
     }
 
-    private <T_GUI> void handleRootComponent
-            (Entry<T_GUI> entry, T_GUI root, ServiceManager<LAFProvider> manager)
+    private <T_GUI> void handleComponent
+            (Entry<T_GUI> entry, T_GUI root, ServiceManager<LAFProvider> manager,
+             NestedEntries nested, GUIBlueprint.Slot slot)
             throws Exception {
-        int id = 0;
-        AnnotationContext<Swing> ctx =
-                AnnotationContext.exchange(Swing.class, root.getClass());
-        LAFProvider provider = null;
+        LAFProvider provider = manager.getByKey(slot.getProviderType());
+        Objects.requireNonNull(provider, "Undefined LAFProvider");
 
-        if (!ctx.isPresent()) {
-            AnnotationContext<SwingWindow> wctx =
-                    AnnotationContext.exchange(SwingWindow.class, root.getClass());
-            if (!wctx.isPresent()) {
-                return;
+        long begin = metrics != null ? System.nanoTime() : 0L;
+        if (slot.isLazy()) {
+            createLazyReference(entry, root, provider, slot);
+            if (metrics != null) {
+                long time = System.nanoTime() - begin;
+                metrics.addPhase(BuildMetrics.Phase.HANDLERS, time);
+                metrics.addField(slot.getName(), time);
             }
-            provider = manager.get(p -> p.getClass() == wctx.annotationValue().provider());
-        } else {
-            provider = manager.get(p -> p.getClass() == ctx.annotationValue().provider());
+            return;
         }
 
-        Objects.requireNonNull(provider, "Undefined LAFProvider");
-        if (!(root instanceof Component)) {
-            throw new IllegalArgumentException("Annotated component not an instance of Component.class");
+        Component component = createComponent(entry, root, provider, nested, slot);
+        long      created   = metrics != null ? System.nanoTime() : 0L;
+        createFieldReference(entry, root, slot, component);
+        if (metrics != null) {
+            long end = System.nanoTime();
+            metrics.addPhase(BuildMetrics.Phase.COMPONENTS, created - begin);
+            metrics.addPhase(BuildMetrics.Phase.HANDLERS, end - created);
+            metrics.addField(slot.getName(), end - begin);
         }
-        Component component = (Component) root;
-        createFieldReference(entry, root, root.getClass(), id, component);
     }
 
-    private <T_GUI> void handleComponent
-            (Entry<T_GUI> entry, T_GUI root, ServiceManager<LAFProvider> manager, Field field)
+    private <T_GUI> Component createComponent
+            (Entry<T_GUI> entry, T_GUI root, LAFProvider provider,
+             NestedEntries nested, GUIBlueprint.Slot slot)
             throws Exception {
-        int id = 0;
-
-        AnnotationContext<Swing> ctx =
-                AnnotationContext.exchange(Swing.class, field);
-        LAFProvider provider = null;
-
-        if (!ctx.isPresent()) {
-            AnnotationContext<SwingWindow> wctx =
-                    AnnotationContext.exchange(SwingWindow.class, field);
-            if (!wctx.isPresent()) {
-                // This definition error will be ignored by default
-                return;
+        Component        component;
+        AnnotatedElement element = slot.getElement();
+        if (!(element instanceof Field)) {
+            if (!(root instanceof Component)) {
+                throw new IllegalArgumentException("Annotated component not an instance of Component.class");
             }
-            id       = wctx.annotationValue().value();
-            provider = manager.get(p -> p.getClass() == wctx.annotationValue().provider());
+            component = (Component) root;
+        } else if (slot.isNested()) {
+            component = nested.attach(entry, slot.getName(), ((Field) element).getType());
+        } else if (!slot.isFinal()) {
+            component = provider.getComponent(((Field) element).getType());
         } else {
-            id       = ctx.annotationValue().value();
-            provider = manager.get(p -> p.getClass() == ctx.annotationValue().provider());
+            component = (Component) slot.getAccessor().get(root);
         }
+        return component;
+    }
 
-        Objects.requireNonNull(provider, "Undefined LAFProvider");
-        Component component = null;
-        AnnotationContext<Nested> nctx =
-                AnnotationContext.exchange(Nested.class, field);
+    private <T_GUI> void createLazyReference
+            (Entry<T_GUI> entry, T_GUI root, LAFProvider provider, GUIBlueprint.Slot slot) {
+        AnnotatedElement          element = slot.getElement();
+        ComponentDesc             desc    = ComponentDesc.createDesc(element, root);
+        FieldReference<Component> ref     = new FieldReference<>(slot.getId());
+        ref.setComponentDesc(desc);
+        ref.setParent(root);
+        if (slot.getAccessor() != null) {
+            ref.setAccessor(slot.getAccessor());
+        }
 
-        if (nctx.isPresent()) {
-            Entry<?> nested = Entry.of(field.getType());
-            entry.putNestedGUI(field.getName(), nested);
-            component = (Component) nested.getGUI();
-        } else {
-            if (!Modifier.isFinal(field.getModifiers())) {
-                component = provider.getComponent(field.getType());
-            } else {
-                enterCriticalSection(field);
-                component = (Component) field.get(root);
-                leaveCriticalSection(field);
-            }
+        // The options and the position are needed to bind the placeholder
+        // to its target (e.g. the title of a tab).
+        Option option = element.getDeclaredAnnotation(Option.class);
+        if (option != null) {
+            desc.getDesc(Option.class).read(option);
         }
+        Position position = element.getDeclaredAnnotation(Position.class);
+        if (position != null) {
+            desc.getDesc(Position.class).read(position);
+        }
+
+        LazyComponent placeholder = new LazyComponent(ref);
+        desc.setInstance(placeholder);
+        ref.setInitializer(() -> {
+            Component component;
+            try {
+                component = createComponent(entry, root, provider,
+                                            NestedEntries.sequential(), slot);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("Could not create lazy component '"
+                        + slot.getName() + "'", e);
+            }
 
-        createFieldReference(entry, root, field, id, component);
+            Objects.requireNonNull(component, "Could not create Component");
+            ref.set(component);
+            slot.handle(ref);
+            placeholder.attach(component);
+        });
+        entry.putField(ref);
     }
 
     private <T_GUI> void createFieldReference
-            (Entry<T_GUI> entry, T_GUI root, AnnotatedElement field, int id, Component component) {
+            (Entry<T_GUI> entry, T_GUI root, GUIBlueprint.Slot slot, Component component) {
         Objects.requireNonNull(component, "Could not create Component");
-        AnnotationContext<?>[]    all  = AnnotationContext.collect(field);
-        ComponentDesc             desc = ComponentDesc.createDesc(field, root);
-        FieldReference<Component> ref  = new FieldReference<>(id);
+        ComponentDesc             desc = ComponentDesc.createDesc(slot.getElement(), root);
+        FieldReference<Component> ref  = new FieldReference<>(slot.getId());
 
         ref.setComponentDesc(desc);
         ref.setParent(root);
-        ref.set(component);
-        for (AnnotationContext<?> ac : all) {
-            // SwingHandlers are loaded dynamically at runtime with an
-            // object of the ServiceManager class.
-            SwingHandler handler = SwingHandler.CACHE
-                    .getOrDefault(s -> s.annotationType() == ac.annotationType(), null);
-
-            if (handler == null) {
-                // This error should be ignored, because there can be a lot
-                // more on the target field that should be ignored.
-                continue;
-            }
-            handler.onElement(ref, ac);
+        if (slot.getAccessor() != null) {
+            ref.setAccessor(slot.getAccessor());
         }
+        ref.set(component);
+        slot.handle(ref, metrics);
         // Finally add the loaded entry and continue with the next field.
         entry.putField(ref);
     }
@@ -247,12 +287,4 @@ public class SwingReader implements AutoCloseable {
         }
         return types;
     }
-
-    private synchronized void enterCriticalSection(Field field) {
-        field.setAccessible(true);
-    }
-
-    private synchronized void leaveCriticalSection(Field field) {
-        field.setAccessible(false);
-    }
 }
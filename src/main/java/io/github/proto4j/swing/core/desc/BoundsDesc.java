@@ -50,12 +50,9 @@ public class BoundsDesc extends GenericDesc<Bounds> {
     public void applyTo(Component component) {
         Properties options = getDefinedOptions();
 
-        String pBounds = options.getProperty("BOUNDS", UNDEFINED);
-        if (hasOption(pBounds)) {
-            int[] bounds = getOption(pBounds, int[].class);
-            if (bounds != null && bounds.length >= 4 && isValid(bounds)) {
-                component.setBounds(bounds[0], bounds[1], bounds[2], bounds[3]);
-            }
+        int[] bounds = getIntArray(options.getProperty("BOUNDS", UNDEFINED));
+        if (bounds != null && bounds.length >= 4 && isValid(bounds)) {
+            component.setBounds(bounds[0], bounds[1], bounds[2], bounds[3]);
         }
 
         setSize("SIZE", options, component::setSize);
@@ -65,12 +62,9 @@ public class BoundsDesc extends GenericDesc<Bounds> {
     }
 
     private void setSize(String key, Properties options, Consumer<Dimension> consumer) {
-        String name = options.getProperty(key, UNDEFINED);
-        if (hasOption(name)) {
-            int[] values = getOption(name, int[].class);
-            if (isValid(values) && values.length >= 2) {
-                consumer.accept(new Dimension(values[0], values[1]));
-            }
+        int[] values = getIntArray(options.getProperty(key, UNDEFINED));
+        if (values != null && values.length >= 2 && isValid(values)) {
+            consumer.accept(new Dimension(values[0], values[1]));
         }
     }
 
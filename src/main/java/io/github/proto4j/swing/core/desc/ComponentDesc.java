@@ -53,6 +53,11 @@ public abstract class ComponentDesc {
      */
     private final String fieldName;
 
+    /**
+     * The GUI class declaring the field.
+     */
+    private final Class<?> declaringClass;
+
     /**
      * The type of the stored {@link java.awt.Component}.
      */
@@ -82,6 +87,27 @@ public abstract class ComponentDesc {
         return new ComponentDescImpl(field, root);
     }
 
+    /**
+     * Returns the default instance for component descriptions like
+     * {@link #createDesc(AnnotatedElement, Object)}, but without a reference
+     * to the annotated field. This method is used by generated
+     * {@code GUIBinder}s, so {@link #getField()} returns {@code null} on the
+     * created description.
+     *
+     * @param declaringClass the GUI class declaring the field
+     * @param fieldName the field's name
+     * @param componentType the field's type
+     * @param root the GUI's instance
+     * @return a new {@link ComponentDesc} object
+     * @throws NullPointerException if one of the given arguments was {@code null}
+     * @since 0.0.2
+     */
+    public static ComponentDesc createDesc(Class<?> declaringClass, String fieldName,
+                                           Class<?> componentType, Object root)
+            throws NullPointerException {
+        return new ComponentDescImpl(declaringClass, fieldName, componentType, root);
+    }
+
     /**
      * Creates a new {@link ComponentDesc} from the given annotated element
      * and the parent instance.
@@ -96,14 +122,35 @@ public abstract class ComponentDesc {
 
         // manually check the type of the given AnnotatedElement
         if (field instanceof Field) {
-            fieldName     = ((Field) field).getName();
-            componentType = ((Field) field).getType();
+            fieldName      = ((Field) field).getName();
+            componentType  = ((Field) field).getType();
+            declaringClass = ((Field) field).getDeclaringClass();
         } else {
-            fieldName     = FieldReference.THIS;
-            componentType = parent.getClass();
+            fieldName      = FieldReference.THIS;
+            componentType  = parent.getClass();
+            declaringClass = field instanceof Class ? (Class<?>) field : parent.getClass();
         }
     }
 
+    /**
+     * Creates a new {@link ComponentDesc} for the given field without a
+     * reference to the annotated element.
+     *
+     * @param declaringClass the GUI class declaring the field
+     * @param fieldName the field's name
+     * @param componentType the field's type
+     * @param parent the GUI's instance
+     * @since 0.0.2
+     */
+    protected ComponentDesc(Class<?> declaringClass, String fieldName,
+                            Class<?> componentType, Object parent) {
+        Objects.requireNonNull(parent);
+        this.field          = null;
+        this.declaringClass = Objects.requireNonNull(declaringClass);
+        this.fieldName      = Objects.requireNonNull(fieldName);
+        this.componentType  = Objects.requireNonNull(componentType);
+    }
+
     /**
      * Checks if this {@link ComponentDesc} contains an {@code OptionDesc}
      * linked to the given {@link Annotation} class.
@@ -142,12 +189,21 @@ public abstract class ComponentDesc {
             throws NullPointerException;
 
     /**
-     * @return the referenced {@link AnnotatedElement}.
+     * @return the referenced {@link AnnotatedElement} or {@code null} if
+     *         this description was created by a generated {@code GUIBinder}
      */
     public AnnotatedElement getField() {
         return field;
     }
 
+    /**
+     * @return the GUI class declaring the referenced field
+     * @since 0.0.2
+     */
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+
     /**
      * @return The referenced annotated element's name
      */
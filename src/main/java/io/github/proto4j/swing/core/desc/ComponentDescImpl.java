@@ -24,6 +24,9 @@
 
 package io.github.proto4j.swing.core.desc; //@date 06.09.2022
 
+import io.github.proto4j.swing.annotation.Option;
+import io.github.proto4j.swing.annotation.Position;
+
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.util.ArrayList;
@@ -32,7 +35,7 @@ import java.util.Objects;
 
 class ComponentDescImpl extends ComponentDesc {
 
-    private final List<GenericDesc<?>> list = new ArrayList<>();
+    private final List<GenericDesc<?>> list = new ArrayList<>(4);
 
     /**
      * Creates a new {@link ComponentDesc} from the given annotated element
@@ -43,9 +46,22 @@ class ComponentDescImpl extends ComponentDesc {
      */
     public ComponentDescImpl(AnnotatedElement field, Object parent) {
         super(field, parent);
-        // To prevent errors these option descriptions are added by default
-        addIfAbsent(new OptionDesc());
-        addIfAbsent(new PositionDesc());
+        // To prevent errors the option and position descriptions are always
+        // describable, but they are created on first access only.
+    }
+
+    /**
+     * Creates a new {@link ComponentDesc} for the given field without a
+     * reference to the annotated element.
+     *
+     * @param declaringClass the GUI class declaring the field
+     * @param fieldName the field's name
+     * @param componentType the field's type
+     * @param parent the GUI's instance
+     */
+    public ComponentDescImpl(Class<?> declaringClass, String fieldName,
+                             Class<?> componentType, Object parent) {
+        super(declaringClass, fieldName, componentType, parent);
     }
 
     /**
@@ -59,12 +75,19 @@ class ComponentDescImpl extends ComponentDesc {
      */
     @Override
     public <A extends Annotation> boolean describable(Class<A> cls) throws NullPointerException {
+        if (cls == Option.class || cls == Position.class) {
+            return true;
+        }
+        return find(cls) != null;
+    }
+
+    private GenericDesc<?> find(Class<?> cls) {
         for (GenericDesc<?> desc : list) {
             if (desc.annotationType() == cls) {
-                return true;
+                return desc;
             }
         }
-        return false;
+        return null;
     }
 
     /**
@@ -77,7 +100,7 @@ class ComponentDescImpl extends ComponentDesc {
     @Override
     public <A extends Annotation> void addIfAbsent(GenericDesc<A> desc) throws NullPointerException {
         Objects.requireNonNull(desc);
-        if (!describable(desc.annotationType())) {
+        if (find(desc.annotationType()) == null) {
             list.add(desc);
         }
     }
@@ -95,12 +118,19 @@ class ComponentDescImpl extends ComponentDesc {
     public <A extends Annotation> GenericDesc<A> getDesc(Class<A> cls) throws NullPointerException {
         Objects.requireNonNull(cls);
 
-        for (GenericDesc<?> desc : list) {
-            if (desc.annotationType() == cls) {
-                //noinspection unchecked
-                return (GenericDesc<A>) desc;
+        GenericDesc<?> desc = find(cls);
+        if (desc == null) {
+            // create the default descriptions lazily
+            if (cls == Option.class) {
+                desc = new OptionDesc();
+            } else if (cls == Position.class) {
+                desc = new PositionDesc();
+            } else {
+                return null;
             }
+            list.add(desc);
         }
-        return null;
+        //noinspection unchecked
+        return (GenericDesc<A>) desc;
     }
 }
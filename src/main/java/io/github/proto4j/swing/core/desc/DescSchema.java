@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing.core.desc; //@date 18.10.2026
+
+import io.github.proto4j.swing.core.GlobalDesc;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * The compiled layout of all {@link GenericDesc} objects bound to the same
+ * annotation type.
+ * <p>
+ * Every attribute name of the defined option namespace is mapped to a fixed
+ * slot index, so that descriptions can store their values in a plain array.
+ * Additionally, the attribute methods of the annotation are converted into
+ * {@link MethodHandle} extractors once, which replaces the reflective method
+ * lookup in {@link GenericDesc#read(Annotation)}.
+ *
+ * @since 0.0.2
+ */
+final class DescSchema {
+
+    private static final MethodType EXTRACTOR_TYPE =
+            MethodType.methodType(Object.class, Annotation.class);
+
+    private static final ClassValue<DescSchema> SCHEMAS = new ClassValue<>() {
+        @Override
+        protected DescSchema computeValue(Class<?> type) {
+            return new DescSchema(type);
+        }
+    };
+
+    private final String[]             names;
+    private final Map<String, Integer> indices;
+    private final MethodHandle[]       extractors;
+
+    private DescSchema(Class<?> annotationType) {
+        Properties     options = GlobalDesc.getSharedOption(annotationType);
+        Set<String>    defined = new LinkedHashSet<>();
+        if (options != null) {
+            for (Object value : options.values()) {
+                defined.add(value.toString());
+            }
+        }
+
+        names      = defined.toArray(new String[0]);
+        indices    = new HashMap<>(names.length * 2);
+        extractors = new MethodHandle[names.length];
+        for (int i = 0; i < names.length; i++) {
+            indices.put(names[i], i);
+            extractors[i] = createExtractor(annotationType, names[i]);
+        }
+    }
+
+    /**
+     * Returns the schema of the given annotation type.
+     *
+     * @param annotationType the annotation type
+     * @return the shared schema instance
+     */
+    static DescSchema of(Class<?> annotationType) {
+        return SCHEMAS.get(annotationType);
+    }
+
+    /**
+     * @return the amount of slots
+     */
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * @param slot the slot index
+     * @return the attribute name stored at the given slot
+     */
+    String nameOf(int slot) {
+        return names[slot];
+    }
+
+    /**
+     * @param name the attribute name
+     * @return the slot of the given attribute or {@code -1} if the name is
+     *         not part of the option namespace
+     */
+    int indexOf(String name) {
+        Integer index = indices.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @param slot the slot index
+     * @return the extractor of type {@code (Annotation)Object} for the given
+     *         slot, or {@code null} if the annotation does not declare it
+     */
+    MethodHandle extractorOf(int slot) {
+        return extractors[slot];
+    }
+
+    private static MethodHandle createExtractor(Class<?> annotationType, String name) {
+        try {
+            Method method = annotationType.getDeclaredMethod(name);
+            return MethodHandles.publicLookup()
+                                .unreflect(method)
+                                .asType(EXTRACTOR_TYPE);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // The attribute is not declared or can not be accessed, so it
+            // will be ignored like before.
+            return null;
+        }
+    }
+}
@@ -24,11 +24,19 @@
 
 package io.github.proto4j.swing.core.desc; //@date 05.09.2022
 
+import io.github.proto4j.swing.annotation.Option;
 import io.github.proto4j.swing.core.GlobalDesc;
 
 import java.awt.*;
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
@@ -39,6 +47,10 @@ import java.util.Set;
  * This class is used to be the base for all attribute descriptions and their
  * implementations. It is bound to an annotation type in order to make it
  * easier to filter them in a list (concurrency).
+ * <p>
+ * Values of the defined option namespace are stored in a compact array whose
+ * slots are shared by all descriptions of the same annotation type. Other
+ * keys are kept in a separate map that is only created when needed.
  *
  * @param <A> the annotation type
  */
@@ -58,16 +70,46 @@ public abstract class GenericDesc<A extends Annotation> {
      */
     public static final int INVALID_INT = -1;
 
+    // the no-args constructor of each description class or null if there is none
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            Constructor<?> constructor;
+            try {
+                constructor = type.getDeclaredConstructor();
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+
+            try {
+                constructor.setAccessible(true);
+                return MethodHandles.lookup().unreflectConstructor(constructor)
+                                    .asType(MethodType.methodType(GenericDesc.class));
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new DescInitializationException("Could not access " + constructor, e);
+            }
+        }
+    };
+
     /**
      * The annotation type this description is bound to.
      */
     private final Class<A> annotationType;
 
     /**
-     * A thread-safe implementation of the {@link java.util.Hashtable} used
-     * for storing attribute related data.
+     * The slot layout of the linked annotation type (resolved lazily).
+     */
+    private DescSchema schema;
+
+    /**
+     * The attribute values stored at the slot positions of the schema.
+     */
+    private Object[] slots;
+
+    /**
+     * Values whose keys are not part of the defined option namespace.
      */
-    private final Properties properties = new Properties();
+    private Map<String, Object> extra;
 
     /**
      * Creates a new {@code GenericDesc} from the given annotation class.
@@ -80,6 +122,19 @@ public abstract class GenericDesc<A extends Annotation> {
         annotationType = cls;
     }
 
+    /**
+     * Compiles the slot layout shared by all descriptions of the given
+     * annotation type in advance.
+     *
+     * @param cls the annotation class
+     * @throws NullPointerException if the given annotation class is {@code null}
+     * @since 0.0.2
+     */
+    public static void prepare(Class<? extends Annotation> cls) throws NullPointerException {
+        Objects.requireNonNull(cls);
+        DescSchema.of(cls);
+    }
+
     /**
      * Applies the stored options on the given component.
      *
@@ -107,7 +162,12 @@ public abstract class GenericDesc<A extends Annotation> {
         if (key.equals(UNDEFINED)) {
             return null;
         }
-        return properties.get(key);
+
+        int index = schema().indexOf(key);
+        if (index >= 0) {
+            return slots == null ? null : slots[index];
+        }
+        return extra == null ? null : extra.get(key);
     }
 
     /**
@@ -116,10 +176,30 @@ public abstract class GenericDesc<A extends Annotation> {
      *
      * @param key the option's name
      * @param value the option's value
+     * @throws NullPointerException if any of the given arguments is {@code null}
      */
     public void put(String key, Object value) {
         Objects.requireNonNull(key);
-        properties.putIfAbsent(key, value);
+        Objects.requireNonNull(value);
+
+        int index = schema().indexOf(key);
+        if (index >= 0) {
+            putSlot(index, value);
+        } else {
+            if (extra == null) {
+                extra = new HashMap<>(4);
+            }
+            extra.putIfAbsent(key, value);
+        }
+    }
+
+    private void putSlot(int index, Object value) {
+        if (slots == null) {
+            slots = new Object[schema.size()];
+        }
+        if (slots[index] == null) {
+            slots[index] = value;
+        }
     }
 
     /**
@@ -158,6 +238,45 @@ public abstract class GenericDesc<A extends Annotation> {
         return cls.cast(value);
     }
 
+    /**
+     * Returns the {@code int} value to which the specified key is mapped.
+     *
+     * @param key the option's name
+     * @return the mapped value or {@link #INVALID_INT} if no number is mapped
+     *         to the given key
+     * @since 0.0.2
+     */
+    public int getInt(String key) {
+        Object value = get(key);
+        return value instanceof Number ? ((Number) value).intValue() : INVALID_INT;
+    }
+
+    /**
+     * Returns the {@code boolean} value to which the specified key is mapped.
+     *
+     * @param key the option's name
+     * @return the mapped value or {@code false} if no boolean is mapped to
+     *         the given key
+     * @since 0.0.2
+     */
+    public boolean getBoolean(String key) {
+        Object value = get(key);
+        return value instanceof Boolean && (Boolean) value;
+    }
+
+    /**
+     * Returns the {@code int[]} value to which the specified key is mapped.
+     *
+     * @param key the option's name
+     * @return the mapped value or {@code null} if no {@code int[]} is mapped
+     *         to the given key
+     * @since 0.0.2
+     */
+    public int[] getIntArray(String key) {
+        Object value = get(key);
+        return value instanceof int[] ? (int[]) value : null;
+    }
+
     /**
      * Tests if the specified object is a key in this description.
      *
@@ -194,16 +313,56 @@ public abstract class GenericDesc<A extends Annotation> {
     public void read(A value) {
         Objects.requireNonNull(value);
 
-        Properties options = getDefinedOptions();
-        Class<?>   cls     = value.getClass();
-        for (Object key : options.keySet()) {
-            String name = options.get(key).toString();
+        // make sure the option namespace exists
+        getDefinedOptions();
+        DescSchema schema = schema();
+        for (int i = 0; i < schema.size(); i++) {
+            MethodHandle extractor = schema.extractorOf(i);
+            if (extractor == null) {
+                continue;
+            }
 
+            Object attribute;
             try {
-                Method m = cls.getDeclaredMethod(name);
-                this.put(name, m.invoke(value));
-            } catch (ReflectiveOperationException refl) {
+                attribute = (Object) extractor.invokeExact((Annotation) value);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
                 // ignore that and continue
+                continue;
+            }
+            if (attribute != null) {
+                putSlot(i, attribute);
+            }
+        }
+    }
+
+    /**
+     * Tries to insert the given attribute values. Only attributes that are
+     * part of the defined option namespace are inserted, so this method
+     * behaves like {@link #read(Annotation)} without touching the annotation
+     * instance.
+     *
+     * @param names the attribute names
+     * @param values the attribute values at the same position
+     * @throws NullPointerException     if any of the given arrays is {@code null}
+     * @throws IllegalArgumentException if both arrays differ in length
+     * @implSpec mainly used by generated {@code GUIBinder} classes
+     */
+    public void read(String[] names, Object[] values)
+            throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(names);
+        Objects.requireNonNull(values);
+        if (names.length != values.length) {
+            throw new IllegalArgumentException("names and values differ in length");
+        }
+
+        getDefinedOptions();
+        DescSchema schema = schema();
+        for (int i = 0; i < names.length; i++) {
+            int index = schema.indexOf(names[i]);
+            if (index >= 0 && values[i] != null) {
+                putSlot(index, values[i]);
             }
         }
     }
@@ -225,12 +384,123 @@ public abstract class GenericDesc<A extends Annotation> {
     }
 
     /**
-     * Returns a Set view of the keys contained in this {@code GenericDesc}.
+     * Returns an unmodifiable snapshot of the keys contained in this
+     * {@code GenericDesc}.
      *
-     * @return a Set view of the keys contained in this {@code GenericDesc}.
+     * @return a Set of the keys contained in this {@code GenericDesc}.
      */
     public Set<Object> keys() {
-        return properties.keySet();
+        Set<Object> keys = new LinkedHashSet<>();
+        if (slots != null) {
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] != null) {
+                    keys.add(schema.nameOf(i));
+                }
+            }
+        }
+        if (extra != null) {
+            keys.addAll(extra.keySet());
+        }
+        return Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * Returns whether any value of this description is a query (see
+     * {@link Option.Query}), which means that the applied values depend on
+     * the current look and feel.
+     *
+     * @return {@code true} if this description has to be applied again after
+     *         the look and feel has changed
+     * @since 0.0.2
+     */
+    public boolean dependsOnLookAndFeel() {
+        if (slots != null) {
+            for (Object value : slots) {
+                if (isQuery(value)) {
+                    return true;
+                }
+            }
+        }
+        if (extra != null) {
+            for (Object value : extra.values()) {
+                if (isQuery(value)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a copy of this description that only contains the values which
+     * depend on the look and feel (see {@link #dependsOnLookAndFeel()}).
+     * Applying the copy again after the look and feel has changed updates
+     * these values without resetting any other property of the component,
+     * e.g. a text or enabled state that was changed at runtime.
+     * <p>
+     * Descriptions whose values can only be applied together (see
+     * {@link #isAppliedAsWhole()}) are copied completely. The copy never
+     * references a component.
+     *
+     * @return the copy or {@code null} if no value depends on the look and
+     *         feel or this description class has no no-args constructor
+     * @throws DescInitializationException if the copy could not be created
+     * @since 0.0.2
+     */
+    public GenericDesc<A> copyDependentValues() throws DescInitializationException {
+        if (!dependsOnLookAndFeel()) {
+            return null;
+        }
+
+        MethodHandle constructor = CONSTRUCTORS.get(getClass());
+        if (constructor == null) {
+            return null;
+        }
+
+        GenericDesc<A> copy;
+        try {
+            //noinspection unchecked
+            copy = (GenericDesc<A>) constructor.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new DescInitializationException("Could not copy " + getClass(), t);
+        }
+
+        boolean whole = isAppliedAsWhole();
+        if (slots != null) {
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] != null && (whole || isQuery(slots[i]))) {
+                    copy.put(schema.nameOf(i), slots[i]);
+                }
+            }
+        }
+        if (extra != null) {
+            for (Map.Entry<String, Object> entry : extra.entrySet()) {
+                if (whole || isQuery(entry.getValue())) {
+                    copy.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Returns whether all values of this description are needed to apply any
+     * of them, e.g. because a single object is created from them. The
+     * default implementation returns {@code false}, so every value can be
+     * applied on its own.
+     *
+     * @return {@code true} if the values can only be applied together
+     * @see #copyDependentValues()
+     * @since 0.0.2
+     */
+    protected boolean isAppliedAsWhole() {
+        return false;
+    }
+
+    private static boolean isQuery(Object value) {
+        return value instanceof String && Option.Query.isQuery((String) value);
     }
 
     /**
@@ -244,4 +514,12 @@ public abstract class GenericDesc<A extends Annotation> {
         return properties;
     }
 
+    private DescSchema schema() {
+        DescSchema current = schema;
+        if (current == null) {
+            current = schema = DescSchema.of(annotationType());
+        }
+        return current;
+    }
+
 }
@@ -26,6 +26,7 @@ package io.github.proto4j.swing.core.desc; //@date 05.09.2022
 
 import io.github.proto4j.swing.annotation.Layout;
 import io.github.proto4j.swing.core.desc.layout.SpringLayoutDesc;
+import io.github.proto4j.swing.jfr.LayoutBindEvent;
 
 import javax.swing.*;
 import java.awt.*;
@@ -103,6 +104,13 @@ public abstract class LayoutDesc extends GenericDesc<Layout> {
      *         be added to
      */
     public void bind(ComponentDesc component, Container target) {
+        LayoutBindEvent event = new LayoutBindEvent();
+        event.begin();
+        addComponent(component, target);
+        event.report(component.getDeclaringClass(), component.getFieldName(), Layout.class);
+    }
+
+    private void addComponent(ComponentDesc component, Container target) {
         if (target == null || getParent() == null) {
             return;
         }
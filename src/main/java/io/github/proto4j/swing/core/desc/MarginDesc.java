@@ -63,6 +63,17 @@ public abstract class MarginDesc extends GenericDesc<Margin> {
      */
     public abstract Border create();
 
+    /**
+     * Borders are always created from all values of this description.
+     *
+     * @return {@code true}
+     * @since 0.0.2
+     */
+    @Override
+    protected boolean isAppliedAsWhole() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      *
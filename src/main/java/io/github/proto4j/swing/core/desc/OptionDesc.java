@@ -85,8 +85,7 @@ public class OptionDesc extends GenericDesc<Option> {
         if (hasOption(txt)) {
             String textData = getOption(txt, String.class);
             if (Option.Query.isQuery(textData)) {
-                Option.Query query = new Option.Query(textData, component);
-                textData = query.get();
+                textData = Option.Query.evaluate(textData, component);
             }
 
             if (component instanceof JLabel) {
@@ -104,8 +103,7 @@ public class OptionDesc extends GenericDesc<Option> {
         if (hasOption(title)) {
             String titleData = getOption(title, String.class);
             if (Option.Query.isQuery(titleData)) {
-                Option.Query query = new Option.Query(titleData, component);
-                titleData = query.get();
+                titleData = Option.Query.evaluate(titleData, component);
             }
 
             if (component instanceof Frame) {
@@ -61,17 +61,15 @@ public class PositionDesc extends GenericDesc<Position> {
 
 
     private Point getLocation(Point base, Properties options) {
-        String xPos = options.getProperty("X", UNDEFINED);
-        int    temp;
-        if (hasOption(xPos)
-                && (temp = getOption(xPos, Integer.class)) != INVALID_INT) {
-            base.x = temp;
+        // negative values are not used, see #hasOption()
+        int x = getInt(options.getProperty("X", UNDEFINED));
+        if (x >= 0) {
+            base.x = x;
         }
 
-        String yPos = options.getProperty("Y", UNDEFINED);
-        if (hasOption(yPos)
-                && (temp = getOption(yPos, Integer.class)) != INVALID_INT) {
-            base.y = temp;
+        int y = getInt(options.getProperty("Y", UNDEFINED));
+        if (y >= 0) {
+            base.y = y;
         }
         return base;
     }
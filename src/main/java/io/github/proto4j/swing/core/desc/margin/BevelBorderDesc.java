@@ -25,11 +25,13 @@
 package io.github.proto4j.swing.core.desc.margin; //@date 19.02.2022
 
 
+import io.github.proto4j.swing.core.Flyweights;
 import io.github.proto4j.swing.core.GlobalDesc;
 import io.github.proto4j.swing.core.desc.MarginDesc;
 
 import javax.swing.border.BevelBorder;
 import javax.swing.border.Border;
+import java.awt.*;
 import java.util.Properties;
 
 /**
@@ -47,7 +49,6 @@ public class BevelBorderDesc extends MarginDesc {
 
     @Override
     public Border create() {
-        Border border = null;
         Properties options = getDefinedOptions();
 
         String key = options.getProperty("BEVEL_TYPE", "undefined");
@@ -62,16 +63,18 @@ public class BevelBorderDesc extends MarginDesc {
 
         String h = options.getProperty("HIGHLIGHT", "undefined");
         String s = options.getProperty("SHADOW", "undefined");
+        int bevelType = type;
         if (!hasOption(s) || !hasOption(h)) {
             //noinspection MagicConstant
-            border = new BevelBorder(type);
-        } else {
-            String shadow = getOption(s, String.class);
-            String highlight = getOption(h, String.class);
-
-            border = new BevelBorder(type, GlobalDesc.getColor(highlight), GlobalDesc.getColor(shadow));
+            return Flyweights.BORDERS.intern(Flyweights.key(BevelBorder.class, bevelType),
+                                             () -> new BevelBorder(bevelType));
         }
-        return border;
+
+        Color shadow    = GlobalDesc.getColor(getOption(s, String.class));
+        Color highlight = GlobalDesc.getColor(getOption(h, String.class));
+        //noinspection MagicConstant
+        return Flyweights.BORDERS.intern(Flyweights.key(BevelBorder.class, bevelType, highlight, shadow),
+                                         () -> new BevelBorder(bevelType, highlight, shadow));
     }
 
 }
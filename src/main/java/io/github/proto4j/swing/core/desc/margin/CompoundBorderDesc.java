@@ -24,11 +24,13 @@
 
 package io.github.proto4j.swing.core.desc.margin; //@date 19.02.2022
 
+import io.github.proto4j.swing.core.Flyweights;
 import io.github.proto4j.swing.core.GlobalDesc;
 import io.github.proto4j.swing.core.desc.MarginDesc;
 
 import javax.swing.border.Border;
 import javax.swing.border.CompoundBorder;
+import javax.swing.border.TitledBorder;
 import java.util.Properties;
 
 /**
@@ -63,7 +65,17 @@ public class CompoundBorderDesc extends MarginDesc {
 
         inside.read(this);
         outside.read(this);
-        return new CompoundBorder(inside.create(), outside.create());
+
+        // The inner borders are shared as well, so they can be compared by
+        // their identity. Borders with setters are never shared, so neither
+        // is a compound border containing them.
+        Border insideBorder  = inside.create();
+        Border outsideBorder = outside.create();
+        if (insideBorder instanceof TitledBorder || outsideBorder instanceof TitledBorder) {
+            return new CompoundBorder(insideBorder, outsideBorder);
+        }
+        return Flyweights.BORDERS.intern(Flyweights.key(CompoundBorder.class, insideBorder, outsideBorder),
+                                         () -> new CompoundBorder(insideBorder, outsideBorder));
     }
 
     @Override
@@ -24,6 +24,7 @@
 
 package io.github.proto4j.swing.core.desc.margin; //@date 20.02.2022
 
+import io.github.proto4j.swing.core.Flyweights;
 import io.github.proto4j.swing.core.desc.MarginDesc;
 
 import javax.swing.border.Border;
@@ -61,7 +62,8 @@ public class EmptyBorderDesc extends MarginDesc {
                 getIntOption("BOTTOM", options)
         );
 
-        return new EmptyBorder(insets);
+        return Flyweights.BORDERS.intern(Flyweights.key(EmptyBorder.class, insets),
+                                         () -> new EmptyBorder(insets));
     }
 
     private int getIntOption(String key, Properties properties) {
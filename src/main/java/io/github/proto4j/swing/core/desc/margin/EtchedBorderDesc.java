@@ -25,6 +25,7 @@
 package io.github.proto4j.swing.core.desc.margin; //@date 20.02.2022
 
 
+import io.github.proto4j.swing.core.Flyweights;
 import io.github.proto4j.swing.core.GlobalDesc;
 import io.github.proto4j.swing.core.desc.MarginDesc;
 
@@ -68,15 +69,16 @@ public class EtchedBorderDesc extends MarginDesc {
             highlight = GlobalDesc.getColor(get(opHl).toString());
         }
 
-        if (type < 0) {
-            if (shadow != null || highlight != null) {
-                return new EtchedBorder(shadow, highlight);
-            }
+        if (shadow == null && highlight == null) {
+            return Flyweights.BORDERS.intern(Flyweights.key(EtchedBorder.class),
+                                             EtchedBorder::new);
         }
 
-        if (shadow != null || highlight != null) {
-            return new EtchedBorder(type, shadow, highlight);
-        }
-        return new EtchedBorder();
+        // EtchedBorder(Color, Color) creates a lowered border
+        int   etchedType = type < 0 ? EtchedBorder.LOWERED : type;
+        Color first      = shadow, second = highlight;
+        //noinspection MagicConstant
+        return Flyweights.BORDERS.intern(Flyweights.key(EtchedBorder.class, etchedType, first, second),
+                                         () -> new EtchedBorder(etchedType, first, second));
     }
 }
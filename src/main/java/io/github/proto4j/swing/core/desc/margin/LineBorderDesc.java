@@ -25,6 +25,7 @@
 package io.github.proto4j.swing.core.desc.margin; //@date 19.02.2022
 
 
+import io.github.proto4j.swing.core.Flyweights;
 import io.github.proto4j.swing.core.GlobalDesc;
 import io.github.proto4j.swing.core.desc.MarginDesc;
 
@@ -75,6 +76,9 @@ public class LineBorderDesc extends MarginDesc {
             rounded = getOption(key, Boolean.class);
         }
 
-        return new LineBorder(color, thickness, rounded);
+        int     lineThickness = thickness;
+        boolean lineRounded   = rounded;
+        return Flyweights.BORDERS.intern(Flyweights.key(LineBorder.class, color, lineThickness, lineRounded),
+                                         () -> new LineBorder(color, lineThickness, lineRounded));
     }
 }
@@ -58,22 +58,21 @@ public class TitledBorderDesc extends MarginDesc {
             return null;
         }
 
-        String title = get(key).toString();
-        if (Option.Query.isQuery(title)) {
-            title = new Option.Query(title, null).get();
-        }
+        String value = get(key).toString();
+        String title = Option.Query.isQuery(value) ? Option.Query.evaluate(value, null) : value;
+
         key = options.getProperty("LINE_COLOR", UNDEFINED);
         if (hasOption(key)) {
             Color color = GlobalDesc.getColor(get(key).toString());
+            Font  font  = Font.getFont(Font.SANS_SERIF);
 
             // In future releases all properties that are hardcoded right
             // now will be available in the Margin.class annotation.
-            return new TitledBorder(
-                    null, title, TitledBorder.LEADING,
-                    TitledBorder.DEFAULT_POSITION,
-                    Font.getFont(Font.SANS_SERIF), color
-            );
+            return new TitledBorder(null, title, TitledBorder.LEADING,
+                                    TitledBorder.DEFAULT_POSITION, font, color);
         }
+        // TitledBorders provide setters, so they are never shared (see
+        // Flyweights).
         return new TitledBorder(title);
     }
 }
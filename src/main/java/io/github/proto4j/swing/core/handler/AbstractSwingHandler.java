@@ -26,9 +26,11 @@ package io.github.proto4j.swing.core.handler; //@date 06.09.2022
 
 import io.github.proto4j.swing.FieldReference;
 import io.github.proto4j.swing.annotation.AnnotationContext;
+import io.github.proto4j.swing.core.LAFBindings;
 import io.github.proto4j.swing.core.SwingHandler;
 import io.github.proto4j.swing.core.desc.ComponentDesc;
 import io.github.proto4j.swing.core.desc.GenericDesc;
+import io.github.proto4j.swing.jfr.HandlerEvent;
 
 import java.awt.*;
 import java.lang.annotation.Annotation;
@@ -47,8 +49,10 @@ import java.util.Objects;
  *     {@link GenericDesc#read(Annotation)}</li>
  *     <li>Call {@link GenericDesc#applyTo(Component)} with the linked component
  *     from the {@code FieldReference}</li>
+ *     <li>Track the description if it depends on the look and feel (see
+ *     {@link LAFBindings})</li>
  * </ol>
- * The last three points should always be executed to prevent any unknown
+ * The points three to five should always be executed to prevent any unknown
  * exceptions would be thrown.
  *
  * @param <A> the annotation type
@@ -79,9 +83,58 @@ public abstract class AbstractSwingHandler<A extends Annotation> implements Swin
             return;
         }
 
+        HandlerEvent event = new HandlerEvent();
+        event.begin();
         //noinspection unchecked
         A value = (A) context.annotationValue();
         // retrieve the description
+        GenericDesc<A> desc = createDesc(reference, value);
+
+        // At first, the data provided by the annotation has to be
+        // loaded. Next, the values are applied to the given component.
+        desc.read(value);
+        desc.applyTo((Component) reference.get());
+        LAFBindings.trackIfDependent(reference.get(), desc);
+        report(event, reference, context);
+    }
+
+    /**
+     * Handles the incoming {@link FieldReference} like
+     * {@link #onElement(FieldReference, AnnotationContext)}, but reads the
+     * given attribute values instead of the annotation.
+     *
+     * @param reference the field's reference
+     * @param context the loaded annotation wrapped into an {@link AnnotationContext}
+     * @param names the attribute names
+     * @param values the attribute values at the same position
+     */
+    @Override
+    public void onElement(FieldReference<?> reference, AnnotationContext<?> context,
+                          String[] names, Object[] values) {
+        Objects.requireNonNull(reference);
+        Objects.requireNonNull(context);
+
+        if (!context.isPresent()) {
+            return;
+        }
+
+        HandlerEvent event = new HandlerEvent();
+        event.begin();
+        //noinspection unchecked
+        GenericDesc<A> desc = createDesc(reference, (A) context.annotationValue());
+        desc.read(names, values);
+        desc.applyTo((Component) reference.get());
+        LAFBindings.trackIfDependent(reference.get(), desc);
+        report(event, reference, context);
+    }
+
+    private static void report(HandlerEvent event, FieldReference<?> reference,
+                               AnnotationContext<?> context) {
+        ComponentDesc desc = reference.getDescription();
+        event.report(desc.getDeclaringClass(), desc.getFieldName(), context.annotationType());
+    }
+
+    private GenericDesc<A> createDesc(FieldReference<?> reference, A value) {
         GenericDesc<A> desc = getDesc(reference, value);
         if (desc == null) {
             String msg = getClass().getSimpleName() + ": no implementation found";
@@ -90,11 +143,7 @@ public abstract class AbstractSwingHandler<A extends Annotation> implements Swin
 
         // Add the description to the ComponentDesc object
         reference.getDescription().addIfAbsent(desc);
-
-        // At first, the data provided by the annotation has to be
-        // loaded. Next, the values are applied to the given component.
-        desc.read(value);
-        desc.applyTo((Component) reference.get());
+        return desc;
     }
 
     /**
@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing.jfr; //@date 18.10.2026
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
+
+/**
+ * The base class for all Java Flight Recorder events emitted by this module.
+ * Every event carries the GUI class, the field name and the annotation type
+ * it belongs to. The duration is measured by the event itself, so the usual
+ * pattern is the following:
+ * <pre>
+ *     HandlerEvent event = new HandlerEvent();
+ *     event.begin();
+ *     // ...
+ *     event.report(element, name, annotationType);
+ * </pre>
+ * If the event is disabled, {@link #report(AnnotatedElement, String, Class)}
+ * returns without setting any value.
+ *
+ * @since 0.0.2
+ */
+@Category({"Proto4j", "Swing"})
+public abstract class SwingEvent extends Event {
+
+    @Label("GUI Class")
+    protected Class<?> guiClass;
+
+    @Label("Field")
+    protected String field;
+
+    @Label("Annotation")
+    protected Class<?> annotationType;
+
+    /**
+     * Ends the timing of this event and commits it if it is enabled and its
+     * duration exceeds the threshold.
+     *
+     * @param element the annotated field or the GUI class for the root
+     *         component; may be {@code null}
+     * @param field the field's name
+     * @param annotationType the related annotation type; may be {@code null}
+     */
+    public void report(AnnotatedElement element, String field, Class<?> annotationType) {
+        if (shouldCommit()) {
+            report(getGUIClass(element), field, annotationType);
+        }
+    }
+
+    /**
+     * Ends the timing of this event and commits it if it is enabled and its
+     * duration exceeds the threshold.
+     *
+     * @param guiClass the GUI's class; may be {@code null}
+     * @param field the field's name
+     * @param annotationType the related annotation type; may be {@code null}
+     */
+    public void report(Class<?> guiClass, String field, Class<?> annotationType) {
+        if (shouldCommit()) {
+            this.guiClass       = guiClass;
+            this.field          = field;
+            this.annotationType = annotationType;
+            commit();
+        }
+    }
+
+    private static Class<?> getGUIClass(AnnotatedElement element) {
+        if (element instanceof Member) {
+            return ((Member) element).getDeclaringClass();
+        }
+        return element instanceof Class ? (Class<?>) element : null;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing.laf; //@date 18.10.2026
+
+import java.awt.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The component factory table of a single {@link LAFProvider} class. All
+ * {@code getXxx} methods of the provider are collected once. Each requested
+ * component type is compiled into a method handle only on first use, and a
+ * type without a factory is cached as a miss. Factories that exist but can
+ * not be accessed, and factories that fail, are reported with an exception
+ * instead of a {@code null} component.
+ *
+ * @see LAFProvider#getComponent(Class)
+ * @since 0.0.2
+ */
+final class ComponentFactories {
+
+    private static final ClassValue<ComponentFactories> TABLES = new ClassValue<>() {
+        @Override
+        protected ComponentFactories computeValue(Class<?> type) {
+            return new ComponentFactories(type);
+        }
+    };
+
+    // cached result for types without a factory
+    private static final Function<LAFProvider, Component> MISSING = provider -> null;
+
+    private static final MethodType FACTORY_TYPE =
+            MethodType.methodType(Component.class, LAFProvider.class);
+
+    // all getXxx methods mapped to the name without the 'get' prefix
+    private final Map<String, Method> getters;
+
+    // resolved and registered factories
+    private final Map<Class<?>, Function<LAFProvider, Component>> factories =
+            new ConcurrentHashMap<>();
+
+    private ComponentFactories(Class<?> provider) {
+        getters = compileGetters(provider);
+    }
+
+    /**
+     * @param provider the provider class
+     * @return the factory table of the given provider class
+     */
+    static ComponentFactories of(Class<? extends LAFProvider> provider) {
+        return TABLES.get(provider);
+    }
+
+    /**
+     * Registers a factory for the given component type. It replaces any
+     * factory resolved before.
+     *
+     * @param type the component type
+     * @param factory the factory
+     */
+    void register(Class<?> type, Supplier<? extends Component> factory) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(factory);
+        factories.put(type, provider -> factory.get());
+    }
+
+    /**
+     * Creates a new component of the given type.
+     *
+     * @param provider the provider instance
+     * @param type the component type
+     * @return the new component or {@code null} if no factory exists
+     * @throws IllegalStateException if the factory can not be accessed
+     */
+    Component create(LAFProvider provider, Class<?> type) {
+        Function<LAFProvider, Component> factory = factories.get(type);
+        if (factory == null) {
+            factory = factories.computeIfAbsent(type, this::resolve);
+        }
+        return factory.apply(provider);
+    }
+
+    private Function<LAFProvider, Component> resolve(Class<?> type) {
+        // Components are mapped by their simple name, e.g. getJButton()
+        // is used to create JButton objects.
+        Method       method = getters.get(type.getSimpleName());
+        MethodHandle handle = method != null ? unreflect(method) : findConstructor(type);
+        if (handle == null) {
+            return MISSING;
+        }
+
+        return provider -> {
+            try {
+                return (Component) handle.invokeExact(provider);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Could not create " + type.getName(), t);
+            }
+        };
+    }
+
+    private static Map<String, Method> compileGetters(Class<?> provider) {
+        Map<String, Method> getters = new HashMap<>();
+        for (Method method : provider.getMethods()) {
+            if (method.getParameterCount() != 0
+                    || Modifier.isStatic(method.getModifiers())
+                    || !method.getName().startsWith("get")
+                    || !Component.class.isAssignableFrom(method.getReturnType())) {
+                continue;
+            }
+
+            getters.put(method.getName().substring(3), method);
+        }
+        return getters;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            // Methods declared by the LAFProvider are always accessible and
+            // dispatched to the implementation of the provider.
+            MethodHandle handle = lookup.findVirtual(LAFProvider.class, method.getName(),
+                                                     MethodType.methodType(method.getReturnType()));
+            return handle.asType(FACTORY_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // declared by the provider itself
+        }
+
+        try {
+            // e.g. declared by a non-public provider class
+            method.setAccessible(true);
+            return lookup.unreflect(method).asType(FACTORY_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("Could not access " + method, e);
+        }
+    }
+
+    private static MethodHandle findConstructor(Class<?> type) {
+        if (!Component.class.isAssignableFrom(type)
+                || type.isInterface()
+                || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+
+        Constructor<?> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+
+        try {
+            // Try to create a new custom class
+            constructor.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor);
+            return MethodHandles.dropArguments(handle.asType(
+                    MethodType.methodType(Component.class)), 0, LAFProvider.class);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("Could not access " + constructor, e);
+        }
+    }
+}
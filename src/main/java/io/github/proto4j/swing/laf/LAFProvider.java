@@ -28,8 +28,8 @@ import io.github.proto4j.swing.ServiceManager;
 
 import javax.swing.*;
 import java.awt.*;
-import java.lang.reflect.Method;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * The base class for all LookAndFeel providers that implement own versions of
@@ -39,8 +39,8 @@ import java.util.Objects;
  * <p>
  * If the component type declared in the GUI class is not found within this
  * provider, the method {@link #getComponent(Class)} is called to retrieve
- * an instance for the defined type. This method returns null on failure and
- * should not throw any errors.
+ * an instance for the defined type. This method returns null if no factory
+ * for the type exists and passes the errors of a failing factory on.
  * <p>
  * This provider acts as a service which will be loaded through the LAFManager
  * class. Therefore, it is possible to implement and use different {@link LAFProvider}s
@@ -56,10 +56,13 @@ public interface LAFProvider {
      * <p>
      * To register new {@link LAFProvider}s, they should call the
      * {@link ServiceManager#register(Object)} function in a static context.
+     * Providers are mapped to their class, so they can be located with
+     * {@link ServiceManager#getByKey(Class)}.
      *
      * @see ServiceManager
      */
-    public static final ServiceManager<LAFProvider> MANAGER = ServiceManager.from(LAFProvider.class);
+    public static final ServiceManager<LAFProvider> MANAGER =
+            ServiceManager.from(LAFProvider.class, LAFProvider::getClass);
 
     /**
      * @return the {@link ServiceManager} instance for the {@link LAFProvider}
@@ -68,38 +71,50 @@ public interface LAFProvider {
         return MANAGER;
     }
 
+    /**
+     * Registers a factory that is used by {@link #getComponent(Class)} of all
+     * providers of the given class to create components of the given type.
+     * An explicit factory replaces the {@code getXxx} method and the
+     * constructor of the type.
+     *
+     * @param provider the provider class
+     * @param type the component type
+     * @param factory the factory creating new components
+     * @param <C> the component type
+     * @throws NullPointerException if any of the given arguments is {@code null}
+     * @since 0.0.2
+     */
+    public static <C extends Component> void registerFactory(Class<? extends LAFProvider> provider,
+                                                             Class<C> type,
+                                                             Supplier<? extends C> factory)
+            throws NullPointerException {
+        Objects.requireNonNull(provider);
+        ComponentFactories.of(provider).register(type, factory);
+    }
+
     /**
      * Tries to create a new {@link Component} object based on the given component
      * type. This method should return {@code null} if no implementation for
      * the given type was found or the type is not specified (e.g. abstract
      * class).
+     * <p>
+     * The default implementation looks up a factory for the given type in the
+     * table of this provider class. The table is compiled once from all
+     * {@code getXxx} methods (mapped by the simple name of the component
+     * type), the no-args constructors of custom classes and the factories
+     * added with {@link #registerFactory(Class, Class, Supplier)}. Types
+     * without any factory are cached as well. Exceptions thrown by a factory
+     * are passed to the caller.
      *
      * @param cls the component type
-     * @return {@code null} on failure, otherwise a {@link Component} object
+     * @return {@code null} if no factory exists, otherwise a {@link Component}
+     *         object
+     * @throws IllegalStateException if the factory of the given type can not
+     *         be accessed or throws a checked exception
      */
     public default Component getComponent(Class<?> cls) {
         Objects.requireNonNull(cls);
-
-        String name = "get" + cls.getSimpleName();
-        try {
-            Method base = getClass().getMethod(name);
-            base.setAccessible(true);
-
-            Object value = base.invoke(this);
-            if (!Component.class.isAssignableFrom(value.getClass())) {
-                // This check can be replaced with an instanceof-check
-                return null;
-            }
-            return (Component) value;
-        } catch (ReflectiveOperationException e) {
-            try {
-                // Try to create a new custom class
-                return (Component) cls.getDeclaredConstructor().newInstance();
-            } catch (ReflectiveOperationException e2) {
-                // ignore that and pass null
-            }
-        }
-        return null;
+        return ComponentFactories.of(getClass()).create(this, cls);
     }
 
     /**
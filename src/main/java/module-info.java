@@ -1,3 +1,4 @@
+import io.github.proto4j.swing.core.EntryBuildListener;
 import io.github.proto4j.swing.core.SwingHandler;
 import io.github.proto4j.swing.laf.LAFProvider;
 
@@ -11,6 +12,8 @@ import io.github.proto4j.swing.laf.LAFProvider;
  */
 module proto4j.swing {
     requires java.desktop;
+    // Custom Flight Recorder events (see io.github.proto4j.swing.jfr)
+    requires jdk.jfr;
 
     exports io.github.proto4j.swing;
     exports io.github.proto4j.swing.laf;
@@ -27,4 +30,6 @@ module proto4j.swing {
     // following the basics on Java-Services.
     uses LAFProvider;
     uses SwingHandler;
+    // Listeners that are notified about every generated entry (see BuildMetrics)
+    uses EntryBuildListener;
 }
\ No newline at end of file
@@ -0,0 +1,861 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.swing.processor; //@date 17.10.2026
+
+import io.github.proto4j.swing.core.LinkOrder;
+import io.github.proto4j.swing.core.SwingLinker;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.SimpleAnnotationValueVisitor9;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.annotation.RetentionPolicy;
+import java.util.*;
+
+/**
+ * An annotation processor that generates a {@code GUIBinder} for every class
+ * annotated with {@code @GUI}. The generated binder replaces the reflective
+ * generation process of the {@code SwingReader} and {@code SwingLinker} with
+ * plain Java statements.
+ * <p>
+ * If a GUI class uses a feature that can not be expressed at compile time
+ * (e.g. unknown runtime annotations with their own {@code SwingHandler}),
+ * no binder will be generated and the reflective path is used instead. A
+ * note with the reason is printed in that case.
+ * <p>
+ * This processor is shipped in its own module ({@code proto4j.swing.processor})
+ * and registered as a service, so it is executed automatically if that
+ * artifact is placed on the annotation processor path. The runtime module
+ * does not depend on {@code java.compiler}.
+ *
+ * @since 0.0.2
+ */
+@SupportedAnnotationTypes(GUIProcessor.GUI)
+public class GUIProcessor extends AbstractProcessor {
+
+    static final String PACKAGE     = "io.github.proto4j.swing.annotation.";
+    static final String GUI         = PACKAGE + "GUI";
+    static final String SWING       = PACKAGE + "Swing";
+    static final String SWING_WINDOW = PACKAGE + "SwingWindow";
+    static final String NESTED      = PACKAGE + "Nested";
+    static final String LAZY        = PACKAGE + "Lazy";
+    static final String OPTION      = PACKAGE + "Option";
+    static final String OPTIONS     = PACKAGE + "Options";
+    static final String POSITION    = PACKAGE + "Position";
+    static final String LAYOUT      = PACKAGE + "Layout";
+    static final String MARGIN      = PACKAGE + "Margin";
+    static final String BOUNDS      = PACKAGE + "Bounds";
+    static final String MODEL       = PACKAGE + "Model";
+
+    static final String BINDER    = "io.github.proto4j.swing.core.GUIBinder";
+    static final String COMPONENT = "java.awt.Component";
+
+    // Amount of components handled by a single generated method
+    private static final int CHUNK_SIZE = 64;
+
+    // Larger GUIs would exceed the size of the static initializer of the
+    // binder, which stores one VarHandle constant per private component.
+    private static final int MAX_COMPONENTS = 4000;
+
+    // Annotations that are known to the generation process, but don't have
+    // a SwingHandler bound to them.
+    private static final Set<String> NO_HANDLER =
+            Set.of(GUI, SWING, SWING_WINDOW, NESTED, OPTIONS);
+
+    private Elements elements;
+    private Types    types;
+    private Messager messager;
+
+    /**
+     * Creates a new processor. Processors are instantiated by the compiler.
+     */
+    public GUIProcessor() {
+    }
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        elements = processingEnv.getElementUtils();
+        types    = processingEnv.getTypeUtils();
+        messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement gui = elements.getTypeElement(GUI);
+        if (gui == null) {
+            return false;
+        }
+
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(gui))) {
+            try {
+                BinderModel model = new BinderModel(type);
+                if (model.reason != null) {
+                    note(type, model.reason);
+                    continue;
+                }
+                write(model);
+            } catch (IllegalStateException e) {
+                // thrown on values that can not be expressed in the binder
+                note(type, e.getMessage());
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "Could not write GUIBinder: " + e.getMessage(), type);
+            }
+        }
+        // Other processors may want to inspect @GUI classes too
+        return false;
+    }
+
+    private void note(TypeElement type, String reason) {
+        messager.printMessage(Diagnostic.Kind.NOTE,
+                "No GUIBinder generated, using reflection: " + reason, type);
+    }
+
+    private void write(BinderModel model) throws IOException {
+        JavaFileObject file = processingEnv.getFiler()
+                .createSourceFile(model.qualifiedBinderName(), model.type);
+
+        try (PrintWriter out = new PrintWriter(file.openWriter())) {
+            model.print(out);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // Model of the generated binder
+    //-----------------------------------------------------------------------
+
+    private final class BinderModel {
+
+        final TypeElement type;
+        final String      packageName;
+        final String      guiName;
+        final String      binderName;
+
+        final List<ComponentModel> components = new ArrayList<>();
+        // private 'init' methods (name -> return type literal)
+        final Map<String, String>  methods    = new LinkedHashMap<>();
+        final Map<String, List<String>> names = new LinkedHashMap<>();
+        // nested GUIs (field name -> type literal) in declaration order
+        final Map<String, String>       nested = new LinkedHashMap<>();
+
+        boolean constructor;
+        String  reason;
+
+        BinderModel(TypeElement type) {
+            this.type   = type;
+            packageName = elements.getPackageOf(type).getQualifiedName().toString();
+            guiName     = type.getQualifiedName().toString();
+            binderName  = flatName(type) + "Binder";
+
+            if (!check()) {
+                return;
+            }
+
+            readRoot();
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (reason != null) {
+                    return;
+                }
+                if (!field.getModifiers().contains(Modifier.STATIC)) {
+                    readField(field);
+                }
+            }
+
+            if (components.size() > MAX_COMPONENTS) {
+                unsupported("more than " + MAX_COMPONENTS + " components");
+            }
+        }
+
+        String qualifiedBinderName() {
+            return packageName.isEmpty() ? binderName : packageName + "." + binderName;
+        }
+
+        private boolean check() {
+            if (type.getKind() != ElementKind.CLASS) {
+                return unsupported("not a class");
+            }
+            if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+                return unsupported("abstract class");
+            }
+            if (!type.getTypeParameters().isEmpty()) {
+                return unsupported("generic class");
+            }
+
+            Element current = type;
+            while (current instanceof TypeElement) {
+                Set<Modifier> modifiers = current.getModifiers();
+                if (modifiers.contains(Modifier.PRIVATE)) {
+                    return unsupported("private class");
+                }
+                if (((TypeElement) current).getNestingKind() == NestingKind.MEMBER
+                        && !modifiers.contains(Modifier.STATIC)) {
+                    return unsupported("inner class");
+                }
+                if (((TypeElement) current).getNestingKind().isNested()
+                        && ((TypeElement) current).getNestingKind() != NestingKind.MEMBER) {
+                    return unsupported("local or anonymous class");
+                }
+                current = current.getEnclosingElement();
+            }
+
+            for (ExecutableElement c : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+                if (c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE)) {
+                    constructor = true;
+                }
+            }
+            return true;
+        }
+
+        private void readRoot() {
+            AnnotationMirror swing = find(type, SWING);
+            if (swing == null) {
+                swing = find(type, SWING_WINDOW);
+                if (swing == null) {
+                    return;
+                }
+            }
+
+            if (!isComponent(type.asType())) {
+                unsupported("annotated class is not a Component");
+                return;
+            }
+
+            ComponentModel model = new ComponentModel(type, "$this", 0, components.size());
+            model.component = "(java.awt.Component) gui";
+            readAnnotations(model, type);
+            components.add(model);
+        }
+
+        private void readField(VariableElement field) {
+            AnnotationMirror swing = find(field, SWING);
+            if (swing == null) {
+                swing = find(field, SWING_WINDOW);
+                if (swing == null) {
+                    // This definition error will be ignored by default
+                    return;
+                }
+            }
+
+            String     name  = field.getSimpleName().toString();
+            TypeMirror ftype = types.erasure(field.asType());
+            if (!isComponent(ftype)) {
+                unsupported("field '" + name + "' is not a Component");
+                return;
+            }
+
+            int id = (Integer) attribute(swing, "value").getValue();
+            ComponentModel model = new ComponentModel(field, name, id, components.size());
+            model.fieldType    = typeLiteral(ftype);
+            model.privateField = field.getModifiers().contains(Modifier.PRIVATE);
+            model.finalField   = field.getModifiers().contains(Modifier.FINAL);
+
+            if (find(field, NESTED) != null) {
+                nested.put(name, model.fieldType);
+                model.component = "nested.attach(entry, " + literal(name) + ", "
+                        + model.fieldType + ")";
+            } else if (model.finalField) {
+                // final fields are read directly or with their VarHandle
+                model.component = model.privateField
+                        ? "(java.awt.Component) V_" + name + ".get(gui)" : "gui." + name;
+            } else {
+                model.component = create(ftype, (TypeMirror) attribute(swing, "provider").getValue());
+            }
+
+            readAnnotations(model, field);
+            components.add(model);
+        }
+
+        private String create(TypeMirror ftype, TypeMirror provider) {
+            TypeElement element  = (TypeElement) types.asElement(ftype);
+            TypeElement pElement = (TypeElement) types.asElement(provider);
+            if (!isAccessible(pElement)) {
+                unsupported("provider " + pElement + " is not accessible");
+                return null;
+            }
+
+            String prov   = "((" + pElement.getQualifiedName() + ") provider("
+                    + pElement.getQualifiedName() + ".class))";
+            String getter = "get" + element.getSimpleName();
+
+            // Same lookup as LAFProvider.getComponent, but at compile time
+            for (ExecutableElement m : ElementFilter.methodsIn(elements.getAllMembers(pElement))) {
+                if (m.getSimpleName().contentEquals(getter)
+                        && m.getParameters().isEmpty()
+                        && m.getModifiers().contains(Modifier.PUBLIC)
+                        && !m.getModifiers().contains(Modifier.STATIC)
+                        && isComponent(types.erasure(m.getReturnType()))) {
+                    return "(java.awt.Component) " + prov + "." + getter + "()";
+                }
+            }
+
+            if (isAccessible(element) && element.getModifiers().contains(Modifier.PUBLIC)
+                    && !element.getModifiers().contains(Modifier.ABSTRACT)
+                    && element.getKind() == ElementKind.CLASS) {
+                for (ExecutableElement c : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+                    if (c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC)) {
+                        return "new " + element.getQualifiedName() + "()";
+                    }
+                }
+            }
+            return prov + ".getComponent(" + typeLiteral(ftype) + ")";
+        }
+
+        private void readAnnotations(ComponentModel model, Element element) {
+            for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+                TypeElement aType = (TypeElement) mirror.getAnnotationType().asElement();
+                String      name  = aType.getQualifiedName().toString();
+
+                String desc;
+                switch (name) {
+                    case OPTION:
+                        desc = "option(r)";
+                        readOption(model, mirror);
+                        break;
+                    case POSITION:
+                        desc = "position(r)";
+                        break;
+                    case BOUNDS:
+                        desc = "bounds(r)";
+                        break;
+                    case MODEL:
+                        desc = "model(r)";
+                        break;
+                    case LAYOUT:
+                        desc = "layout(r, " + value(attribute(mirror, "value"), null) + ", "
+                                + attribute(mirror, "absoluteLayout").getValue() + ")";
+                        break;
+                    case MARGIN:
+                        desc = "margin(r, " + value(attribute(mirror, "value"), null) + ")";
+                        break;
+                    case LAZY:
+                        // Placeholders are only supported by the SwingReader
+                        unsupported("lazy component '" + model.name + "'");
+                        continue;
+                    default:
+                        if (!NO_HANDLER.contains(name) && isRuntime(aType)) {
+                            unsupported("unknown runtime annotation @" + name
+                                    + " on '" + model.name + "'");
+                        }
+                        continue;
+                }
+
+                List<String> values = new ArrayList<>();
+                Map<? extends ExecutableElement, ? extends AnnotationValue> all =
+                        elements.getElementValuesWithDefaults(mirror);
+
+                List<String> attributes = new ArrayList<>();
+                for (ExecutableElement method : ElementFilter.methodsIn(aType.getEnclosedElements())) {
+                    attributes.add(method.getSimpleName().toString());
+                    values.add(value(all.get(method), method.getReturnType()));
+                }
+                names.putIfAbsent(name, attributes);
+                model.annotations.add(new String[]{desc, constantName(name), String.join(", ", values)});
+            }
+        }
+
+        private void readOption(ComponentModel model, AnnotationMirror mirror) {
+            if (model.option) {
+                return;
+            }
+            // The first @Option value wins, because GenericDesc.put does not
+            // replace existing values.
+            model.option = true;
+            model.target = (String) attribute(mirror, "target").getValue();
+
+            String init = (String) attribute(mirror, "init").getValue();
+            if (init.isEmpty()) {
+                return;
+            }
+
+            for (ExecutableElement m : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                if (m.getSimpleName().contentEquals(init) && m.getParameters().isEmpty()) {
+                    model.init = init;
+                    if (m.getModifiers().contains(Modifier.PRIVATE)) {
+                        methods.put(init, typeLiteral(m.getReturnType()));
+                        model.initPrivate = true;
+                    }
+                    return;
+                }
+            }
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                    "init method '" + init + "' not found", model.source);
+            unsupported("init method '" + init + "' not found");
+        }
+
+        private boolean unsupported(String reason) {
+            if (this.reason == null) {
+                this.reason = reason;
+            }
+            return false;
+        }
+
+        //-------------------------------------------------------------------
+        // Printing
+        //-------------------------------------------------------------------
+
+        void print(PrintWriter out) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+
+            out.println("import io.github.proto4j.swing.Entry;");
+            out.println("import io.github.proto4j.swing.FieldReference;");
+            out.println("import io.github.proto4j.swing.core.SwingLinker;");
+            out.println();
+            out.println("/**");
+            out.println(" * Generated by the proto4j-swing GUIProcessor - do not edit.");
+            out.println(" */");
+            out.println("public final class " + binderName + " extends " + BINDER + "<" + guiName + "> {");
+            out.println();
+
+            // Private members are accessed with handles of a private lookup,
+            // all others directly.
+            String lookup = "java.lang.invoke.MethodHandles.lookup()";
+            for (ComponentModel model : components) {
+                if (model.privateField) {
+                    out.println("    private static final java.lang.invoke.VarHandle V_" + model.name
+                            + " = varHandle(" + lookup + ", " + guiName + ".class, "
+                            + literal(model.name) + ", " + model.fieldType + ");");
+                }
+            }
+            for (Map.Entry<String, String> method : methods.entrySet()) {
+                out.println("    private static final java.lang.invoke.MethodHandle M_" + method.getKey()
+                        + " = method(" + lookup + ", " + guiName + ".class, "
+                        + literal(method.getKey()) + ", " + method.getValue() + ");");
+            }
+            for (Map.Entry<String, List<String>> e : names.entrySet()) {
+                StringJoiner joiner = new StringJoiner(", ", "{", "}");
+                e.getValue().forEach(n -> joiner.add(literal(n)));
+                out.println("    private static final String[] " + constantName(e.getKey())
+                        + " = " + joiner + ";");
+            }
+            out.println();
+
+            out.println("    public " + binderName + "() {");
+            out.println("        super(" + guiName + ".class, " + components.size() + ");");
+            out.println("    }");
+            out.println();
+
+            if (constructor) {
+                out.println("    @Override");
+                out.println("    protected " + guiName + " newInstance() {");
+                out.println("        return new " + guiName + "();");
+                out.println("    }");
+                out.println();
+            }
+
+            String entryType = "Entry<" + guiName + ">";
+            String nestedType = "io.github.proto4j.swing.core.NestedEntries";
+
+            out.println("    @Override");
+            out.println("    protected void bindFields(" + entryType + " entry, "
+                    + guiName + " gui) throws Exception {");
+            if (!nested.isEmpty()) {
+                StringJoiner nNames = new StringJoiner(", ", "{", "}");
+                StringJoiner nTypes = new StringJoiner(", ", "{", "}");
+                nested.forEach((n, t) -> {
+                    nNames.add(literal(n));
+                    nTypes.add(t);
+                });
+                out.println("        " + nestedType + " nested =");
+                out.println("                " + nestedType + ".fork(new String[]"
+                        + nNames + ", new Class<?>[]" + nTypes + ");");
+            } else {
+                out.println("        " + nestedType + " nested = null;");
+            }
+            // Large GUIs are split into several methods to stay below the
+            // maximum method size.
+            int chunks = (components.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            for (int i = 0; i < chunks; i++) {
+                out.println("        bindFields" + i + "(entry, gui, nested);");
+            }
+            out.println("    }");
+
+            for (int i = 0; i < chunks; i++) {
+                out.println();
+                out.println("    private void bindFields" + i + "(" + entryType + " entry, "
+                        + guiName + " gui, " + nestedType + " nested) throws Exception {");
+                out.println("        FieldReference<java.awt.Component> r;");
+                int end = Math.min(components.size(), (i + 1) * CHUNK_SIZE);
+                for (ComponentModel model : components.subList(i * CHUNK_SIZE, end)) {
+                    out.println();
+                    out.println("        // " + model.name);
+                    if (model.fieldType == null) {
+                        out.println("        r = reference(gui, " + guiName + ".class, " + model.id
+                                + ", " + model.component + ");");
+                    } else {
+                        out.println("        r = reference(gui, " + model.index + ", "
+                                + literal(model.name) + ", " + model.fieldType + ", "
+                                + !model.finalField + ", " + model.id + ", " + model.component + ");");
+                    }
+                    for (String[] a : model.annotations) {
+                        out.println("        apply(r, " + a[0] + ", " + a[1]
+                                + ", new Object[]{" + a[2] + "});");
+                    }
+                    out.println("        entry.putField(r);");
+                }
+                out.println("    }");
+            }
+            out.println();
+            printAccessors(out);
+
+            // Same dependency order as SwingLinker.readEntry, computed at
+            // compile time
+            Map<String, Integer> indices = new HashMap<>();
+            for (int i = 0; i < components.size(); i++) {
+                indices.putIfAbsent(components.get(i).name, i);
+            }
+            int[] ids     = new int[components.size()];
+            int[] targets = new int[components.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ComponentModel model = components.get(i);
+                ids[i]     = model.id;
+                targets[i] = model.target == null || model.target.isEmpty()
+                        ? -1 : indices.getOrDefault(model.target, -1);
+            }
+            LinkOrder order = LinkOrder.of(ids, targets);
+            int[]     steps = order.getSteps();
+            int linkChunks  = Math.max(1, (steps.length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+
+            out.println("    @Override");
+            out.println("    protected void link(" + entryType + " entry, "
+                    + guiName + " gui) throws Exception {");
+            out.println("        SwingLinker linker = new SwingLinker();");
+            for (int i = 0; i < linkChunks; i++) {
+                out.println("        link" + i + "(entry, gui, linker);");
+            }
+            // targets in nested entries exist once the whole tree was created
+            for (ComponentModel model : components) {
+                if (SwingLinker.isPath(model.target) && !indices.containsKey(model.target)) {
+                    out.println("        link(linker, entry, " + literal(model.name) + ", "
+                            + literal(model.target) + ");");
+                }
+            }
+            for (int root : order.getRoots()) {
+                out.println("        validate(linker, entry, " + literal(components.get(root).name) + ");");
+            }
+            out.println("    }");
+
+            for (int i = 0; i < linkChunks; i++) {
+                out.println();
+                out.println("    private void link" + i + "(" + entryType + " entry, "
+                        + guiName + " gui, SwingLinker linker) throws Exception {");
+                int end = Math.min(steps.length, (i + 1) * CHUNK_SIZE);
+                for (int step : Arrays.copyOfRange(steps, i * CHUNK_SIZE, end)) {
+                    ComponentModel model = components.get(LinkOrder.slotOf(step));
+                    if (LinkOrder.isAttach(step)) {
+                        out.println("        link(linker, entry, " + literal(model.name) + ", "
+                                + literal(model.target) + ");");
+                    } else if (model.init != null) {
+                        if (model.initPrivate) {
+                            out.println("        invoke(M_" + model.init + ", gui);");
+                        } else {
+                            out.println("        gui." + model.init + "();");
+                        }
+                    }
+                }
+                out.println("    }");
+            }
+            out.println("}");
+        }
+
+        // GUIBinder.get and GUIBinder.set, split into chunks like bindFields
+        private void printAccessors(PrintWriter out) {
+            int chunks = Math.max(1, (components.size() + CHUNK_SIZE - 1) / CHUNK_SIZE);
+            String[][] methods = {
+                    {"Object", "get", "", "return get"},
+                    {"void", "set", ", Object value", "set"}
+            };
+            for (String[] m : methods) {
+                String args = m[1].equals("get") ? "(gui, field)" : "(gui, field, value)";
+                out.println("    @Override");
+                out.println("    protected " + m[0] + " " + m[1] + "(" + guiName
+                        + " gui, int field" + m[2] + ") {");
+                out.println("        switch (field / " + CHUNK_SIZE + ") {");
+                for (int i = 0; i < chunks; i++) {
+                    out.println("            case " + i + ": " + m[3] + i + args + ";"
+                            + (m[0].equals("void") ? " return;" : ""));
+                }
+                out.println("            default: throw new IllegalArgumentException(\"Unknown field: \" + field);");
+                out.println("        }");
+                out.println("    }");
+                out.println();
+
+                for (int i = 0; i < chunks; i++) {
+                    if (m[0].equals("void")) {
+                        out.println("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+                    }
+                    out.println("    private " + m[0] + " " + m[1] + i + "(" + guiName
+                            + " gui, int field" + m[2] + ") {");
+                    out.println("        switch (field) {");
+                    int end = Math.min(components.size(), (i + 1) * CHUNK_SIZE);
+                    for (ComponentModel model : components.subList(i * CHUNK_SIZE, end)) {
+                        if (model.fieldType == null) {
+                            continue;
+                        }
+                        out.println("            case " + model.index + ": " + access(model, m[1]));
+                    }
+                    out.println("            default: throw new IllegalArgumentException(\"Unknown field: \" + field);");
+                    out.println("        }");
+                    out.println("    }");
+                    out.println();
+                }
+            }
+        }
+
+        private String access(ComponentModel model, String method) {
+            String cast = "(" + model.fieldType.substring(0, model.fieldType.length() - 6) + ") value";
+            if (method.equals("get")) {
+                return model.privateField
+                        ? "return V_" + model.name + ".get(gui);" : "return gui." + model.name + ";";
+            }
+            if (model.finalField) {
+                return "throw new IllegalStateException(\"Field '" + model.name + "' is read-only\");";
+            }
+            return model.privateField
+                    ? "V_" + model.name + ".set(gui, " + cast + "); return;"
+                    : "gui." + model.name + " = " + cast + "; return;";
+        }
+    }
+
+    private static final class ComponentModel {
+        final Element source;
+        final String  name;
+        final int     id;
+        // index of the component in the binder
+        final int     index;
+
+        final List<String[]> annotations = new ArrayList<>();
+
+        String  fieldType;
+        boolean privateField;
+        boolean finalField;
+        String  component;
+        boolean option;
+        String  target;
+        String  init;
+        boolean initPrivate;
+
+        ComponentModel(Element source, String name, int id, int index) {
+            this.source = source;
+            this.name   = name;
+            this.id     = id;
+            this.index  = index;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // Utilities
+    //-----------------------------------------------------------------------
+
+    private AnnotationMirror find(Element element, String name) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement aType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (aType.getQualifiedName().contentEquals(name)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private AnnotationValue attribute(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e
+                : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            if (e.getKey().getSimpleName().contentEquals(name)) {
+                return e.getValue();
+            }
+        }
+        throw new IllegalArgumentException("Unknown attribute: " + name);
+    }
+
+    private boolean isRuntime(TypeElement annotation) {
+        for (AnnotationMirror mirror : annotation.getAnnotationMirrors()) {
+            TypeElement aType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (aType.getQualifiedName().contentEquals("java.lang.annotation.Retention")) {
+                VariableElement policy = (VariableElement) attribute(mirror, "value").getValue();
+                return policy.getSimpleName().contentEquals(RetentionPolicy.RUNTIME.name());
+            }
+        }
+        return false;
+    }
+
+    private boolean isComponent(TypeMirror type) {
+        TypeElement component = elements.getTypeElement(COMPONENT);
+        return component != null && types.isAssignable(type, component.asType());
+    }
+
+    private boolean isAccessible(TypeElement element) {
+        // Generated binders are placed into the GUI's package, so only
+        // public types can be referenced safely.
+        Element current = element;
+        while (current instanceof TypeElement) {
+            if (!current.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private String typeLiteral(TypeMirror type) {
+        TypeMirror erased = types.erasure(type);
+        if (erased.getKind() == TypeKind.DECLARED
+                && !isAccessible((TypeElement) types.asElement(erased))) {
+            throw new IllegalStateException("type " + erased + " is not accessible");
+        }
+        return erased + ".class";
+    }
+
+    private String value(AnnotationValue value, TypeMirror returnType) {
+        return value.accept(new SimpleAnnotationValueVisitor9<String, TypeMirror>() {
+            @Override
+            public String visitBoolean(boolean b, TypeMirror t) {return Boolean.toString(b);}
+
+            @Override
+            public String visitByte(byte b, TypeMirror t) {return "(byte) " + b;}
+
+            @Override
+            public String visitChar(char c, TypeMirror t) {
+                return c == '\'' ? "'\\''" : "'" + escape(String.valueOf(c)) + "'";
+            }
+
+            @Override
+            public String visitDouble(double d, TypeMirror t) {
+                if (Double.isNaN(d)) return "Double.NaN";
+                if (Double.isInfinite(d)) {
+                    return d > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+                }
+                return d + "d";
+            }
+
+            @Override
+            public String visitFloat(float f, TypeMirror t) {
+                if (Float.isNaN(f)) return "Float.NaN";
+                if (Float.isInfinite(f)) {
+                    return f > 0 ? "Float.POSITIVE_INFINITY" : "Float.NEGATIVE_INFINITY";
+                }
+                return f + "f";
+            }
+
+            @Override
+            public String visitInt(int i, TypeMirror t) {return Integer.toString(i);}
+
+            @Override
+            public String visitLong(long i, TypeMirror t) {return i + "L";}
+
+            @Override
+            public String visitShort(short s, TypeMirror t) {return "(short) " + s;}
+
+            @Override
+            public String visitString(String s, TypeMirror t) {return literal(s);}
+
+            @Override
+            public String visitType(TypeMirror type, TypeMirror t) {return typeLiteral(type);}
+
+            @Override
+            public String visitEnumConstant(VariableElement c, TypeMirror t) {
+                TypeElement enumType = (TypeElement) c.getEnclosingElement();
+                if (!isAccessible(enumType)) {
+                    throw new IllegalStateException("enum " + enumType + " is not accessible");
+                }
+                return enumType.getQualifiedName() + "." + c.getSimpleName();
+            }
+
+            @Override
+            public String visitArray(List<? extends AnnotationValue> values, TypeMirror t) {
+                TypeMirror component = ((ArrayType) t).getComponentType();
+                StringJoiner joiner = new StringJoiner(", ", "new " + types.erasure(component) + "[]{", "}");
+                for (AnnotationValue v : values) {
+                    joiner.add(value(v, component));
+                }
+                return joiner.toString();
+            }
+
+            @Override
+            protected String defaultAction(Object o, TypeMirror t) {
+                throw new IllegalStateException("unsupported annotation value: " + o);
+            }
+        }, returnType);
+    }
+
+    private static String flatName(TypeElement type) {
+        StringBuilder builder = new StringBuilder(type.getSimpleName());
+        Element       current = type.getEnclosingElement();
+        while (current instanceof TypeElement) {
+            builder.insert(0, '_').insert(0, current.getSimpleName());
+            current = current.getEnclosingElement();
+        }
+        return builder.toString();
+    }
+
+    private static String constantName(String annotation) {
+        return annotation.substring(annotation.lastIndexOf('.') + 1).toUpperCase(Locale.ROOT);
+    }
+
+    private static String literal(String value) {
+        return '"' + escape(value) + '"';
+    }
+
+    private static String escape(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':  builder.append("\\\""); break;
+                case '\\': builder.append("\\\\"); break;
+                case '\n': builder.append("\\n"); break;
+                case '\r': builder.append("\\r"); break;
+                case '\t': builder.append("\\t"); break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,18 @@
+import io.github.proto4j.swing.processor.GUIProcessor;
+
+/**
+ * The annotation processor generating {@code GUIBinder}s for classes
+ * annotated with {@code @GUI}. It is shipped separately from the runtime
+ * module, so applications don't need the {@code java.compiler} module.
+ *
+ * @author MatrixEditor
+ * @author Proto4j
+ */
+module proto4j.swing.processor {
+    requires proto4j.swing;
+    requires java.compiler;
+
+    exports io.github.proto4j.swing.processor;
+
+    provides javax.annotation.processing.Processor with GUIProcessor;
+}
@@ -0,0 +1,75 @@
+package io.github.proto4j.test.swing; //@date 18.10.2026
+
+import io.github.proto4j.swing.Entry;
+import io.github.proto4j.test.swing.case5.AsyncGUI;
+
+import javax.swing.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+public class AsyncTest {
+
+    private static final long TIMEOUT = 5_000;
+
+    public static void main(String[] args) throws Exception {
+        Entry<AsyncGUI> entry = Entry.of(AsyncGUI.class);
+        AsyncGUI gui = entry.getGUI();
+        entry.linkAction(gui);
+
+        // The handler runs outside the EDT, the callback on it
+        SwingUtilities.invokeAndWait(() -> fire(gui.getLoad(), 1));
+        await(() -> !gui.loaded.isEmpty(), "result not delivered");
+        check(gui.loaded.equals(List.of("1")), "result not delivered on the EDT: " + gui.loaded);
+
+        // A callback with two parameters receives the exception
+        fire(gui.getFail(), 2);
+        await(() -> !gui.failed.isEmpty(), "error not delivered");
+        check(gui.failed.equals(List.of("null:failed 2")), "error not delivered on the EDT: " + gui.failed);
+
+        // At most two invocations run at the same time, the others are queued
+        for (int i = 0; i < 6; i++) {
+            fire(gui.getLimited(), i);
+        }
+        await(() -> gui.completed.get() == 6, "queued invocations not executed");
+        check(gui.maxRunning.get() == 2, "concurrency not limited: " + gui.maxRunning.get());
+
+        // Only the result of the latest invocation is delivered
+        for (int i = 1; i <= 3; i++) {
+            fire(gui.getLatest(), i);
+            Thread.sleep(50);
+        }
+        await(() -> !gui.results.isEmpty(), "latest result not delivered");
+        Thread.sleep(500);
+        SwingUtilities.invokeAndWait(() -> {});
+        check(gui.results.equals(List.of("3")), "superseded results delivered: " + gui.results);
+        check(gui.interrupted.get() >= 1, "running invocation not cancelled");
+        System.out.println("AsyncTest: OK");
+    }
+
+    private static void fire(JButton button, int id) {
+        ActionEvent event = new ActionEvent(button, ActionEvent.ACTION_PERFORMED, String.valueOf(id));
+        for (ActionListener listener : button.getActionListeners()) {
+            listener.actionPerformed(event);
+        }
+    }
+
+    private static void await(BooleanSupplier condition, String message) throws Exception {
+        long end = System.currentTimeMillis() + TIMEOUT;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > end) {
+                throw new AssertionError(message);
+            }
+            Thread.sleep(10);
+        }
+        // the condition may be met before the EDT finished the current task
+        SwingUtilities.invokeAndWait(() -> {});
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.proto4j.test.swing; //@date 18.10.2026
+
+import io.github.proto4j.swing.Entry;
+import io.github.proto4j.test.swing.case4.CoalescingGUI;
+
+import javax.swing.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.List;
+
+public class CoalescingTest {
+
+    public static void main(String[] args) throws Exception {
+        Entry<CoalescingGUI> entry = Entry.of(CoalescingGUI.class);
+        CoalescingGUI gui = entry.getGUI();
+        entry.linkAction(gui);
+
+        // A burst within one EDT task is collapsed into one call
+        SwingUtilities.invokeAndWait(() -> {
+            for (int i = 1; i <= 5; i++) {
+                fire(gui.getCoalesced(), i);
+                fire(gui.getFirst(), i);
+            }
+            check(gui.coalescedCalls.isEmpty(), "coalesced handler called synchronously");
+        });
+        drain();
+        check(gui.coalescedCalls.equals(List.of("5")), "latest event not coalesced: " + gui.coalescedCalls);
+        check(gui.firstCalls.equals(List.of("1")), "first event not coalesced: " + gui.firstCalls);
+
+        // Debounced: one call after the quiet period
+        for (int i = 1; i <= 5; i++) {
+            fire(gui.getDebounced(), i);
+            Thread.sleep(20);
+        }
+        check(gui.debouncedCalls.isEmpty(), "debounced handler called before the quiet period");
+        Thread.sleep(400);
+        drain();
+        check(gui.debouncedCalls.equals(List.of("5")), "burst not debounced: " + gui.debouncedCalls);
+
+        // Throttled: at most one call per period, the last one with the latest event
+        for (int i = 1; i <= 20; i++) {
+            fire(gui.getThrottled(), i);
+            Thread.sleep(25);
+        }
+        Thread.sleep(400);
+        drain();
+        List<String> throttled = gui.throttledCalls;
+        check(throttled.size() >= 2 && throttled.size() <= 5, "burst not throttled: " + throttled);
+        check(throttled.get(0).equals("1"), "first event not passed directly: " + throttled);
+        check(throttled.get(throttled.size() - 1).equals("20"), "latest event dropped: " + throttled);
+        System.out.println("CoalescingTest: OK " + throttled);
+    }
+
+    private static void fire(JButton button, int id) {
+        ActionEvent event = new ActionEvent(button, ActionEvent.ACTION_PERFORMED, String.valueOf(id));
+        for (ActionListener listener : button.getActionListeners()) {
+            listener.actionPerformed(event);
+        }
+    }
+
+    // waits until all invocations posted so far were executed
+    private static void drain() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {});
+        SwingUtilities.invokeAndWait(() -> {});
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
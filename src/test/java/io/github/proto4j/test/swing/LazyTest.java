@@ -0,0 +1,83 @@
+package io.github.proto4j.test.swing; //@date 18.10.2026
+
+import io.github.proto4j.swing.Entry;
+import io.github.proto4j.swing.FieldReference;
+import io.github.proto4j.swing.core.SwingLinker;
+import io.github.proto4j.test.swing.case3.LazyGUI;
+
+import javax.swing.*;
+import java.awt.event.ActionListener;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class LazyTest {
+
+    public static void main(String[] args) throws Exception {
+        Entry<LazyGUI> entry = Entry.of(LazyGUI.class);
+        entry.linkAction(entry.getGUI());
+        LazyGUI gui = entry.getGUI();
+
+        FieldReference<?> second = entry.getDeclaredField("second");
+        FieldReference<?> third  = entry.getDeclaredField("third");
+        check(!second.isInitialized() && gui.getSecond() == null, "lazy component created with the GUI");
+        check(gui.getTabs().getTabCount() == 3, "placeholders not added to the tabs");
+        check(gui.getButton().getParent() == null, "child of a lazy component bound too early");
+        check(gui.getSecondInits() == 0, "'init' of a lazy component called too early");
+
+        // Listeners are checked against the component type before it exists
+        MouseListener mouse = new MouseAdapter() {};
+        check(entry.linkAction("second", MouseListener.class, mouse), "supported listener rejected");
+        check(!entry.linkAction("second", ActionListener.class, e -> {}), "unsupported listener accepted");
+        check(!second.isInitialized(), "lazy component created by linkAction");
+        check(second.getEventListeners().length == 0, "listener recorded before it was added");
+
+        // A failing pending action must not prevent the others
+        List<Throwable> failures = new ArrayList<>();
+        Thread.UncaughtExceptionHandler handler = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler((thread, e) -> failures.add(e));
+        List<String> actions = new ArrayList<>();
+        SwingLinker.whenCreated(third, () -> actions.add("a"));
+        SwingLinker.whenCreated(third, () -> {
+            throw new IllegalStateException("expected");
+        });
+        SwingLinker.whenCreated(third, () -> actions.add("b"));
+
+        // Only the selected tab is showing
+        gui.addNotify();
+        gui.validate();
+        check(!second.isInitialized() && !third.isInitialized(), "hidden tab created");
+
+        gui.getTabs().setSelectedIndex(1);
+        gui.validate();
+        check(second.isInitialized() && gui.getSecond() != null, "selected tab not created");
+        check(gui.getSecondInits() == 1, "'init' not called once: " + gui.getSecondInits());
+        check(gui.getButton().getParent() == gui.getSecond(), "child not bound to the lazy component");
+        check(Arrays.asList(gui.getSecond().getMouseListeners()).contains(mouse), "deferred listener not added");
+        check(Arrays.asList(second.getEventListeners()).contains(mouse), "deferred listener not recorded");
+
+        // FieldReference.get() creates the component as well
+        JButton button;
+        try {
+            button = (JButton) third.get();
+        } finally {
+            Thread.currentThread().setUncaughtExceptionHandler(handler);
+        }
+        check(button == gui.getThird() && gui.getThirdInits() == 1, "lazy component not created by get()");
+        check(actions.equals(List.of("a", "b")), "pending actions skipped: " + actions);
+        check(failures.size() == 1 && failures.get(0).getCause().getMessage().equals("expected"),
+              "failure not reported once: " + failures);
+
+        button.doClick(0);
+        check(gui.getClicks() == 1, "annotated listener not added to the lazy component");
+        System.out.println("LazyTest: OK");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.proto4j.test.swing; //@date 18.10.2026
+
+import io.github.proto4j.swing.Entry;
+import io.github.proto4j.test.swing.case8.LaterGUI;
+
+import javax.swing.*;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+public class OfLaterTest {
+
+    public static void main(String[] args) throws Exception {
+        // The preparation runs on the given executor, which is only released
+        // after the dependent stage was registered.
+        CountDownLatch release  = new CountDownLatch(1);
+        List<String>   prepared = new CopyOnWriteArrayList<>();
+        Executor executor = command -> new Thread(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+            prepared.add(SwingUtilities.isEventDispatchThread() ? "edt" : "background");
+            command.run();
+        }).start();
+
+        CompletableFuture<Entry<LaterGUI>> future = Entry.ofLater(executor, LaterGUI.class, "main");
+        CompletableFuture<Boolean> completedOnEDT = future.thenApply(e -> SwingUtilities.isEventDispatchThread());
+        check(!future.isDone(), "GUI created before it was prepared");
+        release.countDown();
+
+        // Waiting on the future itself would let this thread run the dependent stage
+        check(completedOnEDT.get(10, TimeUnit.SECONDS), "future not completed on the EDT");
+        Entry<LaterGUI> entry = future.get();
+        check(prepared.equals(List.of("background")), "not prepared on the executor: " + prepared);
+        check(entry.getGUI().isCreatedOnEDT(), "GUI not created on the EDT");
+        check(entry.getGUI().getName().equals("main"), "constructor arguments lost");
+        check(entry.getGUI().getLabel().getText().equals("later"), "components not created");
+        check(entry.getGUI().getLabel().getParent() == entry.getGUI(), "components not linked");
+
+        // Errors of the GUI constructor complete the future exceptionally
+        CompletableFuture<Entry<LaterGUI>> failed = Entry.ofLater(LaterGUI.class, "");
+        try {
+            failed.get(10, TimeUnit.SECONDS);
+            throw new AssertionError("future completed normally");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            while (cause != null && !(cause instanceof IllegalArgumentException)) {
+                cause = cause.getCause();
+            }
+            check(cause != null && "Empty name".equals(cause.getMessage()), "constructor error lost: " + e.getCause());
+        }
+        System.out.println("OfLaterTest: OK");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.proto4j.test.swing; //@date 18.10.2026
+
+import io.github.proto4j.swing.Entry;
+import io.github.proto4j.swing.FieldReference;
+import io.github.proto4j.swing.PathIndex;
+import io.github.proto4j.swing.core.desc.ComponentDesc;
+import io.github.proto4j.test.swing.case7.NetworkPanel;
+import io.github.proto4j.test.swing.case7.PathGUI;
+import io.github.proto4j.test.swing.case7.SettingsPanel;
+
+import javax.swing.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class PathTest {
+
+    public static void main(String[] args) throws Exception {
+        Entry<PathGUI>       entry    = Entry.of(PathGUI.class);
+        Entry<SettingsPanel> settings = entry.getNestedGUI("settings", SettingsPanel.class);
+        Entry<NetworkPanel>  network  = settings.getNestedGUI("network", NetworkPanel.class);
+
+        FieldReference<?> host = entry.find("settings.network.proxyHost");
+        check(host != null && host == network.getDeclaredField("proxyHost"), "nested field not found");
+        check(host.get() == network.getGUI().getProxyHost(), "wrong component");
+        check(entry.find("title") == entry.getDeclaredField("title"), "root field not found");
+        check(entry.find("settings.network") == settings.getDeclaredField("network"), "nested GUI field not found");
+        check(entry.find("settings.missing") == null, "missing field found");
+        check(entry.find("missing.proxyHost") == null, "field of a missing GUI found");
+        check(entry.find("settings.network.") == null, "empty name found");
+
+        // The index returns the same references as walking the tree
+        Map<String, FieldReference<?>> all = entry.findAll("");
+        for (Map.Entry<String, FieldReference<?>> path : all.entrySet()) {
+            check(PathIndex.walk(entry, path.getKey()) == path.getValue(), "index differs: " + path.getKey());
+        }
+
+        // Prefix queries only return the field itself and everything below
+        List<String> paths = List.copyOf(entry.findAll("settings.network").keySet());
+        check(paths.equals(List.of("settings.network", "settings.network." + FieldReference.THIS,
+                                   "settings.network.proxyHost", "settings.network.proxyPort")),
+              "wrong prefix query: " + paths);
+        check(entry.findAll("settings.networkName").keySet().equals(Set.of("settings.networkName")), "sibling with the same prefix returned");
+        check(entry.findAll("nothing").isEmpty(), "missing prefix returned fields");
+
+        PathIndex index = PathIndex.of(entry);
+        check(index.size() == all.size() && index.size() == 9, "wrong index size: " + index.size());
+        check(index.findEntry("settings.network") == network, "nested entry not indexed");
+        check(index.findEntry("title") == null, "component indexed as an entry");
+
+        // Fields added after the index was built are found as well
+        FieldReference<JButton> added = new FieldReference<>(3);
+        added.setComponentDesc(ComponentDesc.createDesc(NetworkPanel.class, "apply", JButton.class,
+                                                        network.getGUI()));
+        network.putField(added);
+        check(entry.find("settings.network.apply") == added, "added field not found");
+        check(entry.findAll("settings.network").containsKey("settings.network.apply"),
+              "index not rebuilt after a lookup found an added field");
+        System.out.println("PathTest: OK");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.proto4j.test.swing; //@date 18.10.2026
+
+import io.github.proto4j.swing.Entry;
+import io.github.proto4j.swing.Task;
+import io.github.proto4j.test.swing.case2.HelloWorldActionGUI;
+import io.github.proto4j.test.swing.case6.TaskGUI;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TaskTest {
+
+    public static void main(String[] args) throws Exception {
+        Entry<TaskGUI> entry = Entry.of(TaskGUI.class);
+
+        // Intermediate results arrive in order on the EDT, followed by done()
+        List<Integer>  chunks = new CopyOnWriteArrayList<>();
+        List<String>   done   = new CopyOnWriteArrayList<>();
+        CountDownLatch latch  = new CountDownLatch(1);
+        Future<Integer> future = entry.submit(new Task<Integer, Integer>() {
+            @Override
+            public Integer call(Context<Integer> context) {
+                int sum = 0;
+                for (int i = 1; i <= 100; i++) {
+                    context.publish(i);
+                    sum += i;
+                }
+                return sum;
+            }
+
+            @Override
+            public void process(List<Integer> batch) {
+                check(SwingUtilities.isEventDispatchThread(), "process() called outside the EDT");
+                chunks.addAll(batch);
+                entry.getGUI().getProgress().setText(String.valueOf(batch.get(batch.size() - 1)));
+            }
+
+            @Override
+            public void done(Integer result, Throwable error) {
+                check(SwingUtilities.isEventDispatchThread(), "done() called outside the EDT");
+                done.add(result + ":" + error);
+                latch.countDown();
+            }
+        });
+        check(future.get(5, TimeUnit.SECONDS) == 5050, "wrong result");
+        check(latch.await(5, TimeUnit.SECONDS), "done() not called");
+        SwingUtilities.invokeAndWait(() -> {});
+        check(chunks.size() == 100 && chunks.get(0) == 1 && chunks.get(99) == 100,
+              "intermediate results lost: " + chunks.size());
+        check(done.equals(List.of("5050:null")), "wrong completion: " + done);
+        check(entry.getGUI().getProgress().getText().equals("100"), "last batch not processed");
+
+        // At most four tasks of an entry run at the same time
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger max     = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(entry.submit(context -> {
+                max.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(100);
+                } finally {
+                    running.decrementAndGet();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> f : futures) {
+            f.get(5, TimeUnit.SECONDS);
+        }
+        check(max.get() == 4, "concurrency not limited: " + max.get());
+
+        // cancelTasks() cancels running and queued tasks
+        CountDownLatch cancelled = new CountDownLatch(6);
+        AtomicInteger  interrupted = new AtomicInteger();
+        for (int i = 0; i < 6; i++) {
+            entry.submit(blocking(cancelled, interrupted));
+        }
+        Thread.sleep(100);
+        entry.cancelTasks();
+        check(cancelled.await(5, TimeUnit.SECONDS), "tasks not cancelled");
+        for (int i = 0; i < 100 && interrupted.get() < 4; i++) {
+            // the interrupted threads may still be returning
+            Thread.sleep(10);
+        }
+        check(interrupted.get() == 4, "running tasks not interrupted: " + interrupted.get());
+
+        // Tasks are cancelled when the window of the entry is closed
+        if (GraphicsEnvironment.isHeadless()) {
+            System.out.println("TaskTest: window test skipped (headless)");
+        } else {
+            Entry<HelloWorldActionGUI> window = Entry.of(HelloWorldActionGUI.class);
+            CountDownLatch closed = new CountDownLatch(1);
+            window.submit(blocking(closed, new AtomicInteger()));
+            SwingUtilities.invokeAndWait(() -> ((Window) window.getDeclaredField("mainFrame").get()).dispose());
+            check(closed.await(5, TimeUnit.SECONDS), "tasks not cancelled when the window was closed");
+        }
+        System.out.println("TaskTest: OK");
+    }
+
+    // A task that blocks until it is interrupted and counts down the given
+    // latch when it was cancelled.
+    private static Task<Object, Object> blocking(CountDownLatch cancelled, AtomicInteger interrupted) {
+        return new Task<>() {
+            @Override
+            public Object call(Context<Object> context) {
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    interrupted.incrementAndGet();
+                }
+                return null;
+            }
+
+            @Override
+            public void done(Object result, Throwable error) {
+                if (error instanceof CancellationException) {
+                    cancelled.countDown();
+                }
+            }
+        };
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
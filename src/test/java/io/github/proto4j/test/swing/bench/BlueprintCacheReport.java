@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.proto4j.test.swing.bench; //@date 18.10.2026
+
+import io.github.proto4j.swing.core.BlueprintCache;
+import io.github.proto4j.swing.core.GUIBlueprint;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares computing {@link GUIBlueprint}s from the GUI classes with reading
+ * them from the {@link BlueprintCache}.
+ * <p>
+ * Every measurement is the first blueprint of a fresh VM, which is where the
+ * cache is meant to help. The 'scan' column is measured with the cache
+ * disabled, so it does not include writing the file, while the 'cached'
+ * column includes computing the checksums of the GUI class and the library.
+ * Both columns are medians of several VMs.
+ */
+public class BlueprintCacheReport {
+
+    private static final int[] SIZES = {10, 100, 1_000};
+
+    private static final int RUNS = 11;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2) {
+            // a single measurement, started by the report below
+            measure(Paths.get(args[0]), args[1]);
+            return;
+        }
+
+        Path work  = Files.createTempDirectory("proto4j-blueprints");
+        Path cache = work.resolve("cache");
+
+        System.out.println("| fields | components | scan (ms) | cached (ms) | file size (B) |");
+        System.out.println("|--------|------------|-----------|-------------|---------------|");
+        for (int size : SIZES) {
+            SyntheticGUIGenerator generator = new SyntheticGUIGenerator()
+                    .fields(size)
+                    .groupSize(20)
+                    .marginEvery(4);
+
+            String   name = "Gui" + size;
+            Class<?> gui  = generator.compile(work.resolve(name), name);
+            Path     dir  = work.resolve(name).resolve("classes");
+            Path     file = cache.resolve(gui.getName() + BlueprintCache.EXTENSION);
+
+            // writes the file that is read by the 'cached' VMs
+            run(dir, gui.getName(), cache, false);
+
+            long[] scan   = new long[RUNS];
+            long[] cached = new long[RUNS];
+            for (int i = 0; i < RUNS; i++) {
+                scan[i]   = run(dir, gui.getName(), null, false);
+                cached[i] = run(dir, gui.getName(), cache, true);
+            }
+
+            System.out.printf("| %6d | %10d | %9.1f | %11.1f | %13d |%n", size,
+                              generator.componentCount(), median(scan) / 1e6,
+                              median(cached) / 1e6, Files.size(file));
+        }
+        BlueprintCache.clear();
+    }
+
+    // Starts a new VM that computes or loads a single blueprint and returns
+    // the measured time.
+    private static long run(Path classes, String name, Path cache, boolean hit)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Djava.awt.headless=true");
+        if (cache != null) {
+            command.add("-D" + BlueprintCache.DIRECTORY_PROPERTY + "=" + cache);
+        }
+        command.addAll(List.of("-cp", System.getProperty("java.class.path"),
+                               BlueprintCacheReport.class.getName(), classes.toString(), name));
+
+        Process process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        String[] output = new String(process.getInputStream().readAllBytes()).trim().split(" ");
+        if (process.waitFor() != 0 || output.length != 2) {
+            throw new IllegalStateException("measurement failed: " + String.join(" ", output));
+        }
+        if (hit && !output[1].equals("1")) {
+            throw new IllegalStateException("the stored blueprint of " + name + " was not used");
+        }
+        return Long.parseLong(output[0]);
+    }
+
+    private static void measure(Path classes, String name) throws Exception {
+        URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+                                                   BlueprintCacheReport.class.getClassLoader());
+        // loads Swing, which is not part of the measurement
+        Class<?> gui = Class.forName(name, true, loader);
+
+        long begin = System.nanoTime();
+        GUIBlueprint.of(gui);
+        long time = System.nanoTime() - begin;
+
+        System.out.println(time + " " + BlueprintCache.getHits());
+    }
+
+    private static double median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
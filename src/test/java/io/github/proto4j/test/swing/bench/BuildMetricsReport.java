@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.test.swing.bench; //@date 18.10.2026
+
+import io.github.proto4j.swing.Entry;
+import io.github.proto4j.swing.core.BuildMetrics;
+import io.github.proto4j.swing.core.BuildStatistics;
+
+/**
+ * Prints the slowest fields and handlers of the nested benchmark GUIs.
+ * Run with {@code -Dproto4j.swing.metrics.top=10} to get the same report
+ * at shutdown without any code.
+ */
+public class BuildMetricsReport {
+
+    private static final int ITERATIONS = 50;
+
+    public static void main(String[] args) throws Exception {
+        BuildStatistics statistics = new BuildStatistics();
+
+        // disabled: no metrics are recorded
+        System.out.println("enabled: " + BuildMetrics.isEnabled());
+
+        BuildMetrics.addListener(statistics);
+        BuildMetrics.addListener(metrics -> {
+            if (metrics.getType() == NestedBuildBenchmark.Depth2.class) {
+                StringBuilder builder = new StringBuilder(metrics.getType().getSimpleName());
+                for (BuildMetrics.Phase phase : BuildMetrics.Phase.values()) {
+                    builder.append(' ').append(phase).append('=')
+                           .append(metrics.getPhaseTime(phase) / 1000).append("us");
+                }
+                System.out.println(builder);
+            }
+        });
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            Entry.of(NestedBuildBenchmark.Depth2.class);
+        }
+        statistics.print(System.out, 10);
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.proto4j.test.swing.bench; //@date 18.10.2026
+
+import io.github.proto4j.swing.annotation.Option;
+import io.github.proto4j.swing.core.SwingHandler;
+import io.github.proto4j.swing.laf.DefaultLAFProvider;
+import io.github.proto4j.swing.laf.LAFProvider;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Runs service lookups on multiple threads and prints the throughput together
+ * with the number of times the worker threads were blocked on a monitor. The
+ * keyed lookup of the {@code ServiceManager} is compared against the predicate
+ * scan under a shared lock, which was used before the services were indexed.
+ * Run with {@code -Djava.awt.headless=true}.
+ */
+public class ConcurrentEntryBenchmark {
+
+    private static final int[] THREADS = {1, 2, 4, 8};
+
+    public static void main(String[] args) throws Exception {
+        ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+        if (mx.isThreadContentionMonitoringSupported()) {
+            mx.setThreadContentionMonitoringEnabled(true);
+        }
+
+        // loads the services, so they can be copied for the scan
+        lookup();
+        LockedScan<SwingHandler> handlers  =
+                new LockedScan<>(SwingHandler.CACHE.services().collect(Collectors.toList()));
+        LockedScan<LAFProvider>  providers =
+                new LockedScan<>(LAFProvider.getManager().services().collect(Collectors.toList()));
+        Runnable scan = () -> {
+            handlers.get(h -> h.annotationType() == Option.class);
+            providers.get(p -> p.getClass() == DefaultLAFProvider.class);
+        };
+
+        // warm up the JIT
+        run(mx, "warmup", 4, 500_000, ConcurrentEntryBenchmark::lookup);
+        run(mx, "warmup", 4, 500_000, scan);
+
+        System.out.println("--- ServiceManager.getByKey (2M lookups per thread) ---");
+        for (int threads : THREADS) {
+            run(mx, "lookup", threads, 2_000_000, ConcurrentEntryBenchmark::lookup);
+        }
+
+        System.out.println("--- locked predicate scan (2M lookups per thread) ---");
+        for (int threads : THREADS) {
+            run(mx, "scan", threads, 2_000_000, scan);
+        }
+    }
+
+    private static void lookup() {
+        SwingHandler.CACHE.getByKey(Option.class);
+        LAFProvider.getManager().getByKey(DefaultLAFProvider.class);
+    }
+
+    private static void run(ThreadMXBean mx, String name, int threads, int iterations,
+                            Runnable task) throws InterruptedException {
+        Thread[]       workers = new Thread[threads];
+        long[]         blocked = new long[threads];
+        long[]         waited  = new long[threads];
+        CountDownLatch start   = new CountDownLatch(1);
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            workers[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int j = 0; j < iterations; j++) {
+                    task.run();
+                }
+
+                ThreadInfo info = mx.getThreadInfo(Thread.currentThread().getId());
+                blocked[index] = info.getBlockedCount();
+                waited[index]  = info.getBlockedTime();
+            }, name + "-" + i);
+            workers[i].start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        if (!name.equals("warmup")) {
+            double ops = (double) threads * iterations / (elapsed / 1e9);
+            System.out.printf("threads=%d  ops/s=%,.0f  blocked=%d  blockedMillis=%d%n",
+                              threads, ops, sum(blocked), sum(waited));
+        }
+    }
+
+    private static long sum(long[] values) {
+        long result = 0;
+        for (long value : values) {
+            result += value;
+        }
+        return result;
+    }
+
+    // The lookup of the former ServiceManager: every reader scans the
+    // registered services with a new predicate while holding the lock.
+    private static final class LockedScan<S> {
+
+        private final Object                  LOCK = new Object();
+        private final CopyOnWriteArrayList<S> services;
+
+        LockedScan(List<S> services) {
+            this.services = new CopyOnWriteArrayList<>(services);
+        }
+
+        S get(Predicate<? super S> predicate) {
+            synchronized (LOCK) {
+                for (S service : services) {
+                    if (predicate.test(service)) {
+                        return service;
+                    }
+                }
+            }
+            throw new IllegalArgumentException("Could not find service");
+        }
+    }
+}
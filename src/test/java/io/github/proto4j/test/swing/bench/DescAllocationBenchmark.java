@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.test.swing.bench; //@date 18.10.2026
+
+import io.github.proto4j.swing.annotation.Option;
+import io.github.proto4j.swing.core.desc.ComponentDesc;
+import io.github.proto4j.swing.core.desc.GenericDesc;
+
+import javax.swing.*;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+
+public class DescAllocationBenchmark {
+
+    private static final int ROUNDS     = 5;
+    private static final int COMPONENTS = 5_000;
+
+    @Option(text = "Hello", background = "#ffffff", enabled = false)
+    private JButton button;
+
+    public static void main(String[] args) throws Exception {
+        DescAllocationBenchmark root   = new DescAllocationBenchmark();
+        Field                   field  = DescAllocationBenchmark.class.getDeclaredField("button");
+        Option                  option = field.getAnnotation(Option.class);
+
+        com.sun.management.ThreadMXBean bean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        ComponentDesc[] retained = new ComponentDesc[COMPONENTS];
+        for (int round = 0; round < ROUNDS; round++) {
+            long begin = bean.getThreadAllocatedBytes(thread);
+            long time  = System.nanoTime();
+            for (int i = 0; i < COMPONENTS; i++) {
+                ComponentDesc desc = ComponentDesc.createDesc(field, root);
+
+                GenericDesc<Option> optionDesc = desc.getDesc(Option.class);
+                optionDesc.read(option);
+                retained[i] = desc;
+            }
+            long bytes = bean.getThreadAllocatedBytes(thread) - begin;
+            double us  = (System.nanoTime() - time) / 1000.0;
+            System.out.printf("round=%d  %d descs  %8.1f bytes/desc  %8.1f us%n",
+                              round, COMPONENTS, bytes / (double) COMPONENTS, us);
+        }
+        System.out.println(retained.length);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.test.swing.bench; //@date 18.10.2026
+
+import io.github.proto4j.swing.core.LinkOrder;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares linking deep trees in the order of the component numbers (the
+ * former behaviour of {@code SwingLinker}) with the dependency order of
+ * {@link LinkOrder}.
+ * <p>
+ * The report counts the adds that hit a container which is already part of
+ * the root's hierarchy. Each of them invalidates the parent chain and, on a
+ * displayable root, creates the peers of the added component. The trees are
+ * additionally linked onto a displayable root that was laid out before: a
+ * packed frame if a display is available, a panel with lightweight peers
+ * otherwise. The invalidations and layout passes until the root is valid
+ * again are counted.
+ * <p>
+ * Both orders cost the same number of invalidations and layout passes: the
+ * first add invalidates the parent chain, which stays invalid until the
+ * single {@code validate()} of the root after linking, and that lays out
+ * every container once. The dependency order only reduces the adds into the
+ * root's hierarchy.
+ */
+public class LinkOrderReport {
+
+    // the fastest of these runs is reported
+    private static final int RUNS = 5;
+
+    private static int  invalidations;
+    private static int  layouts;
+    private static long linkNanos;
+
+    public static class CountingPanel extends JPanel {
+        @Override
+        public void invalidate() {
+            if (isValid()) {
+                invalidations++;
+            }
+            super.invalidate();
+        }
+
+        @Override
+        public void doLayout() {
+            layouts++;
+            super.doLayout();
+        }
+    }
+
+    public static void main(String[] args) {
+        boolean display = !GraphicsEnvironment.isHeadless();
+        System.out.println("root: " + (display ? "packed frame" : "panel with lightweight peers (headless)"));
+        System.out.println();
+        System.out.println("| depth | width | components | order | adds into the hierarchy | invalidations | layout passes | link ms |");
+        System.out.println("|-------|-------|------------|-------|------------------------|---------------|---------------|---------|");
+
+        int[][] shapes = {{4, 2}, {8, 2}, {12, 2}, {4, 4}, {6, 4}, {64, 1}};
+        for (int[] shape : shapes) {
+            int[] targets = tree(shape[0], shape[1]);
+            int[] ids     = new int[targets.length];
+            for (int i = 0; i < ids.length; i++) {
+                // numbered top-down, like most GUI classes declare their fields
+                ids[i] = i + 1;
+            }
+
+            for (boolean dependencyOrder : new boolean[]{false, true}) {
+                int[] adds = adds(ids, targets, dependencyOrder);
+                String swing = null;
+                long   best  = Long.MAX_VALUE;
+                for (int run = 0; run < RUNS; run++) {
+                    swing = link(targets, adds, display);
+                    best  = Math.min(best, linkNanos);
+                }
+                swing += String.format(" | %7.2f", best / 1e6);
+                System.out.printf("| %5d | %5d | %10d | %-5s | %22d | %s |%n", shape[0], shape[1],
+                                  targets.length, dependencyOrder ? "deps" : "ids",
+                                  liveAdds(targets, adds), swing);
+            }
+        }
+        System.exit(0);
+    }
+
+    // the slots in the order they are added to their targets
+    private static int[] adds(int[] ids, int[] targets, boolean dependencyOrder) {
+        List<Integer> adds = new ArrayList<>();
+        if (dependencyOrder) {
+            for (int step : LinkOrder.of(ids, targets).getSteps()) {
+                if (LinkOrder.isAttach(step)) {
+                    adds.add(LinkOrder.slotOf(step));
+                }
+            }
+        } else {
+            // ids are ascending already
+            for (int i = 0; i < targets.length; i++) {
+                if (targets[i] != -1) {
+                    adds.add(i);
+                }
+            }
+        }
+        return adds.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int liveAdds(int[] targets, int[] adds) {
+        boolean[] live = new boolean[targets.length];
+        live[0] = true;
+
+        int count = 0;
+        for (int index : adds) {
+            if (live[targets[index]]) {
+                count++;
+                markSubtree(targets, live, index);
+            }
+        }
+        return count;
+    }
+
+    private static void markSubtree(int[] targets, boolean[] live, int root) {
+        boolean[] subtree = new boolean[targets.length];
+        subtree[root] = live[root] = true;
+        for (int i = root + 1; i < targets.length; i++) {
+            // parents always have a smaller index than their children
+            if (targets[i] != -1 && subtree[targets[i]]) {
+                subtree[i] = live[i] = true;
+            }
+        }
+    }
+
+    private static String link(int[] targets, int[] adds, boolean display) {
+        Container[] components = new Container[targets.length];
+        for (int i = 0; i < components.length; i++) {
+            components[i] = new CountingPanel();
+        }
+
+        JFrame    frame = null;
+        Container root  = components[0];
+        if (display) {
+            frame = new JFrame();
+            frame.setContentPane(root);
+            frame.setSize(800, 600);
+            // creates the peers and lays out the frame without showing it
+            frame.pack();
+            root = frame;
+        } else {
+            // lightweight peers are available without a display
+            root.addNotify();
+            root.setSize(800, 600);
+            root.validate();
+        }
+
+        invalidations = 0;
+        layouts       = 0;
+        long start = System.nanoTime();
+        for (int index : adds) {
+            components[targets[index]].add(components[index]);
+        }
+        root.validate();
+        linkNanos = System.nanoTime() - start;
+        if (frame != null) {
+            frame.dispose();
+        } else {
+            root.removeNotify();
+        }
+        return String.format("%13d | %13d", invalidations, layouts);
+    }
+
+    // complete tree of the given depth; the root is slot 0
+    private static int[] tree(int depth, int width) {
+        int size = 1, level = 1;
+        for (int i = 0; i < depth; i++) {
+            level *= width;
+            size += level;
+        }
+
+        int[] targets = new int[size];
+        targets[0] = -1;
+        for (int i = 1; i < size; i++) {
+            targets[i] = (i - 1) / width;
+        }
+        return targets;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.test.swing.bench; //@date 18.10.2026
+
+import io.github.proto4j.swing.Entry;
+import io.github.proto4j.swing.annotation.*;
+import io.github.proto4j.swing.core.NestedEntries;
+
+import javax.swing.*;
+import java.awt.*;
+
+public class NestedBuildBenchmark {
+
+    private static final int ROUNDS     = 5;
+    private static final int ITERATIONS = 20;
+
+    @GUI
+    @Swing
+    @Layout(GridLayout.class)
+    public static class Leaf extends JPanel {
+        @Swing(1) @Option(target = "$this", text = "a") private JButton a;
+        @Swing(2) @Option(target = "$this", text = "b") private JButton b;
+        @Swing(3) @Option(target = "$this", text = "c") private JButton c;
+        @Swing(4) @Option(target = "$this", text = "d") private JButton d;
+        @Swing(5) @Option(target = "$this", text = "e") private JLabel e;
+        @Swing(6) @Option(target = "$this", text = "f") private JLabel f;
+        @Swing(7) @Option(target = "$this", text = "g") private JTextField g;
+        @Swing(8) @Option(target = "$this", text = "h") private JTextField h;
+        @Swing(9) @Option(target = "$this") @Model(DefaultComboBoxModel.class) private JComboBox<?> i;
+        @Swing(10) @Option(target = "$this") @Margin(value = javax.swing.border.TitledBorder.class, title = "j")
+        private JPanel j;
+    }
+
+    @GUI
+    @Swing
+    @Layout(FlowLayout.class)
+    public static class Width2 extends JPanel {
+        @Swing(1) @Nested @Option(target = "$this") private Leaf l1;
+        @Swing(2) @Nested @Option(target = "$this") private Leaf l2;
+    }
+
+    @GUI
+    @Swing
+    @Layout(FlowLayout.class)
+    public static class Width4 extends JPanel {
+        @Swing(1) @Nested @Option(target = "$this") private Leaf l1;
+        @Swing(2) @Nested @Option(target = "$this") private Leaf l2;
+        @Swing(3) @Nested @Option(target = "$this") private Leaf l3;
+        @Swing(4) @Nested @Option(target = "$this") private Leaf l4;
+    }
+
+    @GUI
+    @Swing
+    @Layout(FlowLayout.class)
+    public static class Width8 extends JPanel {
+        @Swing(1) @Nested @Option(target = "$this") private Leaf l1;
+        @Swing(2) @Nested @Option(target = "$this") private Leaf l2;
+        @Swing(3) @Nested @Option(target = "$this") private Leaf l3;
+        @Swing(4) @Nested @Option(target = "$this") private Leaf l4;
+        @Swing(5) @Nested @Option(target = "$this") private Leaf l5;
+        @Swing(6) @Nested @Option(target = "$this") private Leaf l6;
+        @Swing(7) @Nested @Option(target = "$this") private Leaf l7;
+        @Swing(8) @Nested @Option(target = "$this") private Leaf l8;
+    }
+
+    // 4 x Width4 = 16 leaves at depth 2
+    @GUI
+    @Swing
+    @Layout(FlowLayout.class)
+    public static class Depth2 extends JPanel {
+        @Swing(1) @Nested @Option(target = "$this") private Width4 w1;
+        @Swing(2) @Nested @Option(target = "$this") private Width4 w2;
+        @Swing(3) @Nested @Option(target = "$this") private Width4 w3;
+        @Swing(4) @Nested @Option(target = "$this") private Width4 w4;
+    }
+
+    // 4 x Depth2 = 64 leaves at depth 3
+    @GUI
+    @Swing
+    @Layout(FlowLayout.class)
+    public static class Depth3 extends JPanel {
+        @Swing(1) @Nested @Option(target = "$this") private Depth2 d1;
+        @Swing(2) @Nested @Option(target = "$this") private Depth2 d2;
+        @Swing(3) @Nested @Option(target = "$this") private Depth2 d3;
+        @Swing(4) @Nested @Option(target = "$this") private Depth2 d4;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Class<?>[] guis = {Width2.class, Width4.class, Width8.class, Depth2.class, Depth3.class};
+        for (Class<?> gui : guis) {
+            // warm up all variants
+            run(gui, Integer.MAX_VALUE, false);
+            run(gui, NestedEntries.DEFAULT_THRESHOLD, false);
+            run(gui, NestedEntries.DEFAULT_THRESHOLD, true);
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (Class<?> gui : guis) {
+                double sequential = run(gui, Integer.MAX_VALUE, false);
+                double preload    = run(gui, NestedEntries.DEFAULT_THRESHOLD, false);
+                double build      = run(gui, NestedEntries.DEFAULT_THRESHOLD, true);
+                System.out.printf("round=%d  %-7s sequential=%8.3f ms  preload=%8.3f ms  concurrentBuild=%8.3f ms%n",
+                                  round, gui.getSimpleName(), sequential, preload, build);
+            }
+        }
+    }
+
+    private static double run(Class<?> gui, int threshold, boolean build) throws Exception {
+        System.setProperty(NestedEntries.THRESHOLD_PROPERTY, String.valueOf(threshold));
+        System.setProperty(NestedEntries.CONCURRENT_BUILD_PROPERTY, String.valueOf(build));
+        long begin = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            Entry.of(gui);
+        }
+        return (System.nanoTime() - begin) / 1e6 / ITERATIONS;
+    }
+}
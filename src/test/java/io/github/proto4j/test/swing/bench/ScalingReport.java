@@ -0,0 +1,178 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.test.swing.bench; //@date 18.10.2026
+
+import io.github.proto4j.swing.Entry;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Builds synthetic GUIs of growing size with the reflective path and with
+ * generated binders and prints a markdown scaling table. The last column
+ * compares the time per component with the smallest GUI, so values clearly
+ * above 1 show where the generation stops being linear.
+ * <p>
+ * Usage: {@code ScalingReport [csv-file]}
+ */
+public class ScalingReport {
+
+    private static final int[] SIZES = {10, 100, 1_000, 10_000};
+
+    // amount of components built per measurement
+    private static final int COMPONENTS_PER_RUN = 100_000;
+
+    public static void main(String[] args) throws Exception {
+        Path work = Files.createTempDirectory("proto4j-scaling");
+
+        List<String[]> rows = new ArrayList<>();
+        for (boolean binders : new boolean[]{false, true}) {
+            double base = 0;
+            for (int size : SIZES) {
+                SyntheticGUIGenerator generator = new SyntheticGUIGenerator()
+                        .fields(size)
+                        .groupSize(20)
+                        .marginEvery(4)
+                        .nestedDepth(2)
+                        .handlers(Math.max(1, size / 100))
+                        .binders(binders);
+
+                String   name = "Gui" + size + (binders ? "B" : "R");
+                Class<?> gui  = generator.compile(work.resolve(name), name);
+
+                Result result = measure(gui, generator);
+                if (base == 0) {
+                    base = result.nsPerComponent;
+                }
+                rows.add(new String[]{
+                        binders ? "binder" : "reflective",
+                        String.valueOf(size),
+                        String.valueOf(generator.componentCount()),
+                        format(result.msPerBuild),
+                        format(result.nsPerComponent),
+                        format(result.allocatedPerComponent),
+                        format(result.retainedPerComponent),
+                        format(result.nsPerComponent / base)
+                });
+            }
+        }
+
+        String[] header = {"mode", "fields", "components", "ms/build", "ns/component",
+                "allocated B/component", "retained B/component", "ns/component vs. smallest"};
+        printMarkdown(header, rows);
+        if (args.length > 0) {
+            writeCsv(Path.of(args[0]), header, rows);
+        }
+    }
+
+    private static Result measure(Class<?> gui, SyntheticGUIGenerator generator) throws Exception {
+        int components = generator.componentCount();
+        int iterations = Math.max(3, COMPONENTS_PER_RUN / components);
+
+        // warm up
+        for (int i = 0; i < iterations; i++) {
+            build(gui, generator);
+        }
+
+        com.sun.management.ThreadMXBean bean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        long allocated = bean.getThreadAllocatedBytes(thread);
+        long begin     = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            build(gui, generator);
+        }
+        long time = System.nanoTime() - begin;
+        allocated = bean.getThreadAllocatedBytes(thread) - allocated;
+
+        // retained heap of the built entries
+        int      keep    = Math.max(1, 20_000 / components);
+        Object[] entries = new Object[keep];
+        long     before  = usedHeap();
+        for (int i = 0; i < keep; i++) {
+            entries[i] = build(gui, generator);
+        }
+        long retained = usedHeap() - before;
+
+        Result result = new Result();
+        result.msPerBuild            = time / 1e6 / iterations;
+        result.nsPerComponent        = time / (double) iterations / components;
+        result.allocatedPerComponent = allocated / (double) iterations / components;
+        result.retainedPerComponent  = Math.max(0, retained) / (double) keep / components;
+        if (entries[keep - 1] == null) {
+            throw new IllegalStateException();
+        }
+        return result;
+    }
+
+    private static Entry<?> build(Class<?> gui, SyntheticGUIGenerator generator) throws Exception {
+        Entry<?> entry = Entry.of(gui);
+        if (generator.hasHandlers()) {
+            entry.linkAction(entry.getGUI());
+        }
+        return entry;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private static void printMarkdown(String[] header, List<String[]> rows) {
+        System.out.println("| " + String.join(" | ", header) + " |");
+        System.out.println("|" + "---|".repeat(header.length));
+        for (String[] row : rows) {
+            System.out.println("| " + String.join(" | ", row) + " |");
+        }
+    }
+
+    private static void writeCsv(Path file, String[] header, List<String[]> rows) throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.join(",", header));
+        for (String[] row : rows) {
+            lines.add(String.join(",", row));
+        }
+        Files.write(file, lines);
+    }
+
+    private static final class Result {
+        double msPerBuild;
+        double nsPerComponent;
+        double allocatedPerComponent;
+        double retainedPerComponent;
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.test.swing.bench; //@date 18.10.2026
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the source of synthetic {@code @GUI} classes and compiles them at
+ * runtime with the system Java compiler.
+ * <p>
+ * The generated root GUI contains the given amount of leaf components, which
+ * are split into groups. Each group is a {@code JPanel} with a {@code @Layout}
+ * (alternating flow and grid layouts) and optionally a {@code @Margin}. The
+ * leaves are bound to their group with {@code @Option(target = ...)}.
+ * Additionally, a chain of {@code @Nested} GUIs and {@code @ActionHandler}
+ * methods linked to the generated buttons can be added.
+ */
+public final class SyntheticGUIGenerator {
+
+    private static final String PACKAGE = "synthetic";
+
+    private int     fields      = 100;
+    private int     groupSize   = 20;
+    private int     marginEvery = 4;
+    private int     nestedDepth = 0;
+    private int     handlers    = 0;
+    private boolean binders     = false;
+
+    /**
+     * @param fields the amount of leaf components of the root GUI
+     * @return this generator
+     */
+    public SyntheticGUIGenerator fields(int fields) {
+        this.fields = fields;
+        return this;
+    }
+
+    /**
+     * @param groupSize the amount of leaf components per group panel
+     * @return this generator
+     */
+    public SyntheticGUIGenerator groupSize(int groupSize) {
+        this.groupSize = Math.max(1, groupSize);
+        return this;
+    }
+
+    /**
+     * @param marginEvery every n-th group gets a {@code @Margin}; {@code 0}
+     *         disables margins
+     * @return this generator
+     */
+    public SyntheticGUIGenerator marginEvery(int marginEvery) {
+        this.marginEvery = marginEvery;
+        return this;
+    }
+
+    /**
+     * @param nestedDepth the length of the {@code @Nested} GUI chain, each
+     *         nested GUI contains a single group
+     * @return this generator
+     */
+    public SyntheticGUIGenerator nestedDepth(int nestedDepth) {
+        this.nestedDepth = nestedDepth;
+        return this;
+    }
+
+    /**
+     * @param handlers the amount of {@code @ActionHandler} methods
+     * @return this generator
+     */
+    public SyntheticGUIGenerator handlers(int handlers) {
+        this.handlers = handlers;
+        return this;
+    }
+
+    /**
+     * @param binders whether the {@code GUIProcessor} should generate binders
+     *         for the compiled classes
+     * @return this generator
+     */
+    public SyntheticGUIGenerator binders(boolean binders) {
+        this.binders = binders;
+        return this;
+    }
+
+    /**
+     * @return the amount of components (including the root and nested
+     *         GUIs) created for a generated GUI
+     */
+    public int componentCount() {
+        int groups = (fields + groupSize - 1) / groupSize;
+        // every nested GUI: root + one group + its leaves + the nested field
+        return 1 + groups + fields + nestedDepth * (groupSize + 3);
+    }
+
+    /**
+     * @return {@code true} if the generated GUI declares action handlers
+     */
+    public boolean hasHandlers() {
+        return handlers > 0 && fields > 0;
+    }
+
+    /**
+     * Generates and compiles a GUI class into the given directory.
+     *
+     * @param dir the working directory
+     * @param name the simple name of the root GUI
+     * @return the loaded GUI class
+     * @throws IOException if the sources could not be written or compiled
+     * @throws ClassNotFoundException if the compiled class could not be loaded
+     */
+    public Class<?> compile(Path dir, String name) throws IOException, ClassNotFoundException {
+        Path sources = Files.createDirectories(dir.resolve("src").resolve(PACKAGE));
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+
+        List<Path> files = new ArrayList<>();
+        files.add(Files.writeString(sources.resolve(name + ".java"), generate(name)));
+        for (int level = 1; level <= nestedDepth; level++) {
+            String levelName = name + "Level" + level;
+            files.add(Files.writeString(sources.resolve(levelName + ".java"),
+                                        generateLevel(name, level)));
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No system Java compiler available");
+        }
+
+        String       classpath = System.getProperty("java.class.path");
+        List<String> options   = new ArrayList<>(List.of("-d", classes.toString(),
+                                                         "-classpath", classpath,
+                                                         "-Xlint:none", "-nowarn"));
+        if (binders) {
+            options.addAll(List.of("-processorpath", classpath));
+        } else {
+            options.add("-proc:none");
+        }
+
+        try (StandardJavaFileManager manager = compiler.getStandardFileManager(null, null, null)) {
+            boolean success = compiler.getTask(null, manager, null, options, null,
+                                               manager.getJavaFileObjectsFromPaths(files)).call();
+            if (!success) {
+                throw new IOException("Could not compile " + name);
+            }
+        }
+
+        URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+                                                   SyntheticGUIGenerator.class.getClassLoader());
+        return Class.forName(PACKAGE + "." + name, true, loader);
+    }
+
+    /**
+     * Generates the source of the root GUI.
+     *
+     * @param name the simple class name
+     * @return the source code
+     */
+    public String generate(String name) {
+        StringBuilder src = header(name);
+
+        int id     = 1;
+        int groups = (fields + groupSize - 1) / groupSize;
+        List<String> buttons = new ArrayList<>();
+        for (int g = 0; g < groups; g++) {
+            id = group(src, "g" + g, g, id);
+
+            int end = Math.min(fields, (g + 1) * groupSize);
+            for (int i = g * groupSize; i < end; i++) {
+                String leaf = leaf(src, "c" + i, "g" + g, i, id++);
+                if (leaf != null) {
+                    buttons.add(leaf);
+                }
+            }
+        }
+
+        if (nestedDepth > 0) {
+            src.append("    @Swing(").append(id).append(") @Nested @Option(target = \"$this\")\n")
+               .append("    private ").append(name).append("Level1 nested;\n");
+        }
+
+        for (int h = 0; h < handlers && !buttons.isEmpty(); h++) {
+            // each handler is linked to up to 10 buttons
+            List<String> targets = new ArrayList<>();
+            for (int b = h; b < buttons.size() && targets.size() < 10; b += handlers) {
+                targets.add('"' + buttons.get(b) + '"');
+            }
+            if (targets.isEmpty()) {
+                break;
+            }
+            src.append("    @ActionHandler({").append(String.join(", ", targets)).append("})\n")
+               .append("    private void action").append(h).append("(ActionEvent e) {}\n");
+        }
+        return src.append("}\n").toString();
+    }
+
+    private String generateLevel(String name, int level) {
+        StringBuilder src = header(name + "Level" + level);
+
+        int id = group(src, "g0", 0, 1);
+        for (int i = 0; i < groupSize; i++) {
+            leaf(src, "c" + i, "g0", i, id++);
+        }
+        if (level < nestedDepth) {
+            src.append("    @Swing(").append(id).append(") @Nested @Option(target = \"$this\")\n")
+               .append("    private ").append(name).append("Level").append(level + 1)
+               .append(" nested;\n");
+        }
+        return src.append("}\n").toString();
+    }
+
+    private StringBuilder header(String name) {
+        return new StringBuilder()
+                .append("package ").append(PACKAGE).append(";\n\n")
+                .append("import io.github.proto4j.swing.annotation.*;\n")
+                .append("import javax.swing.*;\n")
+                .append("import javax.swing.border.TitledBorder;\n")
+                .append("import java.awt.*;\n")
+                .append("import java.awt.event.ActionEvent;\n\n")
+                .append("@GUI\n@Swing\n@Layout(FlowLayout.class)\n")
+                .append("public class ").append(name).append(" extends JPanel {\n");
+    }
+
+    private int group(StringBuilder src, String name, int index, int id) {
+        src.append("    @Swing(").append(id).append(") @Option(target = \"$this\")");
+        if (index % 2 == 0) {
+            src.append(" @Layout(FlowLayout.class)");
+        } else {
+            src.append(" @Layout(value = GridLayout.class, rows = 0, columns = 4)");
+        }
+        if (marginEvery > 0 && index % marginEvery == 0) {
+            src.append(" @Margin(value = TitledBorder.class, title = \"").append(name).append("\")");
+        }
+        src.append("\n    private JPanel ").append(name).append(";\n");
+        return id + 1;
+    }
+
+    // returns the field name if the leaf is a button
+    private String leaf(StringBuilder src, String name, String target, int index, int id) {
+        src.append("    @Swing(").append(id).append(") @Option(target = \"").append(target)
+           .append("\", text = \"").append(name).append("\")");
+        switch (index % 3) {
+            case 0:
+                src.append(" private JButton ").append(name).append(";\n");
+                return name;
+            case 1:
+                src.append(" private JLabel ").append(name).append(";\n");
+                return null;
+            default:
+                src.append(" private JTextField ").append(name).append(";\n");
+                return null;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.proto4j.test.swing.case3; //@date 18.10.2026
+
+import io.github.proto4j.swing.annotation.*;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+
+@GUI
+@Swing
+@Layout(BorderLayout.class)
+public class LazyGUI extends JPanel {
+
+    @Swing
+    @Option(target = "$this")
+    @Position(constraints = BorderLayout.CENTER)
+    private JTabbedPane tabs;
+
+    @Swing
+    @Option(target = "tabs", title = "First", text = "first")
+    private JLabel first;
+
+    @Swing
+    @Lazy
+    @Option(target = "tabs", title = "Second", init = "initSecond")
+    @Layout(FlowLayout.class)
+    private JPanel second;
+
+    @Swing
+    @Option(target = "second", text = "Press")
+    private JButton button;
+
+    @Swing
+    @Lazy
+    @Option(target = "tabs", title = "Third", init = "initThird")
+    private JButton third;
+
+    private int secondInits;
+    private int thirdInits;
+    private int clicks;
+
+    private void initSecond() {
+        secondInits++;
+    }
+
+    private void initThird() {
+        thirdInits++;
+    }
+
+    @ActionHandler({"third"})
+    private void onThird(ActionEvent event) {
+        clicks++;
+    }
+
+    public JTabbedPane getTabs() {
+        return tabs;
+    }
+
+    public JPanel getSecond() {
+        return second;
+    }
+
+    public JButton getButton() {
+        return button;
+    }
+
+    public JButton getThird() {
+        return third;
+    }
+
+    public int getSecondInits() {
+        return secondInits;
+    }
+
+    public int getThirdInits() {
+        return thirdInits;
+    }
+
+    public int getClicks() {
+        return clicks;
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.proto4j.test.swing.case4; //@date 18.10.2026
+
+import io.github.proto4j.swing.annotation.*;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@GUI
+@Swing
+@Layout(FlowLayout.class)
+public class CoalescingGUI extends JPanel {
+
+    @Swing(1)
+    @Option(target = "$this", text = "coalesced")
+    private JButton coalesced;
+
+    @Swing(2)
+    @Option(target = "$this", text = "first")
+    private JButton first;
+
+    @Swing(3)
+    @Option(target = "$this", text = "debounced")
+    private JButton debounced;
+
+    @Swing(4)
+    @Option(target = "$this", text = "throttled")
+    private JButton throttled;
+
+    // the action commands of all calls; "!" marks calls outside the EDT
+    public final List<String> coalescedCalls = new CopyOnWriteArrayList<>();
+    public final List<String> firstCalls     = new CopyOnWriteArrayList<>();
+    public final List<String> debouncedCalls = new CopyOnWriteArrayList<>();
+    public final List<String> throttledCalls = new CopyOnWriteArrayList<>();
+
+    @ActionHandler(value = "coalesced", coalesce = true)
+    private void onCoalesced(ActionEvent event) {
+        coalescedCalls.add(record(event));
+    }
+
+    @ActionHandler(value = "first", coalesce = true, latestOnly = false)
+    private void onFirst(ActionEvent event) {
+        firstCalls.add(record(event));
+    }
+
+    @ActionHandler(value = "debounced", debounceMillis = 100)
+    private void onDebounced(ActionEvent event) {
+        debouncedCalls.add(record(event));
+    }
+
+    @ActionHandler(value = "throttled", throttleMillis = 200)
+    private void onThrottled(ActionEvent event) {
+        throttledCalls.add(record(event));
+    }
+
+    private static String record(ActionEvent event) {
+        return (SwingUtilities.isEventDispatchThread() ? "" : "!") + event.getActionCommand();
+    }
+
+    public JButton getCoalesced() {
+        return coalesced;
+    }
+
+    public JButton getFirst() {
+        return first;
+    }
+
+    public JButton getDebounced() {
+        return debounced;
+    }
+
+    public JButton getThrottled() {
+        return throttled;
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.proto4j.test.swing.case5; //@date 18.10.2026
+
+import io.github.proto4j.swing.annotation.*;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@GUI
+@Swing
+@Layout(FlowLayout.class)
+public class AsyncGUI extends JPanel {
+
+    @Swing(1)
+    @Option(target = "$this", text = "load")
+    private JButton load;
+
+    @Swing(2)
+    @Option(target = "$this", text = "fail")
+    private JButton fail;
+
+    @Swing(3)
+    @Option(target = "$this", text = "limited")
+    private JButton limited;
+
+    @Swing(4)
+    @Option(target = "$this", text = "latest")
+    private JButton latest;
+
+    // the values passed to the callbacks; "!" marks calls outside the EDT
+    public final List<String> loaded  = new CopyOnWriteArrayList<>();
+    public final List<String> failed  = new CopyOnWriteArrayList<>();
+    public final List<String> results = new CopyOnWriteArrayList<>();
+
+    public final AtomicInteger running     = new AtomicInteger();
+    public final AtomicInteger maxRunning  = new AtomicInteger();
+    public final AtomicInteger completed   = new AtomicInteger();
+    public final AtomicInteger interrupted = new AtomicInteger();
+
+    @ActionHandler(value = "load", async = true, callback = "onLoaded")
+    private String load(ActionEvent event) {
+        return SwingUtilities.isEventDispatchThread() ? "edt" : event.getActionCommand();
+    }
+
+    private void onLoaded(String result) {
+        loaded.add(edt() + result);
+    }
+
+    @ActionHandler(value = "fail", async = true, callback = "onFailed")
+    private String fail(ActionEvent event) {
+        throw new IllegalStateException("failed " + event.getActionCommand());
+    }
+
+    private void onFailed(String result, Throwable error) {
+        failed.add(edt() + result + ":" + error.getMessage());
+    }
+
+    @ActionHandler(value = "limited", async = true, maxConcurrency = 2)
+    private void limited(ActionEvent event) throws InterruptedException {
+        int current = running.incrementAndGet();
+        maxRunning.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(100);
+        } finally {
+            running.decrementAndGet();
+            completed.incrementAndGet();
+        }
+    }
+
+    @ActionHandler(value = "latest", async = true, cancelPrevious = true, callback = "onResult")
+    private String latest(ActionEvent event) {
+        try {
+            Thread.sleep(300);
+        } catch (InterruptedException e) {
+            interrupted.incrementAndGet();
+        }
+        return event.getActionCommand();
+    }
+
+    private void onResult(String result) {
+        results.add(edt() + result);
+    }
+
+    private static String edt() {
+        return SwingUtilities.isEventDispatchThread() ? "" : "!";
+    }
+
+    public JButton getLoad() {
+        return load;
+    }
+
+    public JButton getFail() {
+        return fail;
+    }
+
+    public JButton getLimited() {
+        return limited;
+    }
+
+    public JButton getLatest() {
+        return latest;
+    }
+}
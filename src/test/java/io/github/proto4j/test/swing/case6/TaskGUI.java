@@ -0,0 +1,20 @@
+package io.github.proto4j.test.swing.case6; //@date 18.10.2026
+
+import io.github.proto4j.swing.annotation.*;
+
+import javax.swing.*;
+import java.awt.*;
+
+@GUI
+@Swing
+@Layout(FlowLayout.class)
+public class TaskGUI extends JPanel {
+
+    @Swing
+    @Option(target = "$this", text = "0")
+    private JLabel progress;
+
+    public JLabel getProgress() {
+        return progress;
+    }
+}
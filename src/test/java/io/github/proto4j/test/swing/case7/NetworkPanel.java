@@ -0,0 +1,24 @@
+package io.github.proto4j.test.swing.case7; //@date 18.10.2026
+
+import io.github.proto4j.swing.annotation.*;
+
+import javax.swing.*;
+import java.awt.*;
+
+@GUI
+@Swing
+@Layout(FlowLayout.class)
+public class NetworkPanel extends JPanel {
+
+    @Swing(1)
+    @Option(target = "$this")
+    private JTextField proxyHost;
+
+    @Swing(2)
+    @Option(target = "$this")
+    private JTextField proxyPort;
+
+    public JTextField getProxyHost() {
+        return proxyHost;
+    }
+}
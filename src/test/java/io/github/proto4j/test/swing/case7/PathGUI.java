@@ -0,0 +1,21 @@
+package io.github.proto4j.test.swing.case7; //@date 18.10.2026
+
+import io.github.proto4j.swing.annotation.*;
+
+import javax.swing.*;
+import java.awt.*;
+
+@GUI
+@Swing
+@Layout(FlowLayout.class)
+public class PathGUI extends JPanel {
+
+    @Swing(1)
+    @Option(target = "$this", text = "Settings")
+    private JLabel title;
+
+    @Swing(2)
+    @Nested
+    @Option(target = "$this")
+    private SettingsPanel settings;
+}
@@ -0,0 +1,22 @@
+package io.github.proto4j.test.swing.case7; //@date 18.10.2026
+
+import io.github.proto4j.swing.annotation.*;
+
+import javax.swing.*;
+import java.awt.*;
+
+@GUI
+@Swing
+@Layout(FlowLayout.class)
+public class SettingsPanel extends JPanel {
+
+    @Swing(1)
+    @Nested
+    @Option(target = "$this")
+    private NetworkPanel network;
+
+    // shares the prefix "network" without being below it
+    @Swing(2)
+    @Option(target = "$this")
+    private JTextField networkName;
+}
@@ -0,0 +1,41 @@
+package io.github.proto4j.test.swing.case8; //@date 18.10.2026
+
+import io.github.proto4j.swing.annotation.*;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.Objects;
+
+@GUI
+@Swing
+@Layout(FlowLayout.class)
+public class LaterGUI extends JPanel {
+
+    @Swing
+    @Option(target = "$this", text = "later")
+    private JLabel label;
+
+    private final String  name;
+    private final boolean createdOnEDT;
+
+    public LaterGUI(String name) {
+        if (Objects.requireNonNull(name).isEmpty()) {
+            throw new IllegalArgumentException("Empty name");
+        }
+        this.name         = name;
+        this.createdOnEDT = SwingUtilities.isEventDispatchThread();
+    }
+
+    public JLabel getLabel() {
+        return label;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public boolean isCreatedOnEDT() {
+        return createdOnEDT;
+    }
+}